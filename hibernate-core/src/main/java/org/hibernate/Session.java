@@ -476,6 +476,43 @@ public interface Session extends SharedSessionContract, EntityManager {
 	@Deprecated( since = "6.0" )
 	void replicate(String entityName, Object object, ReplicationMode replicationMode) ;
 
+	/**
+	 * Insert the state of the given instance, or update the existing row with
+	 * the same identifier, using a single statement per table, as supported by
+	 * the {@linkplain org.hibernate.dialect.Dialect#supportsUpsert() dialect},
+	 * instead of selecting the row first, as {@link #merge(Object)} does.
+	 * <p>
+	 * The instance does not become associated with the session, and the
+	 * operation does not cascade.  The statement is executed by the next
+	 * flush, after the insertions and updates of the instances associated
+	 * with the session, and fires the {@code pre-upsert} and {@code post-upsert}
+	 * events.
+	 * <p>
+	 * The version of a versioned instance is incremented, or seeded if it is
+	 * unsaved, and an existing row is only updated if it has the previous
+	 * version, so that the flush fails with a {@link StaleObjectStateException}
+	 * otherwise.
+	 *
+	 * @param object a transient or detached instance with an assigned identifier
+	 *
+	 * @throws NonUniqueObjectException if an instance with the same identifier
+	 * is associated with the session
+	 * @throws UnsupportedOperationException if the dialect does not support
+	 * upsert statements
+	 */
+	void upsert(Object object);
+
+	/**
+	 * Insert the state of the given instance, or update the existing row with
+	 * the same identifier.
+	 *
+	 * @param entityName the entity name
+	 * @param object a transient or detached instance with an assigned identifier
+	 *
+	 * @see #upsert(Object)
+	 */
+	void upsert(String entityName, Object object);
+
 	/**
 	 * Persist the given transient instance, first assigning a generated identifier.
 	 * (Or using the current value of the identifier property if the {@code assigned}
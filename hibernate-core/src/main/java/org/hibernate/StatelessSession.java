@@ -6,6 +6,9 @@
  */
 package org.hibernate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A command-oriented API for performing bulk operations against a database.
  * <p>
@@ -62,6 +65,34 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Insert a row, or update the existing row with the same identifier,
+	 * using a single statement per table, as supported by the
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsUpsert() dialect}.
+	 * The version of a versioned instance is incremented, or seeded if it
+	 * is unsaved, and an existing row is only updated if it has the previous
+	 * version.  The statement is added to the current JDBC batch when batching
+	 * is enabled, unless the entity is versioned.
+	 *
+	 * @param entity a transient or detached instance with an assigned identifier
+	 *
+	 * @throws StaleObjectStateException if the existing row of a versioned
+	 * instance has another version
+	 * @throws UnsupportedOperationException if the dialect does not support
+	 * upsert statements
+	 */
+	void upsert(Object entity);
+
+	/**
+	 * Insert a row, or update the existing row with the same identifier.
+	 *
+	 * @param entityName The entityName for the entity to be upserted
+	 * @param entity a transient or detached instance with an assigned identifier
+	 *
+	 * @see #upsert(Object)
+	 */
+	void upsert(String entityName, Object entity);
+
 	/**
 	 * Delete a row.
 	 *
@@ -119,6 +150,83 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Insert multiple rows, in the order of the given list.
+	 * <p>
+	 * The inserts are executed in JDBC batches of the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+	 * configured batch size}, or in batches of at most 50 statements if
+	 * batching is not configured, and have all been executed when this
+	 * method returns.
+	 * The identifiers of the inserted rows are assigned to the entities.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @implSpec The default implementation simply {@linkplain #insert(Object) inserts}
+	 * the entities one at a time.
+	 */
+	default void insertMultiple(List<?> entities) {
+		for ( Object entity : entities ) {
+			insert( entity );
+		}
+	}
+
+	/**
+	 * Update multiple rows, in the order of the given list.
+	 * <p>
+	 * The updates are executed in JDBC batches, as for
+	 * {@link #insertMultiple(List)}, and have all been executed when
+	 * this method returns.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @implSpec The default implementation simply {@linkplain #update(Object) updates}
+	 * the entities one at a time.
+	 */
+	default void updateMultiple(List<?> entities) {
+		for ( Object entity : entities ) {
+			update( entity );
+		}
+	}
+
+	/**
+	 * Delete multiple rows, in the order of the given list.
+	 * <p>
+	 * The deletes are executed in JDBC batches, as for
+	 * {@link #insertMultiple(List)}, and have all been executed when
+	 * this method returns.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @implSpec The default implementation simply {@linkplain #delete(Object) deletes}
+	 * the entities one at a time.
+	 */
+	default void deleteMultiple(List<?> entities) {
+		for ( Object entity : entities ) {
+			delete( entity );
+		}
+	}
+
+	/**
+	 * Retrieve multiple rows, using as few queries as possible.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return detached entity instances, in the order of the given ids,
+	 * with {@code null} in place of each entity which does not exist
+	 *
+	 * @implSpec The default implementation simply {@linkplain #get(Class, Object) retrieves}
+	 * the entities one at a time.
+	 */
+	default <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		final List<T> entities = new ArrayList<>( ids.size() );
+		for ( Object id : ids ) {
+			entities.add( get( entityClass, id ) );
+		}
+		return entities;
+	}
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
@@ -6,8 +6,12 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -65,30 +69,98 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 	@Override
 	public void execute() throws HibernateException {
+		// Don't need to lock the cache here, since if someone
+		// else inserted the same pk first, the insert would fail
+
+		if ( beforeInsert() ) {
+			afterInsert( getPersister().insert( getState(), getInstance(), getSession() ) );
+		}
+		completeInsert();
+	}
+
+	/**
+	 * Perform the given delayed insertions, all of which are of the same
+	 * {@linkplain EntityPersister#canBatchIdentityInserts() batchable}
+	 * entity, using a single JDBC batch.
+	 *
+	 * @see #isBatchable()
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		int count = 0;
+		final EntityIdentityInsertAction[] inserted = new EntityIdentityInsertAction[actions.size()];
+		for ( EntityIdentityInsertAction action : actions ) {
+			if ( action.beforeInsert() ) {
+				inserted[count++] = action;
+			}
+		}
+
+		if ( count > 0 ) {
+			final Object[][] states = new Object[count][];
+			final Object[] instances = new Object[count];
+			for ( int i = 0; i < count; i++ ) {
+				states[i] = inserted[i].getState();
+				instances[i] = inserted[i].getInstance();
+			}
+			final Object[] generatedIds = inserted[0].getPersister().insertBatch(
+					states,
+					instances,
+					inserted[0].getSession()
+			);
+			for ( int i = 0; i < count; i++ ) {
+				inserted[i].afterInsert( generatedIds[i] );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeInsert();
+		}
+	}
+
+	/**
+	 * Whether this insertion may be executed as part of a batch, using
+	 * {@link #executeBatch}.  Only delayed insertions may be batched.
+	 */
+	public boolean isBatchable() {
+		return isDelayed && getPersister().canBatchIdentityInserts();
+	}
+
+	/**
+	 * Whether the state to be inserted refers to one of the given entity
+	 * instances, in which case this insertion cannot be executed in the same
+	 * batch as the insertions of those instances.
+	 */
+	public boolean references(Set<Object> instances) {
+		return ForeignKeys.references( getPersister(), getState(), instances, getSession() );
+	}
+
+	/**
+	 * @return {@code true} if the insertion was not vetoed
+	 */
+	private boolean beforeInsert() {
 		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
+		return !isVeto();
+	}
 
+	private void afterInsert(Object generatedId) {
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
 		final Object instance = getInstance();
 
-		setVeto( preInsert() );
-
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
-
-		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
 		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey( getPersister(), generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, getInstance() );
+	}
+
+	private void completeInsert() {
 
 
 		//TODO: this bit actually has to be called after all cascades!
@@ -101,7 +173,7 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
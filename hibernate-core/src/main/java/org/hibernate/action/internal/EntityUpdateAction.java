@@ -12,6 +12,7 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.EntityEntry;
@@ -199,6 +200,8 @@ public class EntityUpdateAction extends EntityAction {
 			// have the entity entry doAfterTransactionCompletion post-update processing, passing it the
 			// update state and the new version (if one).
 			entry.postUpdate( instance, state, nextVersion );
+			// the state is still needed below, so it is not compacted in place
+			CompactSnapshots.compactLoadedState( entry, session );
 		}
 
 		final StatisticsImplementor statistics = factory.getStatistics();
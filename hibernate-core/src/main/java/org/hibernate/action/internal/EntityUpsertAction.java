@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.PostUpsertEvent;
+import org.hibernate.event.spi.PostUpsertEventListener;
+import org.hibernate.event.spi.PreUpsertEvent;
+import org.hibernate.event.spi.PreUpsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The action for inserting the row of an instance which is not associated
+ * with the session, or updating the existing row with the same identifier.
+ *
+ * @see org.hibernate.Session#upsert(Object)
+ */
+public class EntityUpsertAction extends EntityAction {
+	private final Object[] state;
+	private final Object version;
+
+	private SoftLock lock;
+
+	/**
+	 * Constructs an EntityUpsertAction.
+	 *
+	 * @param id The entity identifier
+	 * @param state The state to insert or update, including the next version
+	 * @param version The version the existing row is expected to have
+	 * @param instance The entity instance
+	 * @param persister The entity persister
+	 * @param session The session
+	 */
+	public EntityUpsertAction(
+			final Object id,
+			final Object[] state,
+			final Object version,
+			final Object instance,
+			final EntityPersister persister,
+			final SharedSessionContractImplementor session) {
+		super( session, id, instance, persister );
+		this.state = state;
+		this.version = version;
+	}
+
+	public Object[] getState() {
+		return state;
+	}
+
+	public Object getVersion() {
+		return version;
+	}
+
+	@Override
+	public void execute() throws HibernateException {
+		final Object id = getId();
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+
+		final boolean veto = preUpsert();
+
+		// the row is not associated with the session, so the cached
+		// entry is locked, and removed rather than updated
+		final Object ck;
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+			lock = cache.lockItem( session, ck, version );
+		}
+		else {
+			ck = null;
+		}
+
+		if ( !veto ) {
+			persister.upsert( id, state, version, getInstance(), session );
+		}
+
+		if ( persister.canWriteToCache() ) {
+			persister.getCacheAccessStrategy().remove( session, ck );
+		}
+
+		postUpsert();
+	}
+
+	protected boolean preUpsert() {
+		boolean veto = false;
+		final EventListenerGroup<PreUpsertEventListener> listenerGroup = getFastSessionServices().eventListenerGroup_PRE_UPSERT;
+		if ( listenerGroup.isEmpty() ) {
+			return veto;
+		}
+		final PreUpsertEvent event = new PreUpsertEvent( getInstance(), getId(), state, getPersister(), eventSource() );
+		for ( PreUpsertEventListener listener : listenerGroup.listeners() ) {
+			veto |= listener.onPreUpsert( event );
+		}
+		return veto;
+	}
+
+	protected void postUpsert() {
+		getFastSessionServices()
+				.eventListenerGroup_POST_UPSERT
+				.fireLazyEventOnEachListener( this::newPostUpsertEvent, PostUpsertEventListener::onPostUpsert );
+	}
+
+	PostUpsertEvent newPostUpsertEvent() {
+		return new PostUpsertEvent( getInstance(), getId(), state, getPersister(), eventSource() );
+	}
+
+	@Override
+	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) throws HibernateException {
+		final EntityPersister persister = getPersister();
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey(
+					getId(),
+					persister,
+					session.getFactory(),
+					session.getTenantIdentifier()
+			);
+			cache.unlockItem( session, ck, lock );
+		}
+	}
+
+	@Override
+	protected boolean hasPostCommitEventListeners() {
+		return false;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that the snapshot of the loaded state of the annotated entity,
+ * kept by the session for dirty checking, holds a digest of each large
+ * mutable basic value, such as a {@code byte[]} or a JSON document, rather
+ * than a copy of the value. Immutable values are always shared with the
+ * entity, and never copied.
+ * <p>
+ * This reduces the memory held by sessions which read many such entities,
+ * at the cost of hashing the values when the entity is loaded or updated,
+ * and when it is dirty checked. When an update or deletion of the entity
+ * is scheduled, the digested values are read again from the database, so
+ * that the previous state is available to optimistic locking, listeners,
+ * and callbacks.
+ * <p>
+ * The snapshot is not compacted in a session with an
+ * {@link org.hibernate.Interceptor}, nor when a
+ * {@link org.hibernate.CustomEntityDirtinessStrategy} is configured, since
+ * either may be handed the previous state of the entity.
+ *
+ * @since 6.0
+ */
+@Target( TYPE )
+@Retention( RUNTIME )
+public @interface CompactSnapshot {
+}
@@ -160,6 +160,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * The largest size to which the batch size of a role without an explicit
+	 * batch size may grow, or {@code 0} if batch sizes are fixed.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The smallest size to which an adaptive batch size may shrink.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 1;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
@@ -176,6 +195,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * The number of threads used to check named queries during startup.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default int getNamedQueryStartupCheckingParallelism() {
+		return 1;
+	}
+
 	boolean isSecondLevelCacheEnabled();
 
 	boolean isQueryCacheEnabled();
@@ -198,12 +226,49 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * The maximum number of rows inserted by a single batched insert statement.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INSERT_ROWS_PER_STATEMENT
+	 */
+	default int getJdbcInsertRowsPerStatement() {
+		return 1;
+	}
+
+	/**
+	 * Whether inserts of entities with an {@code IDENTITY} identifier may
+	 * be delayed until flush and executed in JDBC batches.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of prepared statements a session keeps open for reuse.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * Whether forward-only results read ahead on a background thread.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#JDBC_READ_AHEAD
+	 */
+	default boolean isJdbcReadAheadEnabled() {
+		return false;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -231,6 +296,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isReleaseResourcesOnCloseEnabled();
 
+	/**
+	 * Whether the persistence contexts of closed sessions are reset and reused.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#POOL_PERSISTENCE_CONTEXTS
+	 */
+	default boolean isPersistenceContextPoolingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of managed entities at or above which a flush dirty checks
+	 * entities in parallel, or {@code 0} if it never does.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
 	TimeZone getJdbcTimeZone();
 
 	/**
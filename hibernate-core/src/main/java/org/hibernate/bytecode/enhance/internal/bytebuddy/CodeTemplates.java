@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.hibernate.Hibernate;
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.DirtyNotifier;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
@@ -66,12 +67,22 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
-			$$_hibernate_tracker.add( name );
+			if ( $$_hibernate_tracker.isEmpty() ) {
+				$$_hibernate_tracker.add( name );
+				// the first change since the tracker was cleared
+				if ( !$$_hibernate_tracker.isEmpty() ) {
+					DirtyNotifier.notifyDirty( self );
+				}
+			}
+			else {
+				$$_hibernate_tracker.add( name );
+			}
 		}
 	}
 
@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.tracker;
+
+import org.hibernate.engine.internal.AbstractEntityEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+
+/**
+ * Called by the enhanced {@code $$_hibernate_trackChange} method of entities implementing
+ * {@link org.hibernate.engine.spi.SelfDirtinessNotifier} when their tracker records a first change
+ */
+public final class DirtyNotifier {
+
+	private DirtyNotifier() {
+	}
+
+	public static void notifyDirty(Object entity) {
+		if ( entity instanceof ManagedEntity ) {
+			final EntityEntry entry = ( (ManagedEntity) entity ).$$_hibernate_getEntityEntry();
+			// immutable entities have no dirty state to track
+			if ( entry instanceof AbstractEntityEntry && entry.getPersister().isMutable() ) {
+				final PersistenceContext persistenceContext = ( (AbstractEntityEntry) entry ).getPersistenceContext();
+				if ( persistenceContext != null ) {
+					persistenceContext.markEntityDirty( entity );
+				}
+			}
+		}
+	}
+}
@@ -903,6 +903,33 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the largest batch size to which batch fetching of an entity or
+	 * collection role without an explicit {@link org.hibernate.annotations.BatchSize}
+	 * may grow.  When greater than {@code 1}, every such role is batch fetched,
+	 * starting with {@value #DEFAULT_BATCH_FETCH_SIZE} if set, or otherwise with
+	 * {@value #ADAPTIVE_BATCH_FETCH_MIN_SIZE}.  The batch size of a role is doubled
+	 * when its lazy initializations keep finding more keys waiting to be fetched
+	 * than a batch holds, and is halved when its batches keep finding far fewer.
+	 * <p>
+	 * By default, {@code 0}, meaning batch sizes are fixed.
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 *
+	 * @since 6.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.batch_fetch.adaptive_max_size";
+
+	/**
+	 * Specifies the smallest batch size to which adaptive batch fetching may
+	 * shrink, {@code 1} by default.
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 6.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.batch_fetch.adaptive_min_size";
+
 	/**
 	 * When enabled, specifies that JDBC scrollable {@code ResultSet}s may be used.
 	 * This property is only necessary when there is no {@code ConnectionProvider},
@@ -934,6 +961,49 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of {@link java.sql.PreparedStatement}s kept open for
+	 * reuse by a session, for as long as the session holds its JDBC connection.
+	 * Only statements prepared without any special options, such as scrollable
+	 * result sets or generated keys, are reused. A nonzero value enables the
+	 * cache, which is useful when neither the connection pool nor the JDBC
+	 * driver caches statements.
+	 * <p>
+	 * The cached statements are closed whenever the session releases its
+	 * connection, as determined by {@link #CONNECTION_HANDLING}.  So they are
+	 * reused across transactions only when the connection is held until the
+	 * session is closed; with the usual release after each transaction, they
+	 * are only reused within a transaction.
+	 * <p>
+	 * By default, statements are closed as soon as they have been executed.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPrepareStatementCacheHitCount()
+	 *
+	 * @since 6.0
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
+	/**
+	 * When enabled, forward-only {@link org.hibernate.ScrollableResults} and
+	 * query result streams read the JDBC values of the next block of rows, one
+	 * {@linkplain #STATEMENT_FETCH_SIZE fetch size} at a time, on a background
+	 * thread while the current block is being processed.  Entities are still
+	 * loaded on the thread of the session.  At most two blocks are buffered.
+	 * The background threads form a pool bounded by the number of processors;
+	 * when it is exhausted, rows are read on the thread of the session.
+	 * <p>
+	 * This is a hard restriction: the background thread advances the
+	 * {@link java.sql.ResultSet} and extracts its values, with the session as
+	 * the {@link org.hibernate.type.descriptor.WrapperOptions}, while the
+	 * thread of the session may use the same connection, for example to
+	 * initialize a lazy association.  The JDBC driver must therefore support
+	 * the concurrent use of a connection by several threads, which most do
+	 * not, so this is disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String JDBC_READ_AHEAD = "hibernate.jdbc.read_ahead";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -942,6 +1012,38 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * The maximum number of rows inserted by a single batched {@code insert}
+	 * statement.  A value greater than 1 merges the batched single-row inserts
+	 * of an entity into statements of the form
+	 * {@code insert into t (...) values (...), (...), ...}, for dialects which
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 * support} them, and as many of these statements as the
+	 * {@linkplain #STATEMENT_BATCH_SIZE batch size} are executed as one JDBC batch.
+	 * <p>
+	 * Only applies when {@link #STATEMENT_BATCH_SIZE batching} is enabled, and
+	 * to entities whose identifier is assigned before the insert.  Defaults to 1.
+	 *
+	 * @since 6.0
+	 */
+	String INSERT_ROWS_PER_STATEMENT = "hibernate.jdbc.insert_rows_per_statement";
+
+	/**
+	 * When enabled, entities with an {@code IDENTITY} identifier which are
+	 * made persistent using {@code persist()} are inserted at flush time,
+	 * in JDBC batches, instead of immediately.  The generated identifiers
+	 * are read from {@link java.sql.Statement#getGeneratedKeys()} after
+	 * the batch is executed, and assigned to the entities in order.
+	 * <p>
+	 * Requires a JDBC driver which returns the generated keys of every row
+	 * of an executed batch, {@link #USE_GET_GENERATED_KEYS getGeneratedKeys}
+	 * support, and {@link #STATEMENT_BATCH_SIZE batching}.  Defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * Specifies a custom {@link org.hibernate.engine.jdbc.batch.spi.BatchBuilder}.
 	 */
@@ -1060,6 +1162,23 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to check named queries during startup, when
+	 * {@value #QUERY_STARTUP_CHECKING} is enabled. Named HQL queries are checked
+	 * by interpreting them into the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, and, once the session factory is ready, the select
+	 * query plans of the named HQL queries are prepared and their SQL translated
+	 * into the cache as well, so that their first use does not pay the cost of
+	 * parsing and translating them. A value less than {@code 1} means one thread
+	 * per available processor.
+	 * <p>
+	 * By default, named queries are checked sequentially.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Enable ordering of update statements by primary key value.
 	 *
@@ -1392,6 +1511,27 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * When enabled, specifies that string and integer literals occurring in
+	 * comparisons and {@code in} lists of HQL queries should be replaced by
+	 * parameters before the query is interpreted, so that queries differing
+	 * only in the values of such literals share a single entry in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} and query plan cache.
+	 * <p>
+	 * A literal is only replaced if the type inferred for the parameter is the
+	 * type of the literal, or a wider numeric type, so that the translation of
+	 * the query is not affected. Queries with replaced literals report the
+	 * normalized query string from {@link org.hibernate.query.Query#getQueryString()},
+	 * and expose the synthetic parameters from
+	 * {@link org.hibernate.query.Query#getParameterMetadata()}.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS = "hibernate.query.plan_cache_parameterize_literals";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -2854,4 +2994,38 @@ public interface AvailableSettings {
 	 * By default, the persistent context is not discarded, as per the JPA specification.
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
+
+	/**
+	 * When enabled, the internal structures of the persistence context and
+	 * action queue of a {@link org.hibernate.Session} are not discarded when
+	 * the session is closed, but reset and reused by the next session opened
+	 * by the same thread, keeping the capacity of their internal arrays up to
+	 * a bound.  This reduces the cost of opening a session, and the allocation
+	 * rate, of applications which open many short sessions.
+	 * <p>
+	 * The application must not use a session after closing it.  Sessions which
+	 * share the transaction coordinator of another session, and sessions closed
+	 * while a transaction is still active, are never pooled.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String POOL_PERSISTENCE_CONTEXTS = "hibernate.session.pool_persistence_contexts";
+
+	/**
+	 * The number of managed entities at or above which a flush compares the
+	 * state of entities with their loaded state on the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}, rather than on the flushing
+	 * thread alone.  Only entities with basic attributes are compared in
+	 * parallel, and only when neither an {@link org.hibernate.Interceptor}, a
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy}, nor a custom
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener} is involved.
+	 * Updates are scheduled in the same order as by a sequential flush.
+	 * <p>
+	 * By default, {@code 0}, meaning dirty checking is always sequential.
+	 *
+	 * @since 6.0
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
 }
@@ -682,6 +682,11 @@ public class CockroachDialect extends Dialect {
 		return getVersion().isSameOrAfter( 20, 1 );
 	}
 
+	@Override
+	public boolean supportsStandardArrays() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return getVersion().isSameOrAfter( 20, 1 );
@@ -2408,6 +2408,135 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support a single statement which inserts a row, or
+	 * updates the existing row with the same primary key?
+	 *
+	 * @return {@code true} if {@link #getUpsertString} renders such a statement
+	 *
+	 * @see org.hibernate.Session#upsert(Object)
+	 */
+	public boolean supportsUpsert() {
+		return false;
+	}
+
+	/**
+	 * Render a statement which inserts a row into the given table, or updates
+	 * the row with the same primary key if there is one.  The JDBC parameters
+	 * of the statement are the parameters of the value expressions, in the
+	 * order of the given columns, exactly as in the corresponding
+	 * {@code insert into table (columns) values (values)}.
+	 *
+	 * @param tableName The name of the table
+	 * @param keyColumns The primary key columns, which also occur in {@code columns}
+	 * @param columns The columns of the inserted row
+	 * @param values The value expression of each column, usually {@code ?}
+	 * @param updatedColumns The non-key columns which are updated if the row exists
+	 *
+	 * @return The statement
+	 *
+	 * @throws UnsupportedOperationException if the dialect does not support such a
+	 * statement, or not for the given columns
+	 */
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support upsert statements" );
+	}
+
+	/**
+	 * Render a statement which inserts a row into the given table, or updates
+	 * the row with the same primary key if its version is the expected one.
+	 * The JDBC parameters of the statement are the parameters of the value
+	 * expressions, as for {@link #getUpsertString(String, String[], String[], String[], String[])},
+	 * followed by one parameter for the expected version.  The statement
+	 * affects no row when the existing row has another version.
+	 *
+	 * @param versionColumn The version column, which also occurs in {@code columns},
+	 * or {@code null} if the row is not versioned
+	 *
+	 * @return The statement
+	 *
+	 * @throws UnsupportedOperationException if the dialect does not support such a
+	 * statement, or not for the given columns
+	 */
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns,
+			String versionColumn) {
+		if ( versionColumn == null ) {
+			return getUpsertString( tableName, keyColumns, columns, values, updatedColumns );
+		}
+		throw new UnsupportedOperationException(
+				getClass().getName() + " does not support upsert statements for versioned rows"
+		);
+	}
+
+	/**
+	 * Render a standard SQL {@code merge} statement for {@link #getUpsertString},
+	 * using the given derived table for the source row
+	 *
+	 * @param mergeInto The {@code merge into} clause, with the alias {@code t} of the target table
+	 * @param sourceTable The derived table producing the source row, with the alias {@code s}
+	 * @param versionColumn The version column, which the existing row must match
+	 * to be updated, or {@code null}
+	 */
+	protected static String getMergeUpsertString(
+			String mergeInto,
+			String sourceTable,
+			String[] keyColumns,
+			String[] columns,
+			String[] updatedColumns,
+			String versionColumn) {
+		final StringBuilder sql = new StringBuilder( mergeInto.length() + sourceTable.length() + columns.length * 40 )
+				.append( mergeInto ).append( " using " ).append( sourceTable ).append( " on (" );
+		for ( int i = 0; i < keyColumns.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( " and " );
+			}
+			sql.append( "t." ).append( keyColumns[i] ).append( "=s." ).append( keyColumns[i] );
+		}
+		sql.append( ')' );
+		if ( updatedColumns.length > 0 ) {
+			sql.append( " when matched" );
+			if ( versionColumn != null ) {
+				sql.append( " and t." ).append( versionColumn ).append( "=?" );
+			}
+			sql.append( " then update set " );
+			for ( int i = 0; i < updatedColumns.length; i++ ) {
+				if ( i > 0 ) {
+					sql.append( ", " );
+				}
+				sql.append( "t." ).append( updatedColumns[i] ).append( "=s." ).append( updatedColumns[i] );
+			}
+		}
+		sql.append( " when not matched then insert " );
+		appendParenthesizedList( sql, "", columns );
+		sql.append( " values " );
+		return appendParenthesizedList( sql, "s.", columns ).toString();
+	}
+
+	/**
+	 * Append the given items, each with the given prefix, separated by commas
+	 * and enclosed in parentheses
+	 */
+	protected static StringBuilder appendParenthesizedList(StringBuilder sql, String prefix, String[] items) {
+		sql.append( '(' );
+		for ( int i = 0; i < items.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( prefix ).append( items[i] );
+		}
+		return sql.append( ')' );
+	}
+
 	/**
 	 * The name of the SQL function that transforms a string to
 	 * lowercase
@@ -3339,6 +3468,19 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect support binding a {@link java.sql.Array} created by
+	 * {@link java.sql.Connection#createArrayOf} to a parameter, and comparing
+	 * a value to the elements of such an array using {@code = any(?)}?
+	 * <p>
+	 * If so, batch loading renders the same SQL for any number of keys.
+	 *
+	 * @return {@code true} if arrays of basic values may be bound to parameters
+	 */
+	public boolean supportsStandardArrays() {
+		return false;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -596,6 +596,61 @@ public class H2Dialect extends Dialect {
 		return new H2IdentityColumnSupport();
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsStandardArrays() {
+		return getVersion().isSameOrAfter( 1, 4, 200 );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		return getUpsertString( tableName, keyColumns, columns, values, updatedColumns, null );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns,
+			String versionColumn) {
+		if ( updatedColumns.length != columns.length - keyColumns.length || versionColumn != null ) {
+			// merge ... key updates every column of an existing row, and
+			// has no condition, so use the standard merge to update only
+			// the updatable columns, and only a row of the expected version
+			final StringBuilder source = new StringBuilder( "(select " );
+			for ( int i = 0; i < columns.length; i++ ) {
+				if ( i > 0 ) {
+					source.append( ", " );
+				}
+				source.append( values[i] ).append( ' ' ).append( columns[i] );
+			}
+			source.append( ") s" );
+			return getMergeUpsertString(
+					"merge into " + tableName + " t",
+					source.toString(),
+					keyColumns,
+					columns,
+					updatedColumns,
+					versionColumn
+			);
+		}
+		final StringBuilder sql = new StringBuilder( "merge into " ).append( tableName ).append( ' ' );
+		appendParenthesizedList( sql, "", columns ).append( " key " );
+		appendParenthesizedList( sql, "", keyColumns ).append( " values " );
+		return appendParenthesizedList( sql, "", values ).toString();
+	}
+
 	@Override
 	public int registerResultSetOutParameter(CallableStatement statement, int position) throws SQLException {
 		return position;
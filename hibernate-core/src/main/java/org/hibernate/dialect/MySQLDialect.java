@@ -984,6 +984,34 @@ public class MySQLDialect extends Dialect {
 		return new MySQLIdentityColumnSupport();
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return true;
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		final StringBuilder sql = new StringBuilder( "insert into " ).append( tableName ).append( ' ' );
+		appendParenthesizedList( sql, "", columns ).append( " values " );
+		appendParenthesizedList( sql, "", values ).append( " on duplicate key update " );
+		if ( updatedColumns.length == 0 ) {
+			// a no-op assignment, since there is no 'do nothing'
+			return sql.append( keyColumns[0] ).append( '=' ).append( keyColumns[0] ).toString();
+		}
+		for ( int i = 0; i < updatedColumns.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( updatedColumns[i] ).append( "=values(" ).append( updatedColumns[i] ).append( ')' );
+		}
+		return sql.toString();
+	}
+
 	@Override
 	public boolean isJdbcLogWarningsEnabledByDefault() {
 		return false;
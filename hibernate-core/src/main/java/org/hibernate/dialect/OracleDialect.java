@@ -748,6 +748,50 @@ public class OracleDialect extends Dialect {
 				: new Oracle12cIdentityColumnSupport();
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return getVersion().isSameOrAfter( 9 );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		return getUpsertString( tableName, keyColumns, columns, values, updatedColumns, null );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns,
+			String versionColumn) {
+		if ( !supportsUpsert() ) {
+			return super.getUpsertString( tableName, keyColumns, columns, values, updatedColumns );
+		}
+		final StringBuilder source = new StringBuilder( "(select " );
+		for ( int i = 0; i < columns.length; i++ ) {
+			if ( i > 0 ) {
+				source.append( ", " );
+			}
+			source.append( values[i] ).append( ' ' ).append( columns[i] );
+		}
+		source.append( " from dual) s" );
+		return getMergeUpsertString(
+				"merge into " + tableName + " t",
+				source.toString(),
+				keyColumns,
+				columns,
+				updatedColumns,
+				versionColumn
+		);
+	}
+
 	@Override
 	public LimitHandler getLimitHandler() {
 		return limitHandler;
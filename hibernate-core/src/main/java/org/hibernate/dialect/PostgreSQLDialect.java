@@ -579,6 +579,52 @@ public class PostgreSQLDialect extends Dialect {
 		return "default values";
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return getVersion().isSameOrAfter( 9, 5 );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		return getUpsertString( tableName, keyColumns, columns, values, updatedColumns, null );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns,
+			String versionColumn) {
+		if ( !supportsUpsert() ) {
+			return super.getUpsertString( tableName, keyColumns, columns, values, updatedColumns );
+		}
+		final StringBuilder sql = new StringBuilder( "insert into " ).append( tableName ).append( " as t " );
+		appendParenthesizedList( sql, "", columns ).append( " values " );
+		appendParenthesizedList( sql, "", values ).append( " on conflict " );
+		appendParenthesizedList( sql, "", keyColumns );
+		if ( updatedColumns.length == 0 ) {
+			return sql.append( " do nothing" ).toString();
+		}
+		sql.append( " do update set " );
+		for ( int i = 0; i < updatedColumns.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( updatedColumns[i] ).append( "=excluded." ).append( updatedColumns[i] );
+		}
+		if ( versionColumn != null ) {
+			sql.append( " where t." ).append( versionColumn ).append( "=?" );
+		}
+		return sql.toString();
+	}
+
 	@Override
 	public String getCaseInsensitiveLike(){
 		return "ilike";
@@ -1016,6 +1062,11 @@ public class PostgreSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 9, 3 );
 	}
 
+	@Override
+	public boolean supportsStandardArrays() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		switch ( type ) {
@@ -341,6 +341,46 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return "default values";
 	}
 
+	@Override
+	public boolean supportsUpsert() {
+		return getVersion().isSameOrAfter( 10 );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns) {
+		return getUpsertString( tableName, keyColumns, columns, values, updatedColumns, null );
+	}
+
+	@Override
+	public String getUpsertString(
+			String tableName,
+			String[] keyColumns,
+			String[] columns,
+			String[] values,
+			String[] updatedColumns,
+			String versionColumn) {
+		if ( !supportsUpsert() ) {
+			return super.getUpsertString( tableName, keyColumns, columns, values, updatedColumns );
+		}
+		final StringBuilder source = new StringBuilder( "(values " );
+		appendParenthesizedList( source, "", values ).append( ") as s " );
+		appendParenthesizedList( source, "", columns );
+		// holdlock, so that concurrent merges of the same row do not both insert it
+		return getMergeUpsertString(
+				"merge into " + tableName + " with (holdlock) as t",
+				source.toString(),
+				keyColumns,
+				columns,
+				updatedColumns,
+				versionColumn
+		) + ";";
+	}
+
 	@Override
 	public LimitHandler getLimitHandler() {
 		if ( getVersion().isSameOrAfter( 11 ) ) {
@@ -10,14 +10,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.AbstractReturningDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 /**
  * Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
@@ -71,4 +76,90 @@ public class GetGeneratedKeysDelegate
 			}
 		}
 	}
+
+	/**
+	 * Perform the insert once for each of the given binders, as a single
+	 * JDBC batch, verify the row count of each insert, and read the generated
+	 * identifier values of the inserted rows from
+	 * {@link PreparedStatement#getGeneratedKeys()}.
+	 *
+	 * @param insertSQL The INSERT statement string
+	 * @param session The session in which we are operating
+	 * @param binders The param binders, one per row
+	 * @param expectation The expectation for the row count of each insert,
+	 * which must {@linkplain Expectation#canBeBatched() allow batching}
+	 *
+	 * @return The generated identifier values, in the order of the binders
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public Object[] performBatchInsert(
+			String insertSQL,
+			SharedSessionContractImplementor session,
+			Binder[] binders,
+			Expectation expectation) {
+		try {
+			final PreparedStatement insert = prepare( insertSQL, session );
+			try {
+				for ( Binder binder : binders ) {
+					binder.bindValues( insert );
+					insert.addBatch();
+				}
+				final JdbcObserver observer = session.getJdbcCoordinator()
+						.getJdbcSessionOwner()
+						.getJdbcSessionContext()
+						.getObserver();
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = insert.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					expectation.verifyOutcome( rowCounts[i], insert, i, insertSQL );
+				}
+				return extractGeneratedIdentities( insert, binders.length, session );
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSQL
+			);
+		}
+	}
+
+	private Object[] extractGeneratedIdentities(
+			PreparedStatement insert,
+			int rowCount,
+			SharedSessionContractImplementor session) throws SQLException {
+		final Object[] ids = new Object[rowCount];
+		final ResultSet rs = insert.getGeneratedKeys();
+		try {
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( !rs.next() ) {
+					throw new HibernateException(
+							"The database returned " + i + " natively generated identity values for a batch of "
+									+ rowCount + " inserts"
+					);
+				}
+				ids[i] = IdentifierGeneratorHelper.get(
+						rs,
+						persister.getRootTableKeyColumnNames()[0],
+						persister.getIdentifierType(),
+						dialect
+				);
+			}
+		}
+		finally {
+			session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, insert );
+		}
+		return ids;
+	}
 }
@@ -301,6 +301,9 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		}
 		else {
 			final int propertyIndex = ( (UniqueKeyLoadable) persister ).getPropertyIndex( propertyName );
+			if ( persistenceContext != null && CompactSnapshots.isDigest( loadedState[propertyIndex] ) ) {
+				CompactSnapshots.materializeLoadedState( this, persistenceContext.getSession() );
+			}
 			return loadedState[propertyIndex];
 		}
 	}
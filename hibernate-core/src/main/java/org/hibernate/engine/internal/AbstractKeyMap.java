@@ -0,0 +1,444 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * A map of values by the keys of the persistence context, such as
+ * {@link org.hibernate.engine.spi.EntityKey} and
+ * {@link org.hibernate.engine.spi.CollectionKey}.
+ * <p>
+ * The entries are partitioned, by entity hierarchy or by collection role,
+ * and each partition is an open-addressing hash table of the raw
+ * identifiers, with linear probing.  Since the type of the identifiers of a
+ * partition defines their equality and their hash code, a value may be
+ * looked up by partition and identifier, without creating a key.  The hash
+ * codes are stored along with the identifiers, so that most probes of
+ * non-matching slots do not compare identifiers, and removals do not rehash.
+ * <p>
+ * Not thread-safe.  Iterators fail fast on modification of the map.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public abstract class AbstractKeyMap<K, V> {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final HashMap<String, Partition<K, V>> partitions = new HashMap<>();
+	// most lookups in a row concern the same partition
+	private Partition<K, V> lastPartition;
+	private int size;
+	private int modCount;
+
+	private Map<K, V> mapView;
+
+	/**
+	 * The name of the partition of the given key
+	 */
+	protected abstract String partitionName(K key);
+
+	/**
+	 * The raw identifier of the given key
+	 */
+	protected abstract Object identifier(K key);
+
+	/**
+	 * The type of the identifiers of the partition of the given key
+	 */
+	protected abstract Type identifierType(K key);
+
+	protected abstract SessionFactoryImplementor factory(K key);
+
+	protected abstract Class<K> keyClass();
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public V get(K key) {
+		return get( partitionName( key ), identifier( key ) );
+	}
+
+	/**
+	 * The value for the given raw identifier in the given partition
+	 */
+	protected final V get(String partitionName, Object id) {
+		final Partition<K, V> partition = partition( partitionName );
+		return partition == null ? null : partition.get( id );
+	}
+
+	public boolean containsKey(K key) {
+		return containsKey( partitionName( key ), identifier( key ) );
+	}
+
+	/**
+	 * Whether there is a value for the given raw identifier in the given partition
+	 */
+	protected final boolean containsKey(String partitionName, Object id) {
+		final Partition<K, V> partition = partition( partitionName );
+		return partition != null && partition.indexOf( id, partition.hash( id ) ) >= 0;
+	}
+
+	/**
+	 * Associate the value with the key, replacing the key of an existing
+	 * entry which is equal to the given key
+	 *
+	 * @return The value previously associated with the key
+	 */
+	public V put(K key, V value) {
+		final String partitionName = partitionName( key );
+		Partition<K, V> partition = partition( partitionName );
+		if ( partition == null ) {
+			partition = new Partition<>( partitionName, identifierType( key ), factory( key ) );
+			partitions.put( partitionName, partition );
+			lastPartition = partition;
+		}
+		final int sizeBefore = partition.size;
+		final V previous = partition.put( identifier( key ), key, value );
+		size += partition.size - sizeBefore;
+		modCount++;
+		return previous;
+	}
+
+	public V remove(K key) {
+		return remove( partitionName( key ), identifier( key ) );
+	}
+
+	/**
+	 * Remove the value for the given raw identifier in the given partition
+	 *
+	 * @return The removed value
+	 */
+	protected final V remove(String partitionName, Object id) {
+		final Partition<K, V> partition = partition( partitionName );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( id, partition.hash( id ) );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V removed = partition.removeAt( index );
+		size--;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * Remove all entries, in time proportional to the number of partitions,
+	 * rather than to the number of entries
+	 */
+	public void clear() {
+		partitions.clear();
+		lastPartition = null;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Remove all entries, keeping the tables of the partitions whose capacity
+	 * does not exceed the given capacity, for reuse by another persistence
+	 * context of the same factory
+	 */
+	public void reset(int maxCapacity) {
+		partitions.values().removeIf( partition -> !partition.reset( maxCapacity ) );
+		lastPartition = null;
+		size = 0;
+		modCount++;
+	}
+
+	public Iterator<V> valueIterator() {
+		return new EntryIterator<>( this, (key, value) -> value );
+	}
+
+	/**
+	 * An unmodifiable view of this map as a {@link Map}
+	 */
+	public Map<K, V> asMap() {
+		if ( mapView == null ) {
+			mapView = new MapView<>( this );
+		}
+		return mapView;
+	}
+
+	private Partition<K, V> partition(String name) {
+		final Partition<K, V> last = lastPartition;
+		if ( last != null && last.name.equals( name ) ) {
+			return last;
+		}
+		final Partition<K, V> partition = partitions.get( name );
+		if ( partition != null ) {
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	/**
+	 * The entries of a single partition
+	 */
+	private static final class Partition<K, V> {
+		private final String name;
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+
+		private int[] hashes;
+		private Object[] ids;
+		private Object[] keys;
+		private Object[] values;
+		private int size;
+
+		Partition(String name, Type identifierType, SessionFactoryImplementor factory) {
+			this.name = name;
+			this.identifierType = identifierType;
+			this.factory = factory;
+			allocate( INITIAL_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			hashes = new int[capacity];
+			ids = new Object[capacity];
+			keys = new Object[capacity];
+			values = new Object[capacity];
+		}
+
+		/**
+		 * Remove all entries, unless the capacity exceeds the given capacity
+		 *
+		 * @return {@code false} if the partition should be discarded
+		 */
+		boolean reset(int maxCapacity) {
+			if ( ids.length > maxCapacity ) {
+				return false;
+			}
+			if ( size > 0 ) {
+				Arrays.fill( ids, null );
+				Arrays.fill( keys, null );
+				Arrays.fill( values, null );
+				size = 0;
+			}
+			return true;
+		}
+
+		int hash(Object id) {
+			final int hash = identifierType.getHashCode( id, factory );
+			// spread the bits, since the hash codes of identifiers are often sequential
+			return ( hash ^ ( hash >>> 16 ) ) * 0x9E3779B9;
+		}
+
+		/**
+		 * The index of the slot of the given identifier, or {@code -(i + 1)} where
+		 * {@code i} is the index of the empty slot in which it would be inserted
+		 */
+		int indexOf(Object id, int hash) {
+			final int mask = ids.length - 1;
+			int index = hash & mask;
+			while ( true ) {
+				final Object candidate = ids[index];
+				if ( candidate == null ) {
+					return -( index + 1 );
+				}
+				if ( hashes[index] == hash
+						&& ( candidate == id || identifierType.isEqual( candidate, id, factory ) ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(Object id) {
+			final int index = indexOf( id, hash( id ) );
+			return index < 0 ? null : (V) values[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		V put(Object id, K key, V value) {
+			final int hash = hash( id );
+			int index = indexOf( id, hash );
+			if ( index >= 0 ) {
+				final V previous = (V) values[index];
+				// as HashMap, keep the key of the existing entry
+				values[index] = value;
+				return previous;
+			}
+			if ( ( size + 1 ) * 3 > ids.length * 2 ) {
+				// keep the load factor below 2/3, since probing is linear
+				resize();
+				index = indexOf( id, hash );
+			}
+			index = -( index + 1 );
+			hashes[index] = hash;
+			ids[index] = id;
+			keys[index] = key;
+			values[index] = value;
+			size++;
+			return null;
+		}
+
+		private void resize() {
+			final int[] oldHashes = hashes;
+			final Object[] oldIds = ids;
+			final Object[] oldKeys = keys;
+			final Object[] oldValues = values;
+			allocate( oldIds.length * 2 );
+			final int mask = ids.length - 1;
+			for ( int i = 0; i < oldIds.length; i++ ) {
+				if ( oldIds[i] != null ) {
+					int index = oldHashes[i] & mask;
+					while ( ids[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					hashes[index] = oldHashes[i];
+					ids[index] = oldIds[i];
+					keys[index] = oldKeys[i];
+					values[index] = oldValues[i];
+				}
+			}
+		}
+
+		/**
+		 * Remove the entry at the given index, shifting back the entries which
+		 * follow it in the same probe sequence, so that no tombstones are needed
+		 */
+		@SuppressWarnings("unchecked")
+		V removeAt(int index) {
+			final V removed = (V) values[index];
+			final int mask = ids.length - 1;
+			int hole = index;
+			int next = index;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( ids[next] == null ) {
+					break;
+				}
+				final int home = hashes[next] & mask;
+				// the entry may move to the hole unless its home slot is
+				// cyclically after the hole and not after the entry
+				final boolean stays = hole <= next
+						? hole < home && home <= next
+						: hole < home || home <= next;
+				if ( !stays ) {
+					hashes[hole] = hashes[next];
+					ids[hole] = ids[next];
+					keys[hole] = keys[next];
+					values[hole] = values[next];
+					hole = next;
+				}
+			}
+			ids[hole] = null;
+			keys[hole] = null;
+			values[hole] = null;
+			size--;
+			return removed;
+		}
+	}
+
+	private static final class EntryIterator<K, V, T> implements Iterator<T> {
+		private final AbstractKeyMap<K, V> map;
+		private final BiFunction<K, V, T> function;
+		private final Iterator<Partition<K, V>> partitions;
+		private final int expectedModCount;
+
+		private Partition<K, V> partition;
+		private int index;
+		private int remaining;
+
+		EntryIterator(AbstractKeyMap<K, V> map, BiFunction<K, V, T> function) {
+			this.map = map;
+			this.function = function;
+			this.partitions = map.partitions.values().iterator();
+			this.expectedModCount = map.modCount;
+			this.remaining = map.size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if ( map.modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( remaining == 0 ) {
+				throw new NoSuchElementException();
+			}
+			while ( true ) {
+				if ( partition == null || index >= partition.ids.length ) {
+					partition = partitions.next();
+					index = 0;
+				}
+				final int current = index++;
+				if ( partition.ids[current] != null ) {
+					remaining--;
+					return function.apply( (K) partition.keys[current], (V) partition.values[current] );
+				}
+			}
+		}
+	}
+
+	private static final class MapView<K, V> extends AbstractMap<K, V> {
+		private final AbstractKeyMap<K, V> map;
+		private Set<Entry<K, V>> entrySet;
+
+		MapView(AbstractKeyMap<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+
+		@Override
+		public V get(Object key) {
+			return map.keyClass().isInstance( key ) ? map.get( map.keyClass().cast( key ) ) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return map.keyClass().isInstance( key ) && map.containsKey( map.keyClass().cast( key ) );
+		}
+
+		@Override
+		public Set<Entry<K, V>> entrySet() {
+			if ( entrySet == null ) {
+				entrySet = new AbstractSet<>() {
+					@Override
+					public Iterator<Entry<K, V>> iterator() {
+						return new EntryIterator<>( map, SimpleImmutableEntry::new );
+					}
+
+					@Override
+					public int size() {
+						return map.size;
+					}
+				};
+			}
+			return entrySet;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * A map of values by {@link CollectionKey}, for the persistence context.
+ * <p>
+ * The entries are partitioned by collection role.
+ *
+ * @see AbstractKeyMap
+ */
+public final class CollectionKeyMap<V> extends AbstractKeyMap<CollectionKey, V> {
+
+	@Override
+	protected String partitionName(CollectionKey key) {
+		return key.getRole();
+	}
+
+	@Override
+	protected Object identifier(CollectionKey key) {
+		return key.getKey();
+	}
+
+	@Override
+	protected Type identifierType(CollectionKey key) {
+		return key.getKeyType();
+	}
+
+	@Override
+	protected SessionFactoryImplementor factory(CollectionKey key) {
+		return key.getFactory();
+	}
+
+	@Override
+	protected Class<CollectionKey> keyClass() {
+		return CollectionKey.class;
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.BitSet;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.Type;
+
+/**
+ * Replaces the large mutable values of the loaded state of entities annotated
+ * {@link org.hibernate.annotations.CompactSnapshot} by digests, and compares
+ * or restores them.
+ *
+ * @see org.hibernate.tuple.entity.EntityMetamodel#getDigestedPropertiesIndexes()
+ */
+public final class CompactSnapshots {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( CompactSnapshots.class );
+
+	// smaller values are simply copied, since a digest takes about 40 bytes
+	private static final int MIN_DIGESTED_LENGTH = 128;
+
+	private CompactSnapshots() {
+	}
+
+	/**
+	 * Replace the large values of the given snapshot, which may be shared,
+	 * by digests
+	 *
+	 * @return the given snapshot, or a compacted copy of it
+	 */
+	public static Object[] compact(
+			Object[] loadedState,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		final BitSet indexes = persister.getEntityMetamodel().getDigestedPropertiesIndexes();
+		if ( loadedState == null || indexes.isEmpty() || exposesLoadedState( session ) ) {
+			return loadedState;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		Object[] compacted = loadedState;
+		for ( int i = indexes.nextSetBit( 0 ); i >= 0; i = indexes.nextSetBit( i + 1 ) ) {
+			final Object value = loadedState[i];
+			if ( value != null && !( value instanceof Digest ) ) {
+				final Digest digest = digest( value, (BasicType<?>) types[i], session );
+				if ( digest != null ) {
+					if ( compacted == loadedState ) {
+						compacted = loadedState.clone();
+					}
+					compacted[i] = digest;
+				}
+			}
+		}
+		return compacted;
+	}
+
+	/**
+	 * Whether an interceptor or a custom dirtiness strategy might be handed
+	 * the loaded state, which must then hold the values rather than digests
+	 */
+	private static boolean exposesLoadedState(SharedSessionContractImplementor session) {
+		return session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| session.getFactory().getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE;
+	}
+
+	/**
+	 * Compact the loaded state of the given entry
+	 */
+	public static void compactLoadedState(EntityEntry entry, SharedSessionContractImplementor session) {
+		if ( entry instanceof AbstractEntityEntry ) {
+			final AbstractEntityEntry entityEntry = (AbstractEntityEntry) entry;
+			entityEntry.loadedState = compact( entityEntry.loadedState, entityEntry.getPersister(), session );
+		}
+	}
+
+	/**
+	 * Is the given current value of a property different from the given
+	 * loaded value, which might be a digest?
+	 */
+	public static boolean isDirty(
+			Type type,
+			Object loadedValue,
+			Object currentValue,
+			boolean[] checkable,
+			SharedSessionContractImplementor session) {
+		if ( loadedValue instanceof Digest ) {
+			return checkable[0] && !( (Digest) loadedValue ).matches( currentValue, (BasicType<?>) type, session );
+		}
+		else {
+			return type.isDirty( loadedValue, currentValue, checkable, session );
+		}
+	}
+
+	/**
+	 * Replace the digests of the loaded state of the given entry by the values
+	 * read from the database, when the previous state of the entity is needed
+	 * to update or delete it.
+	 *
+	 * @throws StaleObjectStateException if the values changed since they were
+	 * loaded, and the entity uses them for optimistic locking
+	 */
+	public static void materializeLoadedState(EntityEntry entry, SharedSessionContractImplementor session) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null || !containsDigest( loadedState ) ) {
+			return;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] snapshot = persister.getDatabaseSnapshot( entry.getId(), session );
+		for ( int i = 0; i < loadedState.length; i++ ) {
+			if ( loadedState[i] instanceof Digest ) {
+				final Digest digest = (Digest) loadedState[i];
+				final Object value = snapshot == null ? null : snapshot[i];
+				if ( !digest.matches( value, (BasicType<?>) types[i], session ) ) {
+					if ( isLockedByValues( persister ) ) {
+						throw new StaleObjectStateException( persister.getEntityName(), entry.getId() );
+					}
+					LOG.debugf(
+							"Value of property [%s] of %s changed in the database since it was loaded",
+							persister.getPropertyNames()[i],
+							MessageHelper.infoString( persister, entry.getId(), session.getFactory() )
+					);
+				}
+				loadedState[i] = types[i].deepCopy( value, session.getFactory() );
+			}
+		}
+	}
+
+	/**
+	 * Whether the given loaded value is a digest, rather than the value
+	 */
+	public static boolean isDigest(Object loadedValue) {
+		return loadedValue instanceof Digest;
+	}
+
+	private static boolean containsDigest(Object[] loadedState) {
+		for ( Object value : loadedState ) {
+			if ( value instanceof Digest ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLockedByValues(EntityPersister persister) {
+		final OptimisticLockStyle style = persister.getEntityMetamodel().getOptimisticLockStyle();
+		return style.isAllOrDirty();
+	}
+
+	private static Digest digest(Object value, BasicType<?> type, SharedSessionContractImplementor session) {
+		final ByteBuffer bytes = toBytes( value, type, session );
+		return bytes == null || bytes.remaining() < MIN_DIGESTED_LENGTH ? null : new Digest( bytes );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ByteBuffer toBytes(Object value, BasicType<?> type, SharedSessionContractImplementor session) {
+		if ( value instanceof byte[] ) {
+			return ByteBuffer.wrap( (byte[]) value );
+		}
+		else if ( value instanceof char[] ) {
+			return StandardCharsets.UTF_8.encode( CharBuffer.wrap( (char[]) value ) );
+		}
+		else if ( value != null && type.getJdbcType().getDefaultSqlTypeCode() == SqlTypes.JSON ) {
+			final String json = session.getFactory()
+					.getFastSessionServices()
+					.getJsonFormatMapper()
+					.toString( value, ( (BasicType<Object>) type ).getJavaTypeDescriptor(), session );
+			return StandardCharsets.UTF_8.encode( json );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * The first 128 bits of the SHA-256 hash of a value, which stands for the
+	 * value in a snapshot
+	 */
+	static final class Digest implements Serializable {
+		private final int length;
+		private final long high;
+		private final long low;
+
+		private Digest(ByteBuffer bytes) {
+			this.length = bytes.remaining();
+			final ByteBuffer hash = ByteBuffer.wrap( sha256( bytes ) );
+			this.high = hash.getLong();
+			this.low = hash.getLong();
+		}
+
+		boolean matches(Object value, BasicType<?> type, SharedSessionContractImplementor session) {
+			final ByteBuffer bytes = toBytes( value, type, session );
+			if ( bytes == null || bytes.remaining() != length ) {
+				return false;
+			}
+			final ByteBuffer hash = ByteBuffer.wrap( sha256( bytes ) );
+			return hash.getLong() == high && hash.getLong() == low;
+		}
+
+		private static byte[] sha256(ByteBuffer bytes) {
+			try {
+				final MessageDigest messageDigest = MessageDigest.getInstance( "SHA-256" );
+				messageDigest.update( bytes );
+				return messageDigest.digest();
+			}
+			catch (NoSuchAlgorithmException e) {
+				// every Java platform supports SHA-256
+				throw new AssertionFailure( "SHA-256 is not supported", e );
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "<digest of " + length + " bytes>";
+		}
+	}
+}
@@ -20,6 +20,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -55,6 +56,13 @@ public class EntityEntryContext {
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
 
+	// The entities which the next flush must visit, in the order they were
+	// marked dirty, with null in place of the entities marked clean since, and
+	// the index of each entity in that list.  While null, every entity must be
+	// visited: no entity has been marked clean since this context was cleared.
+	private transient ArrayList<Object> entitiesToFlush;
+	private transient IdentityHashMap<Object,Integer> entitiesToFlushIndexes;
+
 	/**
 	 * Constructs a EntityEntryContext
 	 */
@@ -121,6 +129,10 @@ public class EntityEntryContext {
 		// associate the EntityEntry with the entity
 		managedEntity.$$_hibernate_setEntityEntry( entityEntry );
 
+		if ( entitiesToFlush != null ) {
+			markEntityDirty( entity );
+		}
+
 		if ( alreadyAssociated ) {
 			// if the entity was already associated with the context, skip the linking step.
 			return;
@@ -246,6 +258,10 @@ public class EntityEntryContext {
 
 		dirty = true;
 
+		if ( entitiesToFlush != null ) {
+			unmarkEntityDirty( entity );
+		}
+
 		if (managedEntity instanceof ImmutableManagedEntityHolder) {
 			assert entity == ( (ImmutableManagedEntityHolder) managedEntity ).managedEntity;
 			immutableManagedEntityXref.remove( entity );
@@ -324,11 +340,105 @@ public class EntityEntryContext {
 		return reentrantSafeEntries;
 	}
 
+	/**
+	 * Return an array of the entity/EntityEntry pairs of the entities which are not
+	 * {@linkplain #markEntityClean marked clean}, as {@link #reentrantSafeEntityEntries()}
+	 *
+	 * @return The safe array
+	 */
+	public Map.Entry<Object, EntityEntry>[] reentrantSafeDirtyEntityEntries() {
+		if ( entitiesToFlush == null ) {
+			return reentrantSafeEntityEntries();
+		}
+		// compact the list, dropping the entities marked clean
+		int size = 0;
+		for ( int i = 0; i < entitiesToFlush.size(); i++ ) {
+			final Object entity = entitiesToFlush.get( i );
+			if ( entity != null ) {
+				if ( size != i ) {
+					entitiesToFlush.set( size, entity );
+					entitiesToFlushIndexes.put( entity, size );
+				}
+				size++;
+			}
+		}
+		entitiesToFlush.subList( size, entitiesToFlush.size() ).clear();
+
+		@SuppressWarnings("unchecked")
+		final Map.Entry<Object, EntityEntry>[] entries = new EntityEntryCrossRefImpl[size];
+		for ( int i = 0; i < size; i++ ) {
+			final Object entity = entitiesToFlush.get( i );
+			entries[i] = new EntityEntryCrossRefImpl( entity, getEntityEntry( entity ) );
+		}
+		return entries;
+	}
+
+	/**
+	 * Mark the given entity, found clean by a flush, as not needing to be visited
+	 * by the next flushes until it is {@linkplain #markEntityDirty marked dirty}.
+	 * Only entities which notify the context of their modifications may be marked
+	 * clean.
+	 *
+	 * @param entity The entity
+	 */
+	public void markEntityClean(Object entity) {
+		if ( entitiesToFlush == null ) {
+			// start tracking: until now, every entity was to be visited
+			entitiesToFlush = new ArrayList<>( count );
+			entitiesToFlushIndexes = new IdentityHashMap<>( count );
+			ManagedEntity managedEntity = head;
+			while ( managedEntity != null ) {
+				final Object instance = managedEntity.$$_hibernate_getEntityInstance();
+				if ( instance != entity ) {
+					entitiesToFlushIndexes.put( instance, entitiesToFlush.size() );
+					entitiesToFlush.add( instance );
+				}
+				managedEntity = managedEntity.$$_hibernate_getNextManagedEntity();
+			}
+		}
+		else {
+			unmarkEntityDirty( entity );
+		}
+	}
+
+	/**
+	 * Mark the given entity as possibly modified since it was last flushed, so
+	 * that the next flush visits it
+	 *
+	 * @param entity The entity
+	 */
+	public void markEntityDirty(Object entity) {
+		if ( entitiesToFlush != null
+				&& !entitiesToFlushIndexes.containsKey( entity )
+				&& getEntityEntry( entity ) != null ) {
+			entitiesToFlushIndexes.put( entity, entitiesToFlush.size() );
+			entitiesToFlush.add( entity );
+		}
+	}
+
+	/**
+	 * Is the given entity {@linkplain #markEntityClean marked clean}?
+	 */
+	public boolean isMarkedClean(Object entity) {
+		return entitiesToFlush != null
+				&& !entitiesToFlushIndexes.containsKey( entity )
+				&& getEntityEntry( entity ) != null;
+	}
+
+	private void unmarkEntityDirty(Object entity) {
+		final Integer index = entitiesToFlushIndexes.remove( entity );
+		if ( index != null ) {
+			entitiesToFlush.set( index, null );
+		}
+	}
+
 	/**
 	 * Clear this context of all managed entities
 	 */
 	public void clear() {
 		dirty = true;
+		entitiesToFlush = null;
+		entitiesToFlushIndexes = null;
 
 		ManagedEntity node = head;
 		while ( node != null ) {
@@ -357,6 +467,19 @@ public class EntityEntryContext {
 		reentrantSafeEntries = null;
 	}
 
+	/**
+	 * Clear this context for reuse, discarding the cross-reference maps if they
+	 * held more than the given number of entries
+	 */
+	public void reset(int maxCapacity) {
+		final boolean discard = count > maxCapacity;
+		clear();
+		if ( discard ) {
+			immutableManagedEntityXref = null;
+			nonEnhancedEntityXref = null;
+		}
+	}
+
 	/**
 	 * Down-grade locks to NONE for all entities in this context
 	 */
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The dependencies between the entities of a SessionFactory which determine
+ * the order of the insertions of a flush, when
+ * {@linkplain org.hibernate.cfg.AvailableSettings#ORDER_INSERTS ordering inserts}
+ * is enabled.
+ * <p>
+ * An entity depends on another entity when its rows may refer to the rows of
+ * the other entity: through a to-one association, or because the other entity
+ * maps a one-to-many association or an inverse one-to-one association to it.
+ * A dependency on an entity is a dependency on every entity of its inheritance
+ * hierarchy.  The dependencies are determined once, from the mapping, and are
+ * closed transitively, so that the insertions of a flush can be ordered by
+ * only looking at the entities they insert.
+ */
+public final class EntityInsertOrdering {
+	private final Map<String, Integer> indexes;
+	private final BitSet[] dependencies;
+
+	public EntityInsertOrdering(SessionFactoryImplementor factory) {
+		final MappingMetamodel mappingMetamodel = factory.getRuntimeMetamodels().getMappingMetamodel();
+		final List<EntityPersister> persisters = new ArrayList<>();
+		mappingMetamodel.forEachEntityDescriptor( persisters::add );
+		persisters.sort( Comparator.comparing( EntityPersister::getEntityName ) );
+
+		final int size = persisters.size();
+		this.indexes = new HashMap<>( size * 2 );
+		final Map<String, BitSet> hierarchies = new HashMap<>();
+		for ( int i = 0; i < size; i++ ) {
+			final EntityPersister persister = persisters.get( i );
+			indexes.put( persister.getEntityName(), i );
+			hierarchies.computeIfAbsent( persister.getRootEntityName(), (root) -> new BitSet( size ) ).set( i );
+		}
+
+		final BitSet[] directDependencies = new BitSet[size];
+		for ( int i = 0; i < size; i++ ) {
+			directDependencies[i] = new BitSet( size );
+		}
+		for ( int i = 0; i < size; i++ ) {
+			final EntityPersister persister = persisters.get( i );
+			addDependencies( i, persister.getIdentifierType(), directDependencies, hierarchies, factory );
+			for ( Type type : persister.getPropertyTypes() ) {
+				addDependencies( i, type, directDependencies, hierarchies, factory );
+			}
+		}
+
+		this.dependencies = new BitSet[size];
+		for ( int i = 0; i < size; i++ ) {
+			dependencies[i] = transitiveDependencies( i, directDependencies );
+		}
+	}
+
+	private static void addDependencies(
+			int index,
+			Type type,
+			BitSet[] dependencies,
+			Map<String, BitSet> hierarchies,
+			SessionFactoryImplementor factory) {
+		final MappingMetamodel mappingMetamodel = factory.getRuntimeMetamodels().getMappingMetamodel();
+		if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			final String entityName = entityType.getAssociatedEntityName();
+			final String rootEntityName = mappingMetamodel.getEntityDescriptor( entityName ).getRootEntityName();
+			final BitSet hierarchy = hierarchies.get( rootEntityName );
+			if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				if ( !entityType.isReferenceToPrimaryKey() || !rootEntityName.equals( entityName ) ) {
+					// the associated entity refers to this one
+					for ( int i = hierarchy.nextSetBit( 0 ); i >= 0; i = hierarchy.nextSetBit( i + 1 ) ) {
+						dependencies[i].set( index );
+					}
+				}
+			}
+			else {
+				dependencies[index].or( hierarchy );
+			}
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionType collectionType = (CollectionType) type;
+			if ( collectionType.getElementType( factory ).isEntityType()
+					&& !mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ).isManyToMany() ) {
+				final String entityName = collectionType.getAssociatedEntityName( factory );
+				final String rootEntityName = mappingMetamodel.getEntityDescriptor( entityName ).getRootEntityName();
+				final BitSet hierarchy = hierarchies.get( rootEntityName );
+				// the elements refer to this entity
+				for ( int i = hierarchy.nextSetBit( 0 ); i >= 0; i = hierarchy.nextSetBit( i + 1 ) ) {
+					dependencies[i].set( index );
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				addDependencies( index, subtype, dependencies, hierarchies, factory );
+			}
+		}
+	}
+
+	private static BitSet transitiveDependencies(int index, BitSet[] directDependencies) {
+		final BitSet reached = new BitSet( directDependencies.length );
+		final Deque<Integer> pending = new ArrayDeque<>();
+		pending.push( index );
+		while ( !pending.isEmpty() ) {
+			final BitSet direct = directDependencies[pending.pop()];
+			for ( int i = direct.nextSetBit( 0 ); i >= 0; i = direct.nextSetBit( i + 1 ) ) {
+				if ( !reached.get( i ) ) {
+					reached.set( i );
+					pending.push( i );
+				}
+			}
+		}
+		// rows of the same entity are inserted in the order of their insertions
+		reached.clear( index );
+		return reached;
+	}
+
+	/**
+	 * The index of the given entity, or -1 if there is no such entity
+	 */
+	public int getIndex(String entityName) {
+		final Integer index = indexes.get( entityName );
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Whether the rows of the entity with the given index must be inserted
+	 * after the rows of the entity with the given dependency index.  Two
+	 * entities which depend on each other belong to a cycle of dependencies,
+	 * which can only be resolved by looking at the inserted instances.
+	 */
+	public boolean dependsOn(int index, int dependencyIndex) {
+		return dependencies[index].get( dependencyIndex );
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * A map of values by {@link EntityKey}, for the persistence context.
+ * <p>
+ * The entries are partitioned by entity hierarchy, so that a value may be
+ * looked up by identifier and persister, without creating an {@code EntityKey}.
+ *
+ * @see AbstractKeyMap
+ */
+public final class EntityKeyMap<V> extends AbstractKeyMap<EntityKey, V> {
+
+	/**
+	 * The value for the {@link EntityKey} of the given identifier and persister
+	 */
+	public V get(Object id, EntityPersister persister) {
+		checkIdentifier( id, persister );
+		return get( persister.getRootEntityName(), id );
+	}
+
+	/**
+	 * Whether there is a value for the {@link EntityKey} of the given identifier
+	 * and persister
+	 */
+	public boolean containsKey(Object id, EntityPersister persister) {
+		checkIdentifier( id, persister );
+		return containsKey( persister.getRootEntityName(), id );
+	}
+
+	/**
+	 * Remove the value for the {@link EntityKey} of the given identifier and
+	 * persister
+	 *
+	 * @return The removed value
+	 */
+	public V remove(Object id, EntityPersister persister) {
+		checkIdentifier( id, persister );
+		return remove( persister.getRootEntityName(), id );
+	}
+
+	@Override
+	protected String partitionName(EntityKey key) {
+		return key.getPersister().getRootEntityName();
+	}
+
+	@Override
+	protected Object identifier(EntityKey key) {
+		return key.getIdentifier();
+	}
+
+	@Override
+	protected Type identifierType(EntityKey key) {
+		return key.getPersister().getIdentifierType();
+	}
+
+	@Override
+	protected SessionFactoryImplementor factory(EntityKey key) {
+		return key.getPersister().getFactory();
+	}
+
+	@Override
+	protected Class<EntityKey> keyClass() {
+		return EntityKey.class;
+	}
+
+	/**
+	 * Fail as {@link EntityKey} does when given a null identifier
+	 */
+	private static void checkIdentifier(Object id, EntityPersister persister) {
+		if ( id == null ) {
+			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Set;
+
 import org.hibernate.HibernateException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
@@ -350,6 +352,55 @@ public final class ForeignKeys {
 		}
 	}
 
+	/**
+	 * Does the given state of an entity refer to one of the given entity
+	 * instances, through an association of the entity or of its components?
+	 *
+	 * @param persister The persister of the entity
+	 * @param values The state of the entity
+	 * @param entities The entity instances, compared by identity
+	 * @param session The session
+	 *
+	 * @return {@code true} if one of the entities is referenced
+	 */
+	public static boolean references(
+			EntityPersister persister,
+			Object[] values,
+			Set<Object> entities,
+			SharedSessionContractImplementor session) {
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( references( types[i], values[i], entities, session ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean references(
+			Type type,
+			Object value,
+			Set<Object> entities,
+			SharedSessionContractImplementor session) {
+		if ( value == null ) {
+			return false;
+		}
+		else if ( type.isEntityType() ) {
+			return entities.contains( value );
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final Type[] subtypes = compositeType.getSubtypes();
+			final Object[] values = compositeType.getPropertyValues( value, session );
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( references( subtypes[i], values[i], entities, session ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Find all non-nullable references to entities that have not yet
 	 * been inserted in the database, where the foreign key
@@ -91,7 +91,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		Eagerly Initialized Fields
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
 	 */
-	private final SharedSessionContractImplementor session;
+	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
 
 	/*
@@ -103,7 +103,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private EntityKeyMap<Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -113,7 +113,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private EntityKeyMap<Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -122,7 +122,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private CollectionKeyMap<PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -218,27 +218,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void clear() {
-		if ( proxiesByKey != null ) {
-			proxiesByKey.forEach( (k,o) -> {
-				if ( o != null) {
-					((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
-				}
-			} );
-		}
-
-		for ( Entry<Object, EntityEntry> objectEntityEntryEntry : entityEntryContext.reentrantSafeEntityEntries() ) {
-			if ( objectEntityEntryEntry.getKey() instanceof PersistentAttributeInterceptable ) {
-				final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) objectEntityEntryEntry.getKey() ).$$_hibernate_getInterceptor();
-				if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
-					( (LazyAttributeLoadingInterceptor) interceptor ).unsetSession();
-				}
-			}
-		}
-
-		final SharedSessionContractImplementor session = getSession();
-		if ( collectionEntries != null ) {
-			IdentityMap.onEachKey( collectionEntries, k -> k.unsetSession( session ) );
-		}
+		unsetSession();
 
 		arrayHolders = null;
 		entitiesByKey = null;
@@ -263,6 +243,84 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		naturalIdResolutions = null;
 	}
 
+	/**
+	 * Clears this context, and unbinds it from its session, so that it may be
+	 * {@linkplain #bind bound} to another session of the same factory.  The
+	 * maps of entities are kept, unless they grew beyond the given capacity.
+	 *
+	 * @param maxCapacity The largest capacity of a map worth keeping
+	 */
+	public void reset(int maxCapacity) {
+		unsetSession();
+
+		entityEntryContext.reset( maxCapacity );
+		if ( entitiesByKey != null ) {
+			entitiesByKey.reset( maxCapacity );
+		}
+		if ( entitySnapshotsByKey != null ) {
+			entitySnapshotsByKey.reset( maxCapacity );
+		}
+		if ( collectionsByKey != null ) {
+			collectionsByKey.reset( maxCapacity );
+		}
+		arrayHolders = null;
+		entitiesByUniqueKey = null;
+		parentsByChild = null;
+		nonlazyCollections = null;
+		collectionEntries = null;
+		unownedCollections = null;
+		proxiesByKey = null;
+		nullifiableEntityKeys = null;
+		nullAssociations = null;
+		insertedKeysMap = null;
+		naturalIdResolutions = null;
+		if ( batchFetchQueue != null ) {
+			batchFetchQueue.clear();
+		}
+		if ( loadContexts != null ) {
+			loadContexts.cleanup();
+		}
+		cascading = 0;
+		loadCounter = 0;
+		removeOrphanBeforeUpdatesCounter = 0;
+		flushing = false;
+		defaultReadOnly = false;
+		hasNonReadOnlyEntities = false;
+		session = null;
+	}
+
+	/**
+	 * Binds this context, previously {@linkplain #reset reset}, to the given session.
+	 */
+	public void bind(SharedSessionContractImplementor session) {
+		assert this.session == null;
+		this.session = session;
+	}
+
+	private void unsetSession() {
+		if ( proxiesByKey != null ) {
+			proxiesByKey.forEach( (k,o) -> {
+				if ( o != null) {
+					((HibernateProxy) o).getHibernateLazyInitializer().unsetSession();
+				}
+			} );
+		}
+
+		for ( Entry<Object, EntityEntry> objectEntityEntryEntry : entityEntryContext.reentrantSafeEntityEntries() ) {
+			if ( objectEntityEntryEntry.getKey() instanceof PersistentAttributeInterceptable ) {
+				final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) objectEntityEntryEntry.getKey() ).$$_hibernate_getInterceptor();
+				if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
+					( (LazyAttributeLoadingInterceptor) interceptor ).unsetSession();
+				}
+			}
+		}
+
+		final SharedSessionContractImplementor session = getSession();
+		if ( collectionEntries != null ) {
+			IdentityMap.onEachKey( collectionEntries, k -> k.unsetSession( session ) );
+		}
+	}
+
 	@Override
 	public boolean isDefaultReadOnly() {
 		return defaultReadOnly;
@@ -282,6 +340,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( status == Status.DELETED ) {
+			// the next flush must process the deletion
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity != null ) {
+				entityEntryContext.markEntityDirty( entity );
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -305,17 +370,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, EntityPersister persister) throws HibernateException {
-		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( id, persister );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new EntityKeyMap<>();
 			}
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			entitySnapshotsByKey.put( session.generateEntityKey( id, persister ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -383,7 +447,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -397,11 +461,21 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		return entitiesByKey == null ? null : entitiesByKey.get( id, persister );
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public boolean containsEntity(Object id, EntityPersister persister) {
+		return entitiesByKey != null && entitiesByKey.containsKey( id, persister );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
@@ -766,7 +840,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new EntityKeyMap<>();
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -779,7 +853,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, ownerPersister );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -790,7 +864,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -1083,12 +1157,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Deprecated
 	@Override
 	public Map<EntityKey,Object> getEntitiesByKey() {
-		return entitiesByKey == null ? Collections.emptyMap() : entitiesByKey;
+		return entitiesByKey == null ? Collections.emptyMap() : entitiesByKey.asMap();
 	}
 
 	@Override
 	public Iterator<Object> managedEntitiesIterator() {
-		return entitiesByKey == null ? Collections.emptyIterator() : entitiesByKey.values().iterator();
+		return entitiesByKey == null ? Collections.emptyIterator() : entitiesByKey.valueIterator();
 	}
 
 	@Override
@@ -1128,7 +1202,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Map<CollectionKey,PersistentCollection<?>> getCollectionsByKey() {
-		return collectionsByKey == null ? Collections.emptyMap() : collectionsByKey;
+		return collectionsByKey == null ? Collections.emptyMap() : collectionsByKey.asMap();
 	}
 
 	@Override
@@ -1219,8 +1293,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public String toString() {
-		final String entityKeySet = entitiesByKey == null ? "[]" :  entitiesByKey.keySet().toString();
-		final String collectionsKeySet = collectionsByKey == null ? "[]" : collectionsByKey.keySet().toString();
+		final String entityKeySet = entitiesByKey == null ? "[]" :  entitiesByKey.asMap().keySet().toString();
+		final String collectionsKeySet = collectionsByKey == null ? "[]" : collectionsByKey.asMap().keySet().toString();
 		return "PersistenceContext[entityKeys=" + entityKeySet + ", collectionKeys=" + collectionsKeySet + "]";
 	}
 
@@ -1229,6 +1303,26 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	public Entry<Object,EntityEntry>[] reentrantSafeDirtyEntityEntries() {
+		return entityEntryContext.reentrantSafeDirtyEntityEntries();
+	}
+
+	@Override
+	public void markEntityDirty(Object entity) {
+		entityEntryContext.markEntityDirty( entity );
+	}
+
+	@Override
+	public void markEntityClean(Object entity) {
+		entityEntryContext.markEntityClean( entity );
+	}
+
+	@Override
+	public boolean isEntityMarkedClean(Object entity) {
+		return entityEntryContext.isMarkedClean( entity );
+	}
+
 	@Override
 	public Object getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1560,7 +1654,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			stream.writeObject( entry.getValue() );
 		};
 
-		writeMapToStream( entitiesByKey, oos, "entitiesByKey", entityKeySerializer );
+		writeMapToStream( entitiesByKey == null ? null : entitiesByKey.asMap(), oos, "entitiesByKey", entityKeySerializer );
 		writeMapToStream(
 				entitiesByUniqueKey,
 				oos, "entitiesByUniqueKey", (entry, stream) -> {
@@ -1569,11 +1663,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				}
 		);
 		writeMapToStream( proxiesByKey, oos, "proxiesByKey", entityKeySerializer );
-		writeMapToStream( entitySnapshotsByKey, oos, "entitySnapshotsByKey", entityKeySerializer );
+		writeMapToStream(
+				entitySnapshotsByKey == null ? null : entitySnapshotsByKey.asMap(),
+				oos,
+				"entitySnapshotsByKey",
+				entityKeySerializer
+		);
 
 		entityEntryContext.serialize( oos );
 		writeMapToStream(
-				collectionsByKey,
+				collectionsByKey == null ? null : collectionsByKey.asMap(),
 				oos,
 				"collectionsByKey",
 				(entry, stream) -> {
@@ -1671,7 +1770,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1710,7 +1809,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = new EntityKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1721,7 +1820,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = new CollectionKeyMap<>();
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -1869,7 +1968,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = new CollectionKeyMap<>();
 		}
 		final PersistentCollection<?> old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
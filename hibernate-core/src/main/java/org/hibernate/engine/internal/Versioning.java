@@ -99,6 +99,35 @@ public final class Versioning {
 		return next;
 	}
 
+	/**
+	 * Inject the version of an upserted instance into its state snapshot, and
+	 * into the instance: an initial version if its version is unsaved, or the
+	 * next increment of its version otherwise.
+	 *
+	 * @param entity The upserted instance
+	 * @param fields The state snapshot of the instance
+	 * @param persister The entity persister
+	 * @param session The originating session
+	 * @return The version an existing row must have to be updated, or null if
+	 * the entity is not versioned
+	 */
+	public static Object seedOrIncrementVersion(
+			Object entity,
+			Object[] fields,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		if ( !persister.isVersioned() ) {
+			return null;
+		}
+		final int versionProperty = persister.getVersionProperty();
+		final Object version = fields[versionProperty];
+		if ( !seedVersion( fields, versionProperty, persister.getVersionJavaType(), session ) ) {
+			fields[versionProperty] = increment( version, persister.getVersionJavaType(), session );
+		}
+		persister.setValue( entity, versionProperty, fields[versionProperty] );
+		return version;
+	}
+
 	/**
 	 * Inject the optimistic locking value into the entity state snapshot.
 	 *
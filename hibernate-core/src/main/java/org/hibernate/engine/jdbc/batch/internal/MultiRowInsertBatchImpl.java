@@ -0,0 +1,239 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.BatchFailedException;
+import org.hibernate.jdbc.BatchedTooManyRowsAffectedException;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Standard implementation of {@link MultiRowInsertBatch}.
+ * <p>
+ * The queued rows are executed once there are enough of them to fill the
+ * JDBC batch size with statements of {@code rowsPerStatement} rows, or when
+ * the batch is executed explicitly.  The rows of each single-row statement
+ * are executed in the order in which the statements were first added.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#INSERT_ROWS_PER_STATEMENT
+ */
+public class MultiRowInsertBatchImpl implements MultiRowInsertBatch {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatchImpl.class.getName()
+	);
+
+	private static final String VALUES = ") values ";
+
+	private final BatchKey key;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final int rowsPerStatement;
+	private final int rowsPerExecution;
+
+	private final LinkedHashMap<String, List<RowBinder>> queuedRows = new LinkedHashMap<>();
+
+	public MultiRowInsertBatchImpl(BatchKey key, int rowsPerStatement, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		this.key = key;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.sqlExceptionHelper = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getSqlExceptionHelper();
+		this.rowsPerStatement = rowsPerStatement;
+		this.rowsPerExecution = rowsPerStatement * batchSize;
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public void addRow(String sql, RowBinder binder) {
+		final List<RowBinder> rows = queuedRows.computeIfAbsent( sql, (s) -> new ArrayList<>() );
+		rows.add( binder );
+		if ( rows.size() >= rowsPerExecution ) {
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		if ( queuedRows.isEmpty() ) {
+			LOG.debug( "No batched statements to execute" );
+			return;
+		}
+		performExecution();
+	}
+
+	private void performExecution() {
+		try {
+			for ( Map.Entry<String, List<RowBinder>> entry : queuedRows.entrySet() ) {
+				executeRows( entry.getKey(), entry.getValue() );
+			}
+		}
+		finally {
+			queuedRows.clear();
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private void executeRows(String sql, List<RowBinder> rows) {
+		final String valuesTuple = extractValuesTuple( sql );
+		final int rowsPerStatement = valuesTuple == null ? 1 : this.rowsPerStatement;
+		final int statementCount = rows.size() / rowsPerStatement;
+		final int remainingRows = rows.size() % rowsPerStatement;
+		if ( statementCount > 0 ) {
+			executeStatements( sql, valuesTuple, rows, 0, statementCount, rowsPerStatement );
+		}
+		if ( remainingRows > 0 ) {
+			executeStatements( sql, valuesTuple, rows, statementCount * rowsPerStatement, 1, remainingRows );
+		}
+	}
+
+	private void executeStatements(
+			String singleRowSql,
+			String valuesTuple,
+			List<RowBinder> rows,
+			int firstRow,
+			int statementCount,
+			int rowsPerStatement) {
+		final String sql = rowsPerStatement == 1
+				? singleRowSql
+				: multiRowSql( singleRowSql, valuesTuple, rowsPerStatement );
+		LOG.debugf( "Executing %s statements inserting %s rows", statementCount, rowsPerStatement );
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql, false );
+		try {
+			int row = firstRow;
+			for ( int i = 0; i < statementCount; i++ ) {
+				int index = 1;
+				for ( int j = 0; j < rowsPerStatement; j++ ) {
+					index = rows.get( row++ ).bindValues( statement, index );
+				}
+				if ( statementCount > 1 ) {
+					statement.addBatch();
+				}
+			}
+
+			if ( statementCount > 1 ) {
+				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
+						.getJdbcSessionContext()
+						.getObserver();
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					checkRowCount( rowCounts[i], rowsPerStatement, i, sql );
+				}
+			}
+			else {
+				checkRowCount( jdbcCoordinator.getResultSetReturn().executeUpdate( statement ), rowsPerStatement, 0, sql );
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			LOG.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private void checkRowCount(int rowCount, int expectedRowCount, int batchPosition, String sql) {
+		if ( key.getExpectation() == Expectations.NONE || rowCount == -2 ) {
+			// -2 is Statement.SUCCESS_NO_INFO
+			return;
+		}
+		if ( rowCount == -3 ) {
+			throw new BatchFailedException( "Batch update failed: " + batchPosition );
+		}
+		if ( rowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Batch update returned unexpected row count from multi-row insert ["
+							+ batchPosition + "]; actual row count: " + rowCount
+							+ "; expected: " + expectedRowCount + "; statement executed: " + sql
+			);
+		}
+		if ( rowCount > expectedRowCount ) {
+			throw new BatchedTooManyRowsAffectedException(
+					"Batch update returned unexpected row count from multi-row insert ["
+							+ batchPosition + "]; actual row count: " + rowCount
+							+ "; expected: " + expectedRowCount,
+					expectedRowCount,
+					rowCount,
+					batchPosition
+			);
+		}
+	}
+
+	private void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	/**
+	 * The parenthesized values of a single-row insert, or null if the SQL
+	 * does not end with them
+	 */
+	private static String extractValuesTuple(String sql) {
+		final int valuesIndex = sql.lastIndexOf( VALUES );
+		if ( valuesIndex < 0 || !sql.endsWith( ")" ) ) {
+			return null;
+		}
+		return sql.substring( valuesIndex + VALUES.length() );
+	}
+
+	private static String multiRowSql(String singleRowSql, String valuesTuple, int rowCount) {
+		final StringBuilder sql = new StringBuilder( singleRowSql.length() + ( valuesTuple.length() + 2 ) * ( rowCount - 1 ) )
+				.append( singleRowSql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ", " ).append( valuesTuple );
+		}
+		return sql.toString();
+	}
+
+	@Override
+	public void release() {
+		if ( !queuedRows.isEmpty() ) {
+			LOG.batchContainedStatementsOnRelease();
+		}
+		queuedRows.clear();
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 
 /**
@@ -16,13 +17,28 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 final class SharedBatchBuildingCode {
 
 	static Batch buildBatch(final int defaultJdbcBatchSize, final BatchKey key, final JdbcCoordinator jdbcCoordinator) {
+		final int jdbcBatchSizeToUse = jdbcBatchSizeToUse( defaultJdbcBatchSize, jdbcCoordinator );
+		return jdbcBatchSizeToUse > 1
+				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
+				: new NonBatchingBatch( key, jdbcCoordinator );
+	}
+
+	static MultiRowInsertBatch buildMultiRowInsertBatch(
+			final int defaultJdbcBatchSize,
+			final BatchKey key,
+			final int rowsPerStatement,
+			final JdbcCoordinator jdbcCoordinator) {
+		final int jdbcBatchSizeToUse = jdbcBatchSizeToUse( defaultJdbcBatchSize, jdbcCoordinator );
+		return jdbcBatchSizeToUse > 1
+				? new MultiRowInsertBatchImpl( key, rowsPerStatement, jdbcCoordinator, jdbcBatchSizeToUse )
+				: null;
+	}
+
+	private static int jdbcBatchSizeToUse(final int defaultJdbcBatchSize, final JdbcCoordinator jdbcCoordinator) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
 				.getJdbcBatchSize();
-		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
+		return sessionJdbcBatchSize == null ?
 				defaultJdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
 	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.engine.jdbc.batch.internal;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 
 /**
@@ -30,4 +31,12 @@ final class UnmodifiableBatchBuilderImpl implements BatchBuilder {
 		return SharedBatchBuildingCode.buildBatch( jdbcBatchSize, key, jdbcCoordinator );
 	}
 
+	@Override
+	public MultiRowInsertBatch buildMultiRowInsertBatch(
+			BatchKey key,
+			int rowsPerStatement,
+			JdbcCoordinator jdbcCoordinator) {
+		return SharedBatchBuildingCode.buildMultiRowInsertBatch( jdbcBatchSize, key, rowsPerStatement, jdbcCoordinator );
+	}
+
 }
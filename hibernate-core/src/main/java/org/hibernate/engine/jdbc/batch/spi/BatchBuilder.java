@@ -27,4 +27,22 @@ public interface BatchBuilder extends Service {
 	 * @return The built batch
 	 */
 	Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator);
+
+	/**
+	 * Build a batch which merges single-row inserts into multi-row insert
+	 * statements.
+	 *
+	 * @param key Value to uniquely identify a batch
+	 * @param rowsPerStatement The maximum number of rows inserted by a single statement
+	 * @param jdbcCoordinator The JDBC coordinator with which to coordinate efforts
+	 *
+	 * @return The built batch, or {@code null} if rows should rather be inserted
+	 * by a {@linkplain #buildBatch regular batch}, which is the case unless overridden
+	 */
+	default MultiRowInsertBatch buildMultiRowInsertBatch(
+			BatchKey key,
+			int rowsPerStatement,
+			JdbcCoordinator jdbcCoordinator) {
+		return null;
+	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Conceptually models a batch of rows inserted by single-row
+ * {@code insert into t (...) values (...)} statements, which are merged into
+ * statements inserting multiple rows, {@code insert into t (...) values (...), (...)}.
+ * <p/>
+ * Unlike a {@link Batch}, such a batch does not hand out a statement to which
+ * the values of a row are bound, since the number of rows of a statement is
+ * only known when the batch is executed.  Rows are queued as
+ * {@linkplain RowBinder binders} instead.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#INSERT_ROWS_PER_STATEMENT
+ */
+public interface MultiRowInsertBatch {
+	/**
+	 * Binds the values of a single row
+	 */
+	@FunctionalInterface
+	interface RowBinder {
+		/**
+		 * Bind the values of the row, starting at the given parameter index
+		 *
+		 * @return The index of the next parameter
+		 */
+		int bindValues(PreparedStatement statement, int index) throws SQLException;
+	}
+
+	/**
+	 * Retrieves the object being used to key (uniquely identify) this batch.
+	 *
+	 * @return The batch key.
+	 */
+	BatchKey getKey();
+
+	/**
+	 * Queue a row for insertion.  The binder is called when the batch is
+	 * executed, so it must not depend on state which may change until then.
+	 *
+	 * @param sql The SQL which inserts the single row
+	 * @param binder Binds the values of the row
+	 */
+	void addRow(String sql, RowBinder binder);
+
+	/**
+	 * Execute this batch.
+	 */
+	void execute();
+
+	/**
+	 * Used to indicate that the batch instance is no longer needed and that, therefore, it can release its
+	 * resources.
+	 */
+	void release();
+}
@@ -20,6 +20,7 @@ import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -59,6 +60,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcServices jdbcServices;
 
 	private transient Batch currentBatch;
+	private transient MultiRowInsertBatch currentMultiRowInsertBatch;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -81,8 +83,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		// statements are only cached on connections managed by Hibernate,
+		// which are known to be released through the logical connection
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				isUserSuppliedConnection
+						? 0
+						: owner.getJdbcSessionContext().getSessionFactory().getSessionFactoryOptions().getJdbcStatementCacheSize()
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -165,6 +172,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( currentMultiRowInsertBatch != null ) {
+				LOG.closingUnreleasedBatch();
+				currentMultiRowInsertBatch.release();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -174,6 +185,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
+		executeMultiRowInsertBatch();
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -187,8 +199,37 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return currentBatch;
 	}
 
+	@Override
+	public MultiRowInsertBatch getMultiRowInsertBatch(BatchKey key, int rowsPerStatement) {
+		if ( currentMultiRowInsertBatch != null && currentMultiRowInsertBatch.getKey().equals( key ) ) {
+			return currentMultiRowInsertBatch;
+		}
+		final MultiRowInsertBatch batch = batchBuilder().buildMultiRowInsertBatch( key, rowsPerStatement, this );
+		if ( batch != null ) {
+			// the batches are executed in the order in which they were requested
+			executeBatch();
+			currentBatch = null;
+			currentMultiRowInsertBatch = batch;
+		}
+		return batch;
+	}
+
+	private void executeMultiRowInsertBatch() {
+		if ( currentMultiRowInsertBatch != null ) {
+			final MultiRowInsertBatch batch = currentMultiRowInsertBatch;
+			currentMultiRowInsertBatch = null;
+			try {
+				batch.execute();
+			}
+			finally {
+				batch.release();
+			}
+		}
+	}
+
 	@Override
 	public void executeBatch() {
+		executeMultiRowInsertBatch();
 		if ( currentBatch != null ) {
 			currentBatch.execute();
 			// needed?
@@ -198,6 +239,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
+		if ( currentMultiRowInsertBatch != null ) {
+			currentMultiRowInsertBatch.release();
+			currentMultiRowInsertBatch = null;
+		}
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
@@ -18,6 +18,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -54,6 +55,10 @@ class StatementPreparerImpl implements StatementPreparer {
 		return jdbcCoordinator.getLogicalConnection();
 	}
 
+	protected final ResourceRegistry resourceRegistry() {
+		return logicalConnection().getResourceRegistry();
+	}
+
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
@@ -89,6 +94,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected boolean isCacheable() {
+				return !isCallable;
+			}
 		};
 	}
 
@@ -148,6 +158,11 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected boolean isCacheable() {
+					return !isCallable;
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -169,15 +184,23 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				PreparedStatement preparedStatement = isCacheable()
+						? resourceRegistry().takeCachedStatement( sql )
+						: null;
+				if ( preparedStatement != null ) {
+					observer.jdbcPrepareStatementCacheHit();
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -189,8 +212,21 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * Whether the statement is prepared without any options, so that it
+		 * may be reused from the statement cache for the same SQL.
+		 */
+		protected boolean isCacheable() {
+			return false;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			if ( isCacheable() ) {
+				resourceRegistry().registerCacheable( preparedStatement, sql );
+			}
+			else {
+				resourceRegistry().register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
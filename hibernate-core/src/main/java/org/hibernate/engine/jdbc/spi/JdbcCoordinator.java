@@ -14,6 +14,7 @@ import java.sql.Statement;
 
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
 import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransactionAccess;
@@ -43,6 +44,19 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	Batch getBatch(BatchKey key);
 
+	/**
+	 * Get a batch instance merging single-row inserts into multi-row inserts,
+	 * which is managed in place of the current {@linkplain #getBatch batch}.
+	 *
+	 * @param key The unique batch key.
+	 * @param rowsPerStatement The maximum number of rows inserted by a single statement
+	 *
+	 * @return The batch, or {@code null} if rows should rather be inserted by a regular batch
+	 */
+	default MultiRowInsertBatch getMultiRowInsertBatch(BatchKey key, int rowsPerStatement) {
+		return null;
+	}
+
 	/**
 	 * Execute the currently managed batch (if any)
 	 */
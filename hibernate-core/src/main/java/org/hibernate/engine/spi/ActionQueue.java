@@ -35,6 +35,7 @@ import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.action.internal.OrphanRemovalAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.action.internal.UnresolvedEntityInsertActions;
@@ -42,11 +43,13 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.EntityInsertOrdering;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -69,7 +72,7 @@ import org.hibernate.type.Type;
 public class ActionQueue {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ActionQueue.class );
 
-	private final SessionImplementor session;
+	private SessionImplementor session;
 
 	private UnresolvedEntityInsertActions unresolvedInsertions;
 
@@ -82,6 +85,9 @@ public class ActionQueue {
 	private ExecutableList<AbstractEntityInsertAction> insertions;
 	private ExecutableList<EntityDeleteAction> deletions;
 	private ExecutableList<EntityUpdateAction> updates;
+	// upserts follow the insertions and updates, since their rows may refer
+	// to the rows of instances persisted or updated before
+	private ExecutableList<EntityUpsertAction> upserts;
 
 	// Actually the semantics of the next three are really "Bag"
 	// Note that, unlike objects, collection insertions, updates,
@@ -106,7 +112,7 @@ public class ActionQueue {
 	 */
 	private static final LinkedHashMap<Class<? extends Executable>,ListProvider<?>> EXECUTABLE_LISTS_MAP;
 	static {
-		EXECUTABLE_LISTS_MAP = CollectionHelper.linkedMapOfSize( 8 );
+		EXECUTABLE_LISTS_MAP = CollectionHelper.linkedMapOfSize( 9 );
 
 		EXECUTABLE_LISTS_MAP.put(
 				OrphanRemovalAction.class,
@@ -153,6 +159,18 @@ public class ActionQueue {
 					}
 				}
 		);
+		EXECUTABLE_LISTS_MAP.put(
+				EntityUpsertAction.class,
+				new ListProvider<EntityUpsertAction>() {
+					ExecutableList<EntityUpsertAction> get(ActionQueue instance) {
+						return instance.upserts;
+					}
+					ExecutableList<EntityUpsertAction> init(ActionQueue instance) {
+						// EntityUpsertAction executables are executed in the order of the upsert() calls
+						return instance.upserts = new ExecutableList<>( false );
+					}
+				}
+		);
 		EXECUTABLE_LISTS_MAP.put(
 				QueuedOperationCollectionAction.class,
 				new ListProvider<QueuedOperationCollectionAction>() {
@@ -241,6 +259,44 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Clears this queue, and unbinds it from its session, so that it may be
+	 * {@linkplain #bind bound} to another session of the same factory.  The
+	 * lists of actions are kept, unless they grew beyond the given capacity.
+	 *
+	 * @param maxCapacity The largest capacity of a list worth keeping
+	 */
+	public void reset(int maxCapacity) {
+		insertions = reset( insertions, maxCapacity );
+		deletions = reset( deletions, maxCapacity );
+		updates = reset( updates, maxCapacity );
+		upserts = reset( upserts, maxCapacity );
+		collectionCreations = reset( collectionCreations, maxCapacity );
+		collectionUpdates = reset( collectionUpdates, maxCapacity );
+		collectionQueuedOps = reset( collectionQueuedOps, maxCapacity );
+		collectionRemovals = reset( collectionRemovals, maxCapacity );
+		orphanRemovals = reset( orphanRemovals, maxCapacity );
+		unresolvedInsertions = null;
+		beforeTransactionProcesses = null;
+		afterTransactionProcesses = null;
+		isTransactionCoordinatorShared = false;
+		session = null;
+	}
+
+	private static <E extends Executable & Comparable<? super E> & Serializable> ExecutableList<E> reset(
+			ExecutableList<E> list,
+			int maxCapacity) {
+		return list != null && list.reset( maxCapacity ) ? list : null;
+	}
+
+	/**
+	 * Binds this queue, previously {@linkplain #reset reset}, to the given session.
+	 */
+	public void bind(SessionImplementor session) {
+		assert this.session == null;
+		this.session = session;
+	}
+
 	/**
 	 * Adds an entity insert action
 	 *
@@ -349,6 +405,15 @@ public class ActionQueue {
 		addAction( EntityUpdateAction.class, action );
 	}
 
+	/**
+	 * Adds an entity upsert action
+	 *
+	 * @param action The action representing the entity upsert
+	 */
+	public void addAction(EntityUpsertAction action) {
+		addAction( EntityUpsertAction.class, action );
+	}
+
 	/**
 	 * Adds a collection (re)create action
 	 *
@@ -607,23 +672,29 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
+			final int size = list.size();
+			for ( int i = 0; i < size; i++ ) {
+				final E e = list.get( i );
+				if ( e instanceof EntityIdentityInsertAction && ( (EntityIdentityInsertAction) e ).isBatchable() ) {
+					final List<EntityIdentityInsertAction> batch = collectIdentityInsertBatch( list, i );
+					if ( batch.size() > 1 ) {
+						try {
+							EntityIdentityInsertAction.executeBatch( batch );
+						}
+						finally {
+							for ( EntityIdentityInsertAction action : batch ) {
+								registerTransactionCompletionProcesses( action );
+							}
+						}
+						i += batch.size() - 1;
+						continue;
+					}
+				}
 				try {
 					e.execute();
 				}
 				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
-					}
+					registerTransactionCompletionProcesses( e );
 				}
 			}
 		}
@@ -641,6 +712,59 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(Executable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Collect the consecutive batchable identity insertions of the same entity
+	 * which start at the given position, up to the JDBC batch size, stopping at
+	 * an insertion which refers to one of the entities inserted before it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private <E extends Executable & Comparable<? super E> & Serializable> List<EntityIdentityInsertAction> collectIdentityInsertBatch(
+			ExecutableList<E> list,
+			int start) {
+		final EntityIdentityInsertAction first = (EntityIdentityInsertAction) list.get( start );
+		final List<EntityIdentityInsertAction> batch = new ArrayList<>();
+		batch.add( first );
+
+		final Integer batchSize = session.getConfiguredJdbcBatchSize();
+		if ( batchSize == null || batchSize <= 1 ) {
+			return batch;
+		}
+
+		final Set<Object> instances = new IdentitySet<>();
+		instances.add( first.getInstance() );
+		for ( int i = start + 1; i < list.size() && batch.size() < batchSize; i++ ) {
+			final E e = list.get( i );
+			if ( !( e instanceof EntityIdentityInsertAction ) ) {
+				break;
+			}
+			final EntityIdentityInsertAction action = (EntityIdentityInsertAction) e;
+			if ( action.getPersister() != first.getPersister()
+					|| !action.isBatchable()
+					|| action.references( instances ) ) {
+				break;
+			}
+			batch.add( action );
+			instances.add( action.getInstance() );
+		}
+		return batch;
+	}
+
 	private static String[] convertTimestampSpaces(Set<String> spaces) {
 		return spaces.toArray(StringHelper.EMPTY_STRINGS);
 	}
@@ -684,6 +808,7 @@ public class ActionQueue {
 	public String toString() {
 		return "ActionQueue[insertions=" + toString( insertions )
 				+ " updates=" + toString( updates )
+				+ " upserts=" + toString( upserts )
 				+ " deletions=" + toString( deletions )
 				+ " orphanRemovals=" + toString( orphanRemovals )
 				+ " collectionCreations=" + toString( collectionCreations )
@@ -732,6 +857,13 @@ public class ActionQueue {
 		return updates.size();
 	}
 
+	public int numberOfUpserts() {
+		if ( upserts == null ) {
+			return 0;
+		}
+		return upserts.size();
+	}
+
 	public int numberOfInsertions() {
 		if ( insertions == null ) {
 			return 0;
@@ -835,6 +967,7 @@ public class ActionQueue {
 
 	public boolean hasAnyQueuedActions() {
 		return ( updates != null && !updates.isEmpty() ) || ( insertions != null && !insertions.isEmpty() ) || hasUnresolvedEntityInsertActions()
+				|| ( upserts != null && !upserts.isEmpty() )
 				|| ( deletions != null && !deletions.isEmpty()) || ( collectionUpdates != null && !collectionUpdates.isEmpty() )
 				|| ( collectionQueuedOps != null && !collectionQueuedOps.isEmpty() ) || ( collectionRemovals != null && !collectionRemovals.isEmpty() )
 				|| ( collectionCreations != null && !collectionCreations.isEmpty() );
@@ -1154,6 +1287,92 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
+			if ( insertions.isEmpty() ) {
+				return;
+			}
+			final EntityInsertOrdering ordering = insertions.get( 0 )
+					.getSession()
+					.getFactory()
+					.getFastSessionServices()
+					.getEntityInsertOrdering();
+			if ( ordering == null || !sortByEntityDependencies( insertions, ordering ) ) {
+				sortByInstanceDependencies( insertions );
+			}
+		}
+
+		/**
+		 * Group the insert actions by entity, and order the groups using the
+		 * dependencies between entities, which were determined from the mapping.
+		 * Groups which do not depend on each other keep the order in which their
+		 * entities first appear.
+		 *
+		 * @return {@code false} if the entities of the insert actions depend on
+		 * each other, in which case the actions were left untouched
+		 */
+		private static boolean sortByEntityDependencies(
+				List<AbstractEntityInsertAction> insertions,
+				EntityInsertOrdering ordering) {
+			final Map<String, List<AbstractEntityInsertAction>> actionsByEntityName = new LinkedHashMap<>();
+			for ( AbstractEntityInsertAction action : insertions ) {
+				actionsByEntityName.computeIfAbsent( action.getEntityName(), (entityName) -> new ArrayList<>() )
+						.add( action );
+			}
+
+			final int size = actionsByEntityName.size();
+			final List<List<AbstractEntityInsertAction>> batches = new ArrayList<>( actionsByEntityName.values() );
+			final int[] indexes = new int[size];
+			int position = 0;
+			for ( String entityName : actionsByEntityName.keySet() ) {
+				final int index = ordering.getIndex( entityName );
+				if ( index < 0 ) {
+					return false;
+				}
+				indexes[position++] = index;
+			}
+
+			// the number of batches which must be inserted before each batch
+			final int[] pendingDependencies = new int[size];
+			for ( int i = 0; i < size; i++ ) {
+				for ( int j = 0; j < size; j++ ) {
+					if ( i != j && ordering.dependsOn( indexes[i], indexes[j] ) ) {
+						pendingDependencies[i]++;
+					}
+				}
+			}
+
+			final boolean[] added = new boolean[size];
+			final List<AbstractEntityInsertAction> sorted = new ArrayList<>( insertions.size() );
+			for ( int count = 0; count < size; count++ ) {
+				int next = -1;
+				for ( int i = 0; i < size; i++ ) {
+					if ( !added[i] && pendingDependencies[i] == 0 ) {
+						next = i;
+						break;
+					}
+				}
+				if ( next < 0 ) {
+					// a cycle of dependencies
+					return false;
+				}
+				added[next] = true;
+				sorted.addAll( batches.get( next ) );
+				for ( int i = 0; i < size; i++ ) {
+					if ( !added[i] && ordering.dependsOn( indexes[i], indexes[next] ) ) {
+						pendingDependencies[i]--;
+					}
+				}
+			}
+
+			insertions.clear();
+			insertions.addAll( sorted );
+			return true;
+		}
+
+		/**
+		 * Sort the insert actions using the dependencies between the inserted
+		 * instances, which resolves cycles of dependencies between entities.
+		 */
+		private void sortByInstanceDependencies(List<AbstractEntityInsertAction> insertions) {
 			// optimize the hash size to eliminate a rehash.
 			this.actionBatches = new HashMap<>();
 
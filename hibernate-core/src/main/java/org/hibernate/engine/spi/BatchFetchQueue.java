@@ -183,6 +183,18 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The number of entity keys of the given entity which are waiting to be
+	 * batch fetched, including any which are cached
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * Get a batch of unloaded identifiers for this class, using a slightly
 	 * complex algorithm that tries to grab keys registered immediately after
@@ -292,6 +304,19 @@ public class BatchFetchQueue {
 		}
 	}
 
+	/**
+	 * The number of uninitialized collections of the given role which are
+	 * waiting to be batch fetched
+	 */
+	public int getBatchLoadableCollectionCount(CollectionPersister collectionPersister) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( collectionPersister.getRole() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * Get a batch of uninitialized collection keys for a given role
 	 *
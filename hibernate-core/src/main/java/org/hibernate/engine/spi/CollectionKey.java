@@ -64,6 +64,17 @@ public final class CollectionKey implements Serializable {
 		return key;
 	}
 
+	/**
+	 * The type of the {@linkplain #getKey() key}, which defines its equality
+	 */
+	public Type getKeyType() {
+		return keyType;
+	}
+
+	public SessionFactoryImplementor getFactory() {
+		return factory;
+	}
+
 	@Override
 	public String toString() {
 		final CollectionPersister collectionDescriptor = factory.getRuntimeMetamodels()
@@ -54,6 +54,9 @@ public class ExecutableList<E extends Executable & Comparable<? super E> & Seria
 	private final boolean requiresSorting;
 	private boolean sorted;
 
+	// the largest number of executions held, which bounds the capacity of the list
+	private transient int maxSize;
+
 	/**
 	 * Used to hold the query spaces (table names, roughly) that all the {@link Executable}
 	 * instances contained in this list define. This information is ultimately used to
@@ -178,6 +181,19 @@ public class ExecutableList<E extends Executable & Comparable<? super E> & Seria
 		sorted = requiresSorting;
 	}
 
+	/**
+	 * Clears the list of executions, for reuse by another session.
+	 *
+	 * @param maxCapacity The largest capacity worth keeping
+	 *
+	 * @return {@code false} if the list grew beyond the given capacity, and
+	 * should be discarded rather than reused
+	 */
+	public boolean reset(int maxCapacity) {
+		clear();
+		return maxSize <= maxCapacity;
+	}
+
 	/**
 	 * Removes the last n entries from the list.
 	 * 
@@ -211,6 +227,9 @@ public class ExecutableList<E extends Executable & Comparable<? super E> & Seria
 		if ( !added ) {
 			return false;
 		}
+		if ( executables.size() > maxSize ) {
+			maxSize = executables.size();
+		}
 
 		// if it was sorted before the addition, then check if the addition invalidated the sorting
 		if ( sorted ) {
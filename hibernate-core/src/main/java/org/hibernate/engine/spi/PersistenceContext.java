@@ -161,6 +161,19 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance associated with the {@link EntityKey} of the
+	 * given identifier and persister, without creating the key
+	 *
+	 * @param id The identifier of the entity, not null
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -170,6 +183,19 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Is there an entity with the {@link EntityKey} of the given identifier
+	 * and persister in the persistence context
+	 *
+	 * @param id The identifier of the entity, not null
+	 * @param persister The persister of the entity
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 */
+	default boolean containsEntity(Object id, EntityPersister persister) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -490,6 +516,38 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos of the entities which the next flush must visit,
+	 * that is, all entities but those {@linkplain #markEntityClean marked clean}, in the manner of
+	 * {@link #reentrantSafeEntityEntries()}.
+	 */
+	default Map.Entry<Object,EntityEntry>[] reentrantSafeDirtyEntityEntries() {
+		return reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Notify the context that the given managed entity might have been modified since it was
+	 * last flushed, so that the next flush visits it even if it was {@linkplain #markEntityClean
+	 * marked clean}.
+	 */
+	default void markEntityDirty(Object entity) {
+	}
+
+	/**
+	 * Mark the given managed entity, which was found clean by the ongoing flush, as not needing
+	 * to be visited by later flushes until it is {@linkplain #markEntityDirty marked dirty}.
+	 * Only entities which notify the context of all their modifications may be marked clean.
+	 */
+	default void markEntityClean(Object entity) {
+	}
+
+	/**
+	 * Is the given managed entity {@linkplain #markEntityClean marked clean}?
+	 */
+	default boolean isEntityMarkedClean(Object entity) {
+		return false;
+	}
+
 //	/**
 //	 * Get the mapping from entity instance to entity entry
 //	 *
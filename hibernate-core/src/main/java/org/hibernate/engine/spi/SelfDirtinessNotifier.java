@@ -0,0 +1,17 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * Marks an enhanced {@link SelfDirtinessTracker} entity which notifies its persistence context
+ * whenever its tracker records a first change, so that a flush need not visit it again until
+ * it is modified.
+ *
+ * @see PersistenceContext#markEntityDirty(Object)
+ */
+public interface SelfDirtinessNotifier {
+}
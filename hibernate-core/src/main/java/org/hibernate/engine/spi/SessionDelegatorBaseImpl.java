@@ -774,6 +774,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.replicate( entityName, object, replicationMode );
 	}
 
+	@Override
+	public void upsert(Object object) {
+		delegate.upsert( object );
+	}
+
+	@Override
+	public void upsert(String entityName, Object object) {
+		delegate.upsert( entityName, object );
+	}
+
 	@Override
 	public Object save(Object object) {
 		return delegate.save( object );
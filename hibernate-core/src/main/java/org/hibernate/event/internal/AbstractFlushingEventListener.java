@@ -6,14 +6,20 @@
  */
 package org.hibernate.event.internal;
 
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Objects;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -24,6 +30,10 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -36,6 +46,8 @@ import org.hibernate.event.spi.PersistContext;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -137,7 +149,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final PersistContext context = getContext();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		// entities marked clean have no cascades, so we only need to visit the others
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeDirtyEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
@@ -200,18 +213,34 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// Entities marked clean by a previous flush are skipped entirely: they notify
+		// the persistence context as soon as they are modified.
+
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeDirtyEntityEntries();
 		final int count = entityEntries.length;
+		final DefaultFlushEntityEventListener defaultListener = getDefaultListener( source, flushListeners );
+		final boolean defaultDirtyCheck = defaultListener != null;
+		final FlushEntityEvent[] precomputedEvents = defaultDirtyCheck
+				? dirtyCheckInParallel( source, entityEntries, defaultListener )
+				: null;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				final Object entity = me.getKey();
+				final boolean clean = defaultDirtyCheck && isUnequivocallyClean( entity, entry );
+				final FlushEntityEvent entityEvent = precomputedEvents == null || precomputedEvents[i] == null
+						? new FlushEntityEvent( source, entity, entry )
+						: precomputedEvents[i];
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( clean ) {
+					persistenceContext.markEntityClean( entity );
+				}
 			}
 		}
 
@@ -220,6 +249,127 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	/**
+	 * Entities may only be marked clean, or dirty checked in parallel, when
+	 * nothing but the default listener and interceptor is involved in their
+	 * dirty check
+	 *
+	 * @return the default listener, if it is the only one involved, or null
+	 */
+	private static DefaultFlushEntityEventListener getDefaultListener(
+			EventSource session,
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE || flushListeners.count() != 1 ) {
+			return null;
+		}
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener.getClass() == DefaultFlushEntityEventListener.class ) {
+				return (DefaultFlushEntityEventListener) listener;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * When the session holds enough entities, compare the current state of the
+	 * entities which are only made of basic values with their loaded state, on
+	 * the threads of the common fork/join pool.  This only reads the entities and
+	 * their entries: the events are then fired, and the updates scheduled, in the
+	 * usual order, on the flushing thread.  Since a pre-update callback could
+	 * modify any entity before it is visited, none may be registered.
+	 *
+	 * @return the events carrying the results, by index of entity, or null
+	 */
+	private static FlushEntityEvent[] dirtyCheckInParallel(
+			EventSource session,
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			DefaultFlushEntityEventListener listener) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int threshold = factory.getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold
+				|| !( factory.getCustomEntityDirtinessStrategy() instanceof DefaultCustomEntityDirtinessStrategy ) ) {
+			return null;
+		}
+
+		final FlushEntityEvent[] events = new FlushEntityEvent[entityEntries.length];
+		final Map<EntityPersister, Boolean> basicPersisters = new IdentityHashMap<>();
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			final EntityPersister persister = entry.getPersister();
+			Boolean basic = basicPersisters.get( persister );
+			if ( basic == null ) {
+				if ( listener.hasPreUpdateCallbacks( persister ) ) {
+					return null;
+				}
+				basic = hasOnlyBasicProperties( persister );
+				basicPersisters.put( persister, basic );
+			}
+			if ( basic
+					&& entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& entry.isModifiableEntity()
+					// enhanced entities track their own dirtiness, or might be lazy
+					&& !( entity instanceof PersistentAttributeInterceptable )
+					&& !( entity instanceof SelfDirtinessTracker ) ) {
+				events[i] = new FlushEntityEvent( session, entity, entry );
+			}
+		}
+
+		Arrays.stream( events ).parallel().filter( Objects::nonNull ).forEach(
+				event -> {
+					final EntityEntry entry = event.getEntityEntry();
+					final EntityPersister persister = entry.getPersister();
+					final Object[] values = persister.getValues( event.getEntity() );
+					event.setPrecomputedDirtyCheck(
+							values,
+							persister.findDirty( values, entry.getLoadedState(), event.getEntity(), session )
+					);
+				}
+		);
+		return events;
+	}
+
+	/**
+	 * Comparing basic values never touches the session
+	 */
+	private static boolean hasOnlyBasicProperties(EntityPersister persister) {
+		for ( Type type : persister.getPropertyTypes() ) {
+			if ( !( type instanceof BasicType ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Is the given entity certain to be found clean by the default listener, and
+	 * certain to notify the persistence context of its next modification?  An entity
+	 * with mutable properties, cascades, or a version incremented by its collections
+	 * could become dirty without any notification.
+	 */
+	private static boolean isUnequivocallyClean(Object entity, EntityEntry entry) {
+		if ( !( entity instanceof SelfDirtinessNotifier ) || !( entity instanceof SelfDirtinessTracker ) ) {
+			return false;
+		}
+		final Status status = entry.getStatus();
+		if ( status != Status.MANAGED && status != Status.READ_ONLY ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasMutableProperties()
+				|| persister.hasCascades()
+				|| persister.isVersioned() && persister.hasCollections() ) {
+			return false;
+		}
+		if ( entity instanceof PersistentAttributeInterceptable
+				&& ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor()
+						instanceof EnhancementAsProxyLazinessInterceptor ) {
+			return false;
+		}
+		return !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -233,7 +383,21 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					if ( !collectionEntry.isReached() && !collectionEntry.isIgnore() ) {
-						Collections.processUnreachableCollection( persistentCollection, session );
+						final Object owner = persistentCollection.getOwner();
+						if ( owner != null
+								&& collectionEntry.getLoadedPersister() != null
+								&& persistenceContext.isEntityMarkedClean( owner ) ) {
+							// the owner was skipped by flushEntities(), but it still references its collection
+							Collections.processReachableCollection(
+									persistentCollection,
+									collectionEntry.getLoadedPersister().getCollectionType(),
+									owner,
+									session
+							);
+						}
+						else {
+							Collections.processUnreachableCollection( persistentCollection, session );
+						}
 					}
 				}, true );
 
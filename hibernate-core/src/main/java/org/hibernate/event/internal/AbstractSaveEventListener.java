@@ -241,7 +241,9 @@ public abstract class AbstractSaveEventListener<C>
 		Object id = key == null ? null : key.getIdentifier();
 
 		boolean inTrx = source.isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTrx && !requiresImmediateIdAccess;
+		// inserts which may be batched are delayed until flush even in a transaction
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTrx || useIdentityColumn && persister.canBatchIdentityInserts() );
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
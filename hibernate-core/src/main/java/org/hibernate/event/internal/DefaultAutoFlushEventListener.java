@@ -86,6 +86,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
 			&& ( persistenceContext.getNumberOfManagedEntities() > 0
-				|| persistenceContext.getCollectionEntriesSize() > 0 );
+				|| persistenceContext.getCollectionEntriesSize() > 0
+				|| source.getActionQueue().numberOfUpserts() > 0 );
 	}
 }
@@ -15,6 +15,7 @@ import org.hibernate.action.internal.OrphanRemovalAction;
 import org.hibernate.classic.Lifecycle;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
@@ -247,6 +248,7 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final Object version = entityEntry.getVersion();
 
+		CompactSnapshots.materializeLoadedState( entityEntry, session );
 		final Object[] currentState = entityEntry.getLoadedState() == null
 				? persister.getValues(entity) //i.e. the entity came in from update()
 				: entityEntry.getLoadedState();
@@ -17,6 +17,7 @@ import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -36,6 +37,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -57,6 +59,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		this.callbackRegistry = callbackRegistry;
 	}
 
+	boolean hasPreUpdateCallbacks(EntityPersister persister) {
+		return callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE );
+	}
+
 	/**
 	 * make sure user didn't mangle the id
 	 */
@@ -122,7 +128,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, entity, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -150,7 +156,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			FlushEntityEvent event,
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -165,8 +176,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 			checkId( entity, persister, entry.getId(), session );
 
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already grabbed for a parallel dirty check
+			final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+			Object[] values = precomputedValues == null ? persister.getValues( entity ) : precomputedValues;
 
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 
@@ -236,6 +248,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		logScheduleUpdate( entry, session, status, persister );
 
+		// the interceptor, the optimistic lock, and the update events need the old values
+		CompactSnapshots.materializeLoadedState( entry, session );
+
 		final boolean intercepted = !entry.isBeingReplicated() && handleInterception( event );
 
 		// increment the version number (if necessary)
@@ -549,8 +564,16 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				// object loaded by update()
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
-					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					if ( values == event.getPrecomputedPropertyValues() ) {
+						// the dirty check was done in parallel with other entities
+						dirtyProperties = event.getPrecomputedDirtyProperties();
+						// but the values might be changed by callbacks before the next dirty check
+						event.setPrecomputedDirtyCheck( null, null );
+					}
+					else {
+						// dirty check against the usual snapshot of the entity
+						dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					}
 				}
 				else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -30,7 +30,9 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
-				persistenceContext.getCollectionEntriesSize() > 0 ) {
+				persistenceContext.getCollectionEntriesSize() > 0 ||
+				// upserts are queued for instances not associated with the session
+				source.getActionQueue().numberOfUpserts() > 0 ) {
 
 			try {
 				source.getEventListenerManager().flushStart();
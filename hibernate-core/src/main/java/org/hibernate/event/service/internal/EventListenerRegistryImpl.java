@@ -68,6 +68,7 @@ import static org.hibernate.event.spi.EventType.POST_DELETE;
 import static org.hibernate.event.spi.EventType.POST_INSERT;
 import static org.hibernate.event.spi.EventType.POST_LOAD;
 import static org.hibernate.event.spi.EventType.POST_UPDATE;
+import static org.hibernate.event.spi.EventType.POST_UPSERT;
 import static org.hibernate.event.spi.EventType.PRE_COLLECTION_RECREATE;
 import static org.hibernate.event.spi.EventType.PRE_COLLECTION_REMOVE;
 import static org.hibernate.event.spi.EventType.PRE_COLLECTION_UPDATE;
@@ -75,6 +76,7 @@ import static org.hibernate.event.spi.EventType.PRE_DELETE;
 import static org.hibernate.event.spi.EventType.PRE_INSERT;
 import static org.hibernate.event.spi.EventType.PRE_LOAD;
 import static org.hibernate.event.spi.EventType.PRE_UPDATE;
+import static org.hibernate.event.spi.EventType.PRE_UPSERT;
 import static org.hibernate.event.spi.EventType.REFRESH;
 import static org.hibernate.event.spi.EventType.REPLICATE;
 import static org.hibernate.event.spi.EventType.RESOLVE_NATURAL_ID;
@@ -278,6 +280,9 @@ public class EventListenerRegistryImpl implements EventListenerRegistry {
 			// pre-update listeners
 			prepareListeners( PRE_UPDATE );
 
+			// pre-upsert listeners
+			prepareListeners( PRE_UPSERT );
+
 			// post-collection-recreate listeners
 			prepareListeners( POST_COLLECTION_RECREATE );
 
@@ -308,6 +313,9 @@ public class EventListenerRegistryImpl implements EventListenerRegistry {
 			// post-update listeners
 			prepareListeners( POST_UPDATE, new PostUpdateEventListenerStandardImpl() );
 
+			// post-upsert listeners
+			prepareListeners( POST_UPSERT );
+
 			// update listeners
 			prepareListeners( UPDATE, new DefaultUpdateEventListener() );
 
@@ -19,6 +19,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private final EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -72,4 +74,19 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * The current state of the entity and its dirty properties, as determined
+	 * ahead of the event by comparison with its loaded state, or null
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
 }
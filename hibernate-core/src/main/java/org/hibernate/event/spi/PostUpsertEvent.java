@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Occurs after the row of an entity is inserted or updated by an upsert statement
+ */
+public class PostUpsertEvent extends AbstractEvent {
+	private final Object entity;
+	private final EntityPersister persister;
+	private final Object id;
+	private final Object[] state;
+
+	public PostUpsertEvent(
+			Object entity,
+			Object id,
+			Object[] state,
+			EntityPersister persister,
+			EventSource source) {
+		super( source );
+		this.entity = entity;
+		this.id = id;
+		this.state = state;
+		this.persister = persister;
+	}
+
+	public Object getEntity() {
+		return entity;
+	}
+
+	public Object getId() {
+		return id;
+	}
+
+	public EntityPersister getPersister() {
+		return persister;
+	}
+
+	public Object[] getState() {
+		return state;
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+/**
+ * Called after inserting or updating the row of an entity with an upsert statement
+ *
+ * @see org.hibernate.Session#upsert(Object)
+ */
+public interface PostUpsertEventListener {
+	void onPostUpsert(PostUpsertEvent event);
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Represents a {@code pre-upsert} event, which occurs just prior to
+ * inserting or updating the row of an entity with an upsert statement.
+ */
+public class PreUpsertEvent extends AbstractPreDatabaseOperationEvent {
+	private final Object[] state;
+
+	/**
+	 * Constructs an event containing the pertinent information.
+	 *
+	 * @param entity The entity to be upserted.
+	 * @param id The id of the entity.
+	 * @param state The state to be inserted or updated.
+	 * @param persister The entity's persister.
+	 * @param source The session from which the event originated.
+	 */
+	public PreUpsertEvent(
+			Object entity,
+			Object id,
+			Object[] state,
+			EntityPersister persister,
+			EventSource source) {
+		super( source, entity, id, persister );
+		this.state = state;
+	}
+
+	/**
+	 * The state to be inserted or updated, which listeners may modify.
+	 *
+	 * @return The current state.
+	 */
+	public Object[] getState() {
+		return state;
+	}
+}
@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+/**
+ * Called before inserting or updating the row of an entity with an upsert statement
+ *
+ * @see org.hibernate.Session#upsert(Object)
+ */
+public interface PreUpsertEventListener {
+	/**
+	 * Return true if the operation should be vetoed
+	 */
+	boolean onPreUpsert(PreUpsertEvent event);
+}
@@ -6,8 +6,20 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -28,6 +40,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final RowProcessingStateStandardImpl rowProcessingState;
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
+	private final List<Object> processedEntities;
 
 	private boolean closed;
 
@@ -44,6 +57,15 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+
+		if ( jdbcValuesSourceProcessingState.getQueryOptions().isEvictingProcessedEntities()
+				&& persistenceContext instanceof EventSource ) {
+			this.processedEntities = new ArrayList<>();
+			jdbcValuesSourceProcessingState.collectLoadedEntities( processedEntities );
+		}
+		else {
+			this.processedEntities = null;
+		}
 	}
 
 
@@ -85,6 +107,79 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Evict the entities loaded by the rows read so far, and the proxies
+	 * created for their associations, before the next row is read, if the
+	 * query asked for it
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_EVICT_PROCESSED
+	 */
+	protected void evictProcessedEntities() {
+		if ( processedEntities == null || processedEntities.isEmpty() ) {
+			return;
+		}
+		final EventSource session = (EventSource) persistenceContext;
+		for ( int i = 0; i < processedEntities.size(); i++ ) {
+			final Object entity = processedEntities.get( i );
+			if ( entity instanceof HibernateProxy ) {
+				evictProxy( (HibernateProxy) entity, session );
+			}
+			else {
+				evictEntity( entity, session );
+			}
+		}
+		processedEntities.clear();
+	}
+
+	private static void evictProxy(HibernateProxy proxy, EventSource session) {
+		final LazyInitializer lazyInitializer = proxy.getHibernateLazyInitializer();
+		if ( lazyInitializer.getSession() != session ) {
+			// already evicted
+			return;
+		}
+		if ( !lazyInitializer.isUninitialized() ) {
+			evictEntity( lazyInitializer.getImplementation(), session );
+		}
+		final PersistenceContext context = session.getPersistenceContextInternal();
+		final EntityKey key = session.generateEntityKey(
+				lazyInitializer.getInternalIdentifier(),
+				session.getFactory()
+						.getRuntimeMetamodels()
+						.getMappingMetamodel()
+						.getEntityDescriptor( lazyInitializer.getEntityName() )
+		);
+		if ( context.getProxy( key ) == proxy ) {
+			context.removeProxy( key );
+			context.getBatchFetchQueue().removeBatchLoadableEntityKey( key );
+			lazyInitializer.unsetSession();
+		}
+	}
+
+	/**
+	 * Evict the given entity, as {@link org.hibernate.Session#evict} would,
+	 * but without cascading: the entities of the row reached by a cascade
+	 * are evicted themselves, and the others were already managed before
+	 * the query read them.
+	 */
+	private static void evictEntity(Object entity, EventSource session) {
+		final PersistenceContext context = session.getPersistenceContextInternal();
+		final EntityEntry entry = context.getEntry( entity );
+		// entities deleted since they were read are still needed by the flush
+		if ( entry == null || ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) ) {
+			return;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			context.getNaturalIdResolutions().handleEviction( entity, key.getIdentifier(), persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session, entity ).process( entity, persister );
+		}
+		context.removeEntity( key );
+		context.removeEntry( entity );
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
@@ -97,6 +192,8 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 		getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 
+		evictProcessedEntities();
+
 		this.closed = true;
 	}
 
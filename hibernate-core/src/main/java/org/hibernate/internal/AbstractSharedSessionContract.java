@@ -675,7 +675,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 			final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
 					hqlString,
-					s -> queryEngine.getHqlTranslator().translate( hqlString )
+					s -> queryEngine.getHqlTranslator().translate( s )
 			);
 
 			if ( !( hqlInterpretation.getSqmStatement() instanceof SqmSelectStatement ) ) {
@@ -735,7 +735,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 					queryString,
 					interpretationCache.resolveHqlInterpretation(
 							queryString,
-							s -> queryEngine.getHqlTranslator().translate( queryString )
+							s -> queryEngine.getHqlTranslator().translate( s )
 					),
 					resultClass,
 					this
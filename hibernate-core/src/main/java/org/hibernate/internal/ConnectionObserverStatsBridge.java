@@ -46,4 +46,11 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 			statistics.prepareStatement();
 		}
 	}
+
+	public void statementCacheHit() {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.prepareStatementCacheHit();
+		}
+	}
 }
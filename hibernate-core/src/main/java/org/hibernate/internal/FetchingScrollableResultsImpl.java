@@ -302,6 +302,8 @@ public class FetchingScrollableResultsImpl<R> extends AbstractScrollableResults<
 	}
 
 	private boolean prepareCurrentRow() {
+		evictProcessedEntities();
+
 		if ( getRowProcessingState().isBeforeFirst() ) {
 			getRowProcessingState().next();
 		}
@@ -56,6 +56,11 @@ public final class JdbcObserverImpl implements JdbcObserver {
 		eventListenerManager.jdbcPrepareStatementEnd();
 	}
 
+	@Override
+	public void jdbcPrepareStatementCacheHit() {
+		observer.statementCacheHit();
+	}
+
 	@Override
 	public void jdbcExecuteStatementStart() {
 		eventListenerManager.jdbcExecuteStatementStart();
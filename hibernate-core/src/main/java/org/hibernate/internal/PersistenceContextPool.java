@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Keeps the persistence context and action queue of the last session closed
+ * by each thread, so that the next session opened by the thread resets and
+ * reuses them, rather than allocating new ones.
+ * <p>
+ * A session which is opened while the session of its thread is still open
+ * simply allocates its own.
+ * <p>
+ * The pool is emptied when the session factory is closed, so that threads
+ * which outlive the factory, for example the threads of a container's pool,
+ * do not keep it, nor its classloader, reachable.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#POOL_PERSISTENCE_CONTEXTS
+ */
+final class PersistenceContextPool {
+	// beyond this number of entries, the internal arrays are not worth keeping
+	static final int MAX_RETAINED_CAPACITY = 1024;
+
+	private final SessionFactoryImplementor factory;
+
+	// the slot of each thread is an AtomicReference, a JDK type, so that the
+	// slot left behind in a thread once the pool is closed pins no classloader
+	private final ThreadLocal<AtomicReference<Entry>> slots = ThreadLocal.withInitial( this::createSlot );
+	// the slots of all threads, so that close() can empty them
+	private final Map<Thread, AtomicReference<Entry>> allSlots = new WeakHashMap<>();
+
+	private volatile boolean closed;
+
+	PersistenceContextPool(SessionFactoryImplementor factory) {
+		this.factory = factory;
+	}
+
+	StatefulPersistenceContext acquirePersistenceContext(SessionImpl session) {
+		final Entry entry = getEntry( session );
+		final StatefulPersistenceContext persistenceContext = entry == null ? null : entry.persistenceContext;
+		if ( persistenceContext == null ) {
+			return new StatefulPersistenceContext( session );
+		}
+		entry.persistenceContext = null;
+		persistenceContext.bind( session );
+		return persistenceContext;
+	}
+
+	ActionQueue acquireActionQueue(SessionImpl session) {
+		final Entry entry = getEntry( session );
+		final ActionQueue actionQueue = entry == null ? null : entry.actionQueue;
+		if ( actionQueue == null ) {
+			return new ActionQueue( session );
+		}
+		entry.actionQueue = null;
+		actionQueue.bind( session );
+		return actionQueue;
+	}
+
+	/**
+	 * The entry of the current thread, if it was released by a session of the
+	 * factory of the given session, and this factory is still open
+	 */
+	private Entry getEntry(SessionImpl session) {
+		if ( closed ) {
+			return null;
+		}
+		final Entry entry = slots.get().get();
+		return entry != null && entry.factory == session.getFactory() && entry.factory.isOpen()
+				? entry
+				: null;
+	}
+
+	/**
+	 * Reset the given persistence context and action queue of a closed session,
+	 * and keep them for the next session of the current thread
+	 */
+	void release(StatefulPersistenceContext persistenceContext, ActionQueue actionQueue) {
+		if ( closed ) {
+			return;
+		}
+		persistenceContext.reset( MAX_RETAINED_CAPACITY );
+		actionQueue.reset( MAX_RETAINED_CAPACITY );
+		final AtomicReference<Entry> slot = slots.get();
+		slot.set( new Entry( factory, persistenceContext, actionQueue ) );
+		if ( closed ) {
+			// close() might not have seen the entry
+			slot.set( null );
+		}
+	}
+
+	/**
+	 * Empty the slots of all threads, and stop pooling, when the session
+	 * factory is closed
+	 */
+	void close() {
+		closed = true;
+		synchronized ( allSlots ) {
+			for ( AtomicReference<Entry> slot : allSlots.values() ) {
+				slot.set( null );
+			}
+			allSlots.clear();
+		}
+	}
+
+	private AtomicReference<Entry> createSlot() {
+		final AtomicReference<Entry> slot = new AtomicReference<>();
+		synchronized ( allSlots ) {
+			allSlots.put( Thread.currentThread(), slot );
+		}
+		return slot;
+	}
+
+	private static final class Entry {
+		private final SessionFactoryImplementor factory;
+		private StatefulPersistenceContext persistenceContext;
+		private ActionQueue actionQueue;
+
+		private Entry(
+				SessionFactoryImplementor factory,
+				StatefulPersistenceContext persistenceContext,
+				ActionQueue actionQueue) {
+			this.factory = factory;
+			this.persistenceContext = persistenceContext;
+			this.actionQueue = actionQueue;
+		}
+	}
+}
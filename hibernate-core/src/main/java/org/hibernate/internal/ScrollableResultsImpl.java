@@ -6,6 +6,10 @@
  */
 package org.hibernate.internal;
 
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -51,6 +55,45 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 		return result;
 	}
 
+	@Override
+	public boolean tryAdvanceLong(LongConsumer action) {
+		if ( !advanceWithoutReading() ) {
+			return false;
+		}
+		final long value = getRowReader().readLong( getRowProcessingState(), getProcessingOptions() );
+		finishCurrentRow();
+		action.accept( value );
+		return true;
+	}
+
+	@Override
+	public boolean tryAdvanceInt(IntConsumer action) {
+		if ( !advanceWithoutReading() ) {
+			return false;
+		}
+		final long value = getRowReader().readLong( getRowProcessingState(), getProcessingOptions() );
+		finishCurrentRow();
+		action.accept( Math.toIntExact( value ) );
+		return true;
+	}
+
+	@Override
+	public boolean tryAdvanceDouble(DoubleConsumer action) {
+		if ( !advanceWithoutReading() ) {
+			return false;
+		}
+		final double value = getRowReader().readDouble( getRowProcessingState(), getProcessingOptions() );
+		finishCurrentRow();
+		action.accept( value );
+		return true;
+	}
+
+	private boolean advanceWithoutReading() {
+		// the row is consumed as a primitive, so there is no current row to expose
+		currentRow = null;
+		return !isClosed() && getRowProcessingState().next();
+	}
+
 	@Override
 	public boolean previous() {
 		final boolean result = getRowProcessingState().previous();
@@ -117,6 +160,8 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		evictProcessedEntities();
+
 		if ( !underlyingScrollSuccessful ) {
 			currentRow = null;
 			return;
@@ -127,6 +172,10 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 				getProcessingOptions()
 		);
 
+		finishCurrentRow();
+	}
+
+	private void finishCurrentRow() {
 		getRowProcessingState().finishRowProcessing();
 		getJdbcValuesSourceProcessingState().finishUp();
 
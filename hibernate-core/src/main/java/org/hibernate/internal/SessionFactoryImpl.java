@@ -314,7 +314,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.queryEngine.prepare( this, bootMetamodel, bootstrapContext );
 
 			if ( options.isNamedQueryStartupCheckingEnabled() ) {
-				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
+				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries(
+						queryEngine,
+						options.getNamedQueryStartupCheckingParallelism()
+				);
 
 				if ( !errors.isEmpty() ) {
 					StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -393,6 +396,14 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			bootMetamodel.getMetadataBuildingOptions().getReflectionManager().reset();
 
 			this.entityNameResolver = new CoordinatingEntityNameResolver( this, getInterceptor() );
+
+			if ( options.isNamedQueryStartupCheckingEnabled() && defaultSessionOpenOptions != null ) {
+				// preparing the plans needs a session, so only now that sessions can be opened
+				queryEngine.getNamedObjectRepository().prepareNamedQueryPlans(
+						this,
+						options.getNamedQueryStartupCheckingParallelism()
+				);
+			}
 		}
 		catch (Exception e) {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
@@ -807,6 +818,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 				queryEngine.close();
 			}
 
+			if ( fastSessionServices != null && fastSessionServices.persistenceContextPool != null ) {
+				fastSessionServices.persistenceContextPool.close();
+			}
+
 			if ( delayedDropAction != null ) {
 				delayedDropAction.perform( serviceRegistry );
 			}
@@ -37,6 +37,7 @@ import org.hibernate.MappingException;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.NaturalIdMultiLoadAccess;
+import org.hibernate.NonUniqueObjectException;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ReplicationMode;
@@ -50,10 +51,12 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.action.internal.EntityUpsertAction;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -204,9 +207,16 @@ public class SessionImpl
 
 	private transient boolean isEnforcingFetchGraph;
 
+	// the pool to which the persistence context is released on close, if any
+	private transient PersistenceContextPool persistenceContextPool;
+	private transient boolean persistenceContextReleased;
+
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 
+		if ( !isTransactionCoordinatorShared( options ) ) {
+			this.persistenceContextPool = fastSessionServices.persistenceContextPool;
+		}
 		this.persistenceContext = createPersistenceContext();
 		this.actionQueue = createActionQueue();
 
@@ -273,12 +283,21 @@ public class SessionImpl
 		}
 	}
 
+	private static boolean isTransactionCoordinatorShared(SessionCreationOptions options) {
+		return options instanceof SharedSessionCreationOptions
+				&& ( (SharedSessionCreationOptions) options ).isTransactionCoordinatorShared();
+	}
+
 	protected StatefulPersistenceContext createPersistenceContext() {
-		return new StatefulPersistenceContext( this );
+		return persistenceContextPool == null
+				? new StatefulPersistenceContext( this )
+				: persistenceContextPool.acquirePersistenceContext( this );
 	}
 
 	protected ActionQueue createActionQueue() {
-		return new ActionQueue( this );
+		return persistenceContextPool == null
+				? new ActionQueue( this )
+				: persistenceContextPool.acquireActionQueue( this );
 	}
 
 	private LockOptions getLockOptionsForRead() {
@@ -519,7 +538,32 @@ public class SessionImpl
 	 */
 	@Override
 	protected void cleanupOnClose() {
-		persistenceContext.clear();
+		if ( persistenceContextReleased ) {
+			// the persistence context now belongs to the pool
+			return;
+		}
+		if ( persistenceContextPool != null && isReusableAfterClose() ) {
+			persistenceContextPool.release( persistenceContext, actionQueue );
+			persistenceContextReleased = true;
+			// they now belong to the next session of this thread, so any later
+			// use by this closed session must fail, rather than corrupt it
+			persistenceContext = null;
+			actionQueue = null;
+		}
+		else {
+			persistenceContext.clear();
+		}
+	}
+
+	/**
+	 * Whether nothing will use the persistence context and action queue of this
+	 * closed session anymore, not even on completion of the transaction
+	 */
+	private boolean isReusableAfterClose() {
+		return getFactory().isOpen()
+			&& !getTransactionCoordinator().isTransactionActive( false )
+			&& !actionQueue.hasBeforeTransactionActions()
+			&& !actionQueue.hasAfterTransactionActions();
 	}
 
 	@Override
@@ -1354,6 +1398,42 @@ public class SessionImpl
 	}
 
 
+	// upsert() operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object object) {
+		upsert( null, object );
+	}
+
+	@Override
+	public void upsert(String entityName, Object object) {
+		checkOpen();
+		pulseTransactionCoordinator();
+		checkTransactionNeededForUpdateOperation();
+		if ( !getJdbcServices().getDialect().supportsUpsert() ) {
+			throw new UnsupportedOperationException(
+					"Dialect does not support upsert statements: " + getJdbcServices().getDialect()
+			);
+		}
+
+		final EntityPersister persister = getEntityPersister( entityName, object );
+		final Object id = persister.getIdentifier( object, this );
+		if ( id == null ) {
+			throw new IllegalArgumentException(
+					"Cannot upsert an instance of '" + persister.getEntityName() + "' with a null identifier"
+			);
+		}
+		if ( persistenceContext.containsEntity( id, persister ) ) {
+			throw new NonUniqueObjectException( id, persister.getEntityName() );
+		}
+		final Object[] state = persister.getValues( object );
+		final Object version = Versioning.seedOrIncrementVersion( object, state, persister, this );
+		// executed by the flush, after the insertions and updates
+		actionQueue.addAction( new EntityUpsertAction( id, state, version, object, persister, this ) );
+		delayedAfterCompletion();
+	}
+
+
 	// evict() operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -6,12 +6,15 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.UnresolvableObjectException;
@@ -19,6 +22,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityKey;
@@ -29,6 +33,8 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -56,6 +62,43 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	};
 
+	/**
+	 * The JDBC batch size of bulk operations when batching is not configured
+	 */
+	private static final int DEFAULT_BULK_BATCH_SIZE = 50;
+
+	private static final MultiIdLoadOptions MULTI_LOAD_OPTIONS = new MultiIdLoadOptions() {
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	};
+
 	private final PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
 	private final boolean connectionProvided;
@@ -83,7 +126,22 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Object id = persister.getIdentifierGenerator().generate( this, entity );
-		Object[] state = persister.getValues( entity );
+		Object[] state = getStateToInsert( persister, entity );
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			id = persister.insert( state, entity, this );
+		}
+		else {
+			persister.insert( id, state, entity, this );
+		}
+		persister.setIdentifier( entity, id, this );
+		return id;
+	}
+
+	private Object[] getStateToInsert(EntityPersister persister, Object entity) {
+		return getStateToInsert( persister, entity, persister.getValues( entity ) );
+	}
+
+	private Object[] getStateToInsert(EntityPersister persister, Object entity, Object[] state) {
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
 					state,
@@ -95,14 +153,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setValues( entity, state );
 			}
 		}
-		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
-			id = persister.insert( state, entity, this );
-		}
-		else {
-			persister.insert( id, state, entity, this );
-		}
-		persister.setIdentifier( entity, id, this );
-		return id;
+		return state;
 	}
 
 
@@ -152,6 +203,161 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		EntityPersister persister = getEntityPersister( entityName, entity );
+		Object id = persister.getIdentifier( entity, this );
+		Object[] state = persister.getValues( entity );
+		Object version = Versioning.seedOrIncrementVersion( entity, state, persister, this );
+		persister.upsert( id, state, version, entity, this );
+	}
+
+
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = beginBulkOperation( entities.size() );
+		try {
+			int i = 0;
+			while ( i < entities.size() ) {
+				final Object entity = entities.get( i );
+				final EntityPersister persister = getEntityPersister( null, entity );
+				if ( persister.canBatchIdentityInserts() ) {
+					i = insertIdentityBatch( persister, entities, i );
+				}
+				else {
+					insert( null, entity );
+					i++;
+				}
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * Insert the consecutive entities of the given persister, which starts
+	 * at the given position, up to the JDBC batch size, using a single JDBC
+	 * batch which returns the generated identifiers.  The batch ends before an
+	 * entity which refers to one of the entities inserted before it, since the
+	 * identifiers of those entities are not yet known.
+	 *
+	 * @return The position of the first entity which was not inserted
+	 */
+	private int insertIdentityBatch(EntityPersister persister, List<?> entities, int start) {
+		final int batchSize = getConfiguredJdbcBatchSize();
+		final List<Object> instances = new ArrayList<>();
+		final List<Object[]> states = new ArrayList<>();
+		final Set<Object> batched = new IdentitySet<>();
+		int i = start;
+		while ( i < entities.size() && instances.size() < batchSize ) {
+			final Object entity = entities.get( i );
+			if ( getEntityPersister( null, entity ) != persister ) {
+				break;
+			}
+			final Object[] state = persister.getValues( entity );
+			if ( ForeignKeys.references( persister, state, batched, this ) ) {
+				break;
+			}
+			instances.add( entity );
+			states.add( getStateToInsert( persister, entity, state ) );
+			batched.add( entity );
+			i++;
+		}
+
+		final Object[] ids = persister.insertBatch( states.toArray( new Object[0][] ), instances.toArray(), this );
+		for ( int j = 0; j < ids.length; j++ ) {
+			persister.setIdentifier( instances.get( j ), ids[j], this );
+		}
+		return i;
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = beginBulkOperation( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				update( null, entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = beginBulkOperation( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				delete( null, entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * Use JDBC batching for a bulk operation on the given number of
+	 * entities, even if batching is not configured, in which case the
+	 * batches hold at most {@value #DEFAULT_BULK_BATCH_SIZE} statements
+	 *
+	 * @return The session-level JDBC batch size to restore afterwards
+	 */
+	private Integer beginBulkOperation(int size) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		if ( getConfiguredJdbcBatchSize() <= 1 && size > 1 ) {
+			setJdbcBatchSize( Math.min( size, DEFAULT_BULK_BATCH_SIZE ) );
+		}
+		return jdbcBatchSize;
+	}
+
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+
+		final EntityPersister entityDescriptor = getFactory().getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+		final List<?> results = entityDescriptor.multiLoad( ids.toArray(), this, MULTI_LOAD_OPTIONS );
+
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) results;
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -56,6 +56,24 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that the entities loaded by each row of the
+	 * results of a query, and their collections, should be evicted from
+	 * the persistence context once the results have moved past that row,
+	 * so that {@link Query#scroll scrolling} or {@link Query#stream streaming}
+	 * a very large result keeps the persistence context small.
+	 * <p>
+	 * Only entities which were not already associated with the persistence
+	 * context before being read by the query are evicted.  As with
+	 * {@link org.hibernate.Session#evict}, changes made to an evicted
+	 * entity are not flushed.
+	 *
+	 * @see org.hibernate.query.spi.QueryOptions#isEvictingProcessedEntities
+	 *
+	 * @since 6.0
+	 */
+	String HINT_EVICT_PROCESSED = "org.hibernate.evictProcessed";
+
 	/**
 	 * Hint for specifying whether results from a query should
 	 * be stored in the query cache
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The batch size of an entity or collection role which adapts to the way the
+ * role is lazily initialized, between configured bounds.
+ * <p>
+ * The size is doubled after consecutive batch loads which each left keys of the
+ * role waiting in the {@link org.hibernate.engine.spi.BatchFetchQueue}, since
+ * those keys are then likely to be loaded one batch at a time, and is halved
+ * after many consecutive batch loads which each used at most a quarter of it.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+ */
+public class AdaptiveBatchSize {
+	private static final Logger log = Logger.getLogger( AdaptiveBatchSize.class );
+
+	// the numbers of consecutive loads after which the size changes
+	private static final int GROWTH_THRESHOLD = 2;
+	private static final int SHRINK_THRESHOLD = 8;
+
+	private final String role;
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile int size;
+	private int undersizedLoads;
+	private int oversizedLoads;
+
+	private AdaptiveBatchSize(String role, int initialSize, int minSize, int maxSize) {
+		this.role = role;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.size = initialSize;
+	}
+
+	/**
+	 * Create the adaptive batch size of a role which has no explicit batch size
+	 *
+	 * @return the batch size, or {@code null} if adaptive batch fetching is disabled
+	 */
+	public static AdaptiveBatchSize create(String role, SessionFactoryOptions options) {
+		final int maxSize = options.getAdaptiveBatchFetchMaxSize();
+		if ( maxSize <= 1 ) {
+			return null;
+		}
+		final int minSize = Math.min( options.getAdaptiveBatchFetchMinSize(), maxSize );
+		final int defaultSize = options.getDefaultBatchFetchSize();
+		final int initialSize = defaultSize > 0 ? Math.max( minSize, Math.min( defaultSize, maxSize ) ) : minSize;
+		return new AdaptiveBatchSize( role, initialSize, minSize, maxSize );
+	}
+
+	/**
+	 * The current batch size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The largest batch size, which is the batch size of the persister of the role
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Record a batch load of the role
+	 *
+	 * @param loadedKeys The number of keys loaded by the batch
+	 * @param waitingKeys The number of keys of the role which were waiting in the
+	 * batch fetch queue before the batch load
+	 */
+	public synchronized void recordLoad(int loadedKeys, int waitingKeys) {
+		if ( waitingKeys > loadedKeys ) {
+			oversizedLoads = 0;
+			if ( ++undersizedLoads >= GROWTH_THRESHOLD && size < maxSize ) {
+				undersizedLoads = 0;
+				resize( Math.min( maxSize, size * 2 ) );
+			}
+		}
+		else if ( loadedKeys * 4 <= size ) {
+			undersizedLoads = 0;
+			if ( ++oversizedLoads >= SHRINK_THRESHOLD && size > minSize ) {
+				oversizedLoads = 0;
+				resize( Math.max( minSize, size / 2 ) );
+			}
+		}
+		else {
+			undersizedLoads = 0;
+			oversizedLoads = 0;
+		}
+	}
+
+	private void resize(int newSize) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Changing batch size of [%s] from %s to %s", role, size, newSize );
+		}
+		size = newSize;
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + role + " : " + size + ")";
+	}
+}
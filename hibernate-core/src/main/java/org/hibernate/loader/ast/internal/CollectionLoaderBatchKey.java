@@ -14,6 +14,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -22,6 +23,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -50,22 +52,55 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final PluralAttributeMapping attributeMapping;
 	private final int batchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final int keyJdbcCount;
 
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
+	private MultiKeyLoadHelper.ArraySelect arraySelect;
 
 	public CollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
 			int batchSize,
 			LoadQueryInfluencers influencers,
 			SessionFactoryImplementor sessionFactory) {
+		this( attributeMapping, batchSize, null, influencers, sessionFactory );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The size of the batches, or {@code null} if they
+	 * are always of the maximum size
+	 */
+	public CollectionLoaderBatchKey(
+			PluralAttributeMapping attributeMapping,
+			int batchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
 		this.attributeMapping = attributeMapping;
 		this.batchSize = batchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				attributeMapping.getKeyDescriptor(),
+				sessionFactory
+		);
+		if ( arrayJdbcMapping != null ) {
+			// the same select is used for any number of keys
+			this.arraySelect = MultiKeyLoadHelper.createArraySelect(
+					attributeMapping,
+					attributeMapping.getKeyDescriptor(),
+					arrayJdbcMapping,
+					influencers,
+					LockOptions.NONE,
+					sessionFactory
+			);
+			return;
+		}
+
 		this.batchSizeJdbcParameters = new ArrayList<>();
 		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
 				attributeMapping,
@@ -89,11 +124,20 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 	public PersistentCollection<?> load(
 			Object key,
 			SharedSessionContractImplementor session) {
-		final Object[] batchIds = session.getPersistenceContextInternal()
-				.getBatchFetchQueue()
-				.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, batchSize );
-
-		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int currentBatchSize = adaptiveBatchSize == null ? batchSize : adaptiveBatchSize.getSize();
+		final int waitingKeys = adaptiveBatchSize == null
+				? 0
+				: batchFetchQueue.getBatchLoadableCollectionCount( getLoadable().getCollectionDescriptor() );
+
+		final Object[] batchIds = currentBatchSize > 1
+				? batchFetchQueue.getCollectionBatch( getLoadable().getCollectionDescriptor(), key, currentBatchSize )
+				: null;
+
+		final int numberOfIds = batchIds == null ? 1 : ArrayHelper.countNonNull( batchIds );
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordLoad( numberOfIds, waitingKeys );
+		}
 
 		if ( numberOfIds == 1 ) {
 			final List<JdbcParameter> jdbcParameters = new ArrayList<>( keyJdbcCount );
@@ -102,7 +146,8 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 					null,
 					attributeMapping.getKeyDescriptor(),
 					null,
-					batchSize,
+					// an adaptive maximum may be large, so restrict by the one key
+					adaptiveBatchSize == null ? batchSize : 1,
 					session.getLoadQueryInfluencers(),
 					LockOptions.NONE,
 					jdbcParameters::add,
@@ -138,6 +183,14 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			);
 		}
 
+		if ( arraySelect != null ) {
+			final Object[] keys = new Object[numberOfIds];
+			System.arraycopy( batchIds, 0, keys, 0, numberOfIds );
+			final JdbcParameterBindings jdbcParameterBindings = arraySelect.createBindings( keys );
+			executeBatchLoad( arraySelect.getSqlAst(), arraySelect.getJdbcSelect(), jdbcParameterBindings, session );
+			return;
+		}
+
 		int smallBatchStart = 0;
 		int smallBatchLength = Math.min( numberOfIds, batchSize );
 
@@ -191,51 +244,7 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			}
 			assert offset == jdbcParameters.size();
 
-			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
-					session.getPersistenceContext().getBatchFetchQueue(),
-					sqlAst,
-					Collections.emptyList(),
-					jdbcParameterBindings
-			);
-
-			jdbcServices.getJdbcSelectExecutor().list(
-					jdbcSelect,
-					jdbcParameterBindings,
-					new ExecutionContext() {
-						@Override
-						public SharedSessionContractImplementor getSession() {
-							return session;
-						}
-
-						@Override
-						public QueryOptions getQueryOptions() {
-							return QueryOptions.NONE;
-						}
-
-						@Override
-						public String getQueryIdentifier(String sql) {
-							return sql;
-						}
-
-						@Override
-						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-							subSelectFetchableKeysHandler.addKey( entityKey, entry );
-						}
-
-						@Override
-						public QueryParameterBindings getQueryParameterBindings() {
-							return QueryParameterBindings.NO_PARAM_BINDINGS;
-						}
-
-						@Override
-						public Callback getCallback() {
-							return null;
-						}
-
-					},
-					RowTransformerPassThruImpl.instance(),
-					ListResultsConsumer.UniqueSemantic.FILTER
-			);
+			executeBatchLoad( sqlAst, jdbcSelect, jdbcParameterBindings, session );
 
 			// prepare for the next round...
 			smallBatchStart += smallBatchLength;
@@ -247,4 +256,56 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private void executeBatchLoad(
+			SelectStatement sqlAst,
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				sqlAst,
+				Collections.emptyList(),
+				jdbcParameterBindings
+		);
+
+		session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new ExecutionContext() {
+					@Override
+					public SharedSessionContractImplementor getSession() {
+						return session;
+					}
+
+					@Override
+					public QueryOptions getQueryOptions() {
+						return QueryOptions.NONE;
+					}
+
+					@Override
+					public String getQueryIdentifier(String sql) {
+						return sql;
+					}
+
+					@Override
+					public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+						subSelectFetchableKeysHandler.addKey( entityKey, entry );
+					}
+
+					@Override
+					public QueryParameterBindings getQueryParameterBindings() {
+						return QueryParameterBindings.NO_PARAM_BINDINGS;
+					}
+
+					@Override
+					public Callback getCallback() {
+						return null;
+					}
+
+				},
+				RowTransformerPassThruImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+
 }
@@ -37,6 +37,7 @@ import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
@@ -56,6 +57,7 @@ import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.spi.SqlExpressionResolver;
+import org.hibernate.sql.ast.tree.expression.AnyArrayParameter;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -203,6 +205,47 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement restricted by a single array parameter
+	 * holding any number of keys, compared using {@code = any(?)}
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Single-column part for which keys will be applied as restriction
+	 * @param arrayJdbcMapping The mapping of the array parameter
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for the JdbcParameter created
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see MultiKeyLoadHelper
+	 */
+	public static SelectStatement createArraySelect(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			JdbcMapping arrayJdbcMapping,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcParameterConsumer
+		);
+		process.arrayJdbcMapping = arrayJdbcMapping;
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -255,6 +298,7 @@ public class LoaderSelectBuilder {
 	private List<Map.Entry<OrderByFragment, TableGroup>> orderByFragments;
 	private boolean hasCollectionJoinFetches;
 	private String currentBagRole;
+	private JdbcMapping arrayJdbcMapping;
 
 	private LoaderSelectBuilder(
 			SqlAstCreationContext creationContext,
@@ -522,7 +566,19 @@ public class LoaderSelectBuilder {
 										)
 
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( arrayJdbcMapping != null ) {
+							final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
+							jdbcParameterConsumer.accept( jdbcParameter );
+
+							rootQuerySpec.applyPredicate(
+									new ComparisonPredicate(
+											columnRef,
+											ComparisonOperator.EQUAL,
+											new AnyArrayParameter( jdbcParameter, columnRef.getJdbcMapping() )
+									)
+							);
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
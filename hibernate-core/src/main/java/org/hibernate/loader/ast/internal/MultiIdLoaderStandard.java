@@ -34,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -56,7 +57,7 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
+public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T>, Preparable {
 	private static final Logger log = Logger.getLogger( MultiIdLoaderStandard.class );
 
 	private final EntityPersister entityDescriptor;
@@ -64,6 +65,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
 
+	private JdbcMapping arrayJdbcMapping;
+	private volatile MultiKeyLoadHelper.ArraySelect arraySelect;
+
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -75,6 +79,14 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		assert idJdbcTypeCount > 0;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				entityDescriptor.getIdentifierMapping(),
+				sessionFactory
+		);
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor;
@@ -227,6 +239,35 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return (List<T>) result;
 	}
 
+	private MultiKeyLoadHelper.ArraySelect resolveArraySelect(
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( !MultiKeyLoadHelper.isReusable( getLoadable(), influencers, lockOptions ) ) {
+			return createArraySelect( lockOptions, influencers );
+		}
+		MultiKeyLoadHelper.ArraySelect select = arraySelect;
+		if ( select == null ) {
+			// the same select is used for any number of ids
+			select = createArraySelect( LockOptions.NONE, influencers );
+			arraySelect = select;
+		}
+		return select;
+	}
+
+	private MultiKeyLoadHelper.ArraySelect createArraySelect(
+			LockOptions lockOptions,
+			LoadQueryInfluencers influencers) {
+		return MultiKeyLoadHelper.createArraySelect(
+				getLoadable(),
+				entityDescriptor.getIdentifierMapping(),
+				arrayJdbcMapping,
+				influencers,
+				lockOptions,
+				sessionFactory
+		);
+	}
+
 	private List<T> loadEntitiesById(
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
@@ -243,46 +284,59 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
+		final SelectStatement sqlAst;
+		final List<JdbcParameter> jdbcParameters;
+		final JdbcParameterBindings jdbcParameterBindings;
+		final JdbcSelect jdbcSelect;
+		if ( arrayJdbcMapping != null ) {
+			final MultiKeyLoadHelper.ArraySelect arraySelect = resolveArraySelect( lockOptions, session );
+			sqlAst = arraySelect.getSqlAst();
+			jdbcParameters = arraySelect.getJdbcParameters();
+			jdbcParameterBindings = arraySelect.createBindings( idsInBatch.toArray() );
+			jdbcSelect = arraySelect.getJdbcSelect();
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
+			jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
+					.translate( jdbcParameterBindings, QueryOptions.NONE );
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
-		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
-
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 		if ( entityDescriptor.hasSubselectLoadableCollections() ) {
 			subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
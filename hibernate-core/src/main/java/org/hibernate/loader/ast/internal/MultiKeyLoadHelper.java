@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.spi.Loadable;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.ConvertibleModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.internal.SimpleNaturalIdMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.type.ConvertedBasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.converter.AttributeConverterTypeAdapter;
+import org.hibernate.type.descriptor.java.ObjectJavaType;
+import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.internal.BasicTypeImpl;
+
+/**
+ * Support for loading many keys with one SQL statement which binds the keys to a
+ * single array parameter, rendered as {@code = any(?)}, rather than to one
+ * parameter per key, so that the same SQL is used for any number of keys.
+ *
+ * @see Dialect#supportsStandardArrays()
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * The mapping of an array parameter holding many keys of the given part.
+	 *
+	 * @return the mapping, or {@code null} if the dialect does not support
+	 * arrays, or if the keys are not single basic values which may be bound
+	 * as elements of an array
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( !dialect.supportsStandardArrays() ) {
+			return null;
+		}
+
+		final BasicValuedModelPart basicKeyPart = resolveBasicKeyPart( keyPart );
+		if ( basicKeyPart == null
+				|| basicKeyPart instanceof ConvertibleModelPart
+						&& ( (ConvertibleModelPart) basicKeyPart ).getValueConverter() != null ) {
+			return null;
+		}
+
+		final JdbcMapping elementJdbcMapping = basicKeyPart.getJdbcMapping();
+		if ( elementJdbcMapping instanceof ConvertedBasicType
+				|| elementJdbcMapping instanceof AttributeConverterTypeAdapter ) {
+			return null;
+		}
+
+		final JdbcType elementJdbcType = elementJdbcMapping.getJdbcType();
+		final Class<?> elementJdbcClass = resolveElementJdbcClass( elementJdbcType.getDefaultSqlTypeCode() );
+		if ( elementJdbcClass == null ) {
+			return null;
+		}
+
+		return new BasicTypeImpl<>(
+				ObjectJavaType.INSTANCE,
+				new ArrayJdbcType(
+						elementJdbcMapping.getJavaTypeDescriptor(),
+						elementJdbcClass,
+						dialect.getRawTypeName( elementJdbcType )
+				)
+		);
+	}
+
+	private static BasicValuedModelPart resolveBasicKeyPart(ModelPart keyPart) {
+		if ( keyPart instanceof BasicValuedModelPart ) {
+			return (BasicValuedModelPart) keyPart;
+		}
+		else if ( keyPart instanceof SimpleNaturalIdMapping
+				&& ( (SimpleNaturalIdMapping) keyPart ).getAttribute() instanceof BasicValuedModelPart ) {
+			return (BasicValuedModelPart) ( (SimpleNaturalIdMapping) keyPart ).getAttribute();
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static Class<?> resolveElementJdbcClass(int sqlTypeCode) {
+		switch ( sqlTypeCode ) {
+			case SqlTypes.SMALLINT:
+				return Short.class;
+			case SqlTypes.INTEGER:
+				return Integer.class;
+			case SqlTypes.BIGINT:
+				return Long.class;
+			case SqlTypes.VARCHAR:
+			case SqlTypes.NVARCHAR:
+				return String.class;
+			case SqlTypes.UUID:
+				return UUID.class;
+			default:
+				// fixed length character types are not compared to
+				// array elements with the same padding semantics
+				return null;
+		}
+	}
+
+	/**
+	 * Whether a select of the given loadable is the same for any session with
+	 * the given influencers and lock options, and so may be built once
+	 */
+	public static boolean isReusable(
+			Loadable loadable,
+			LoadQueryInfluencers influencers,
+			LockOptions lockOptions) {
+		return !loadable.isAffectedByEnabledFilters( influencers )
+				&& !loadable.isAffectedByEntityGraph( influencers )
+				&& !loadable.isAffectedByEnabledFetchProfiles( influencers )
+				&& influencers.getEnabledCascadingFetchProfile() == null
+				&& !lockOptions.getLockMode().greaterThan( LockMode.READ )
+				&& lockOptions.getAliasLockCount() == 0;
+	}
+
+	/**
+	 * Create a select of the given loadable restricted by an array of keys
+	 * of the given part
+	 */
+	public static ArraySelect createArraySelect(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			JdbcMapping arrayJdbcMapping,
+			LoadQueryInfluencers influencers,
+			LockOptions lockOptions,
+			SessionFactoryImplementor sessionFactory) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>( 1 );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createArraySelect(
+				loadable,
+				restrictedPart,
+				arrayJdbcMapping,
+				influencers,
+				lockOptions,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		final JdbcSelect jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+		return new ArraySelect( sqlAst, jdbcParameters.get( 0 ), arrayJdbcMapping, jdbcSelect );
+	}
+
+	/**
+	 * A translated select restricted by an array parameter
+	 */
+	public static final class ArraySelect {
+		private final SelectStatement sqlAst;
+		private final JdbcParameter jdbcParameter;
+		private final JdbcMapping arrayJdbcMapping;
+		private final JdbcSelect jdbcSelect;
+
+		private ArraySelect(
+				SelectStatement sqlAst,
+				JdbcParameter jdbcParameter,
+				JdbcMapping arrayJdbcMapping,
+				JdbcSelect jdbcSelect) {
+			this.sqlAst = sqlAst;
+			this.jdbcParameter = jdbcParameter;
+			this.arrayJdbcMapping = arrayJdbcMapping;
+			this.jdbcSelect = jdbcSelect;
+		}
+
+		public SelectStatement getSqlAst() {
+			return sqlAst;
+		}
+
+		public List<JdbcParameter> getJdbcParameters() {
+			return Collections.singletonList( jdbcParameter );
+		}
+
+		public JdbcSelect getJdbcSelect() {
+			return jdbcSelect;
+		}
+
+		/**
+		 * Bind the given keys, which must not contain {@code null}, to the array parameter
+		 */
+		public JdbcParameterBindings createBindings(Object[] keys) {
+			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+			jdbcParameterBindings.addBinding( jdbcParameter, new JdbcParameterBindingImpl( arrayJdbcMapping, keys ) );
+			return jdbcParameterBindings;
+		}
+	}
+}
@@ -20,6 +20,7 @@ import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -55,6 +56,7 @@ public class MultiNaturalIdLoadingBatcher {
 	}
 
 	private final EntityMappingType entityDescriptor;
+	private final int batchSize;
 
 	private final SelectStatement sqlSelect;
 	private final List<JdbcParameter> jdbcParameters;
@@ -62,6 +64,7 @@ public class MultiNaturalIdLoadingBatcher {
 	private final KeyValueResolver keyValueResolver;
 
 	private final JdbcSelect jdbcSelect;
+	private final MultiKeyLoadHelper.ArraySelect arraySelect;
 
 	public MultiNaturalIdLoadingBatcher(
 			EntityMappingType entityDescriptor,
@@ -72,7 +75,27 @@ public class MultiNaturalIdLoadingBatcher {
 			LockOptions lockOptions,
 			SessionFactoryImplementor sessionFactory) {
 		this.entityDescriptor = entityDescriptor;
+		this.batchSize = batchSize;
+		this.keyValueResolver = keyValueResolver;
+
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( restrictedPart, sessionFactory );
+		if ( arrayJdbcMapping != null ) {
+			// a simple natural-id, bound as an array which needs no padding
+			arraySelect = MultiKeyLoadHelper.createArraySelect(
+					entityDescriptor,
+					restrictedPart,
+					arrayJdbcMapping,
+					loadQueryInfluencers,
+					lockOptions,
+					sessionFactory
+			);
+			sqlSelect = arraySelect.getSqlAst();
+			jdbcParameters = arraySelect.getJdbcParameters();
+			jdbcSelect = arraySelect.getJdbcSelect();
+			return;
+		}
 
+		arraySelect = null;
 		jdbcParameters = new ArrayList<>( batchSize );
 		sqlSelect = LoaderSelectBuilder.createSelect(
 				entityDescriptor,
@@ -88,8 +111,6 @@ public class MultiNaturalIdLoadingBatcher {
 				sessionFactory
 		);
 
-		this.keyValueResolver = keyValueResolver;
-
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
@@ -98,6 +119,10 @@ public class MultiNaturalIdLoadingBatcher {
 	}
 
 	public <E> List<E> multiLoad(Object[] naturalIdValues, MultiNaturalIdLoadOptions options, SharedSessionContractImplementor session) {
+		if ( arraySelect != null ) {
+			return multiLoadWithArrays( naturalIdValues, session );
+		}
+
 		final ArrayList<E> multiLoadResults = CollectionHelper.arrayList( naturalIdValues.length );
 		final JdbcParameterBindingsImpl jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 
@@ -144,6 +169,31 @@ public class MultiNaturalIdLoadingBatcher {
 		return multiLoadResults;
 	}
 
+	private <E> List<E> multiLoadWithArrays(Object[] naturalIdValues, SharedSessionContractImplementor session) {
+		final ArrayList<E> multiLoadResults = CollectionHelper.arrayList( naturalIdValues.length );
+		final List<Object> keys = new ArrayList<>( batchSize );
+
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			final Object bindValue = keyValueResolver.resolveKeyToLoad( naturalIdValues[ i ], session );
+			if ( bindValue != null ) {
+				keys.add( bindValue );
+			}
+
+			if ( keys.size() == batchSize ) {
+				final List<E> batchResults = performLoad( arraySelect.createBindings( keys.toArray() ), session );
+				multiLoadResults.addAll( batchResults );
+				keys.clear();
+			}
+		}
+
+		if ( !keys.isEmpty() ) {
+			final List<E> batchResults = performLoad( arraySelect.createBindings( keys.toArray() ), session );
+			multiLoadResults.addAll( batchResults );
+		}
+
+		return multiLoadResults;
+	}
+
 	private <E> List<E> performLoad(JdbcParameterBindings jdbcParamBindings, SharedSessionContractImplementor session) {
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 
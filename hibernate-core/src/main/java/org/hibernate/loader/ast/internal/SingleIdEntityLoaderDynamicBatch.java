@@ -13,12 +13,15 @@ import org.hibernate.LockOptions;
 import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -41,19 +44,43 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> {
+public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> implements Preparable {
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private JdbcMapping arrayJdbcMapping;
+	private volatile MultiKeyLoadHelper.ArraySelect arraySelect;
 
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
 			int maxBatchSize,
 			SessionFactoryImplementor sessionFactory) {
+		this( entityDescriptor, maxBatchSize, null, sessionFactory );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The size of the batches, or {@code null} if they
+	 * are always of the maximum size
+	 */
+	public SingleIdEntityLoaderDynamicBatch(
+			EntityMappingType entityDescriptor,
+			int maxBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		this.maxBatchSize = maxBatchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
+	}
+
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				getLoadable().getIdentifierMapping(),
+				sessionFactory
+		);
 	}
 
 	@Override
@@ -68,11 +95,21 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			LockOptions lockOptions,
 			Boolean readOnly,
 			SharedSessionContractImplementor session) {
-		final Object[] batchIds = session.getPersistenceContextInternal()
-				.getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), pkValue, maxBatchSize );
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final int batchSize = adaptiveBatchSize == null ? maxBatchSize : adaptiveBatchSize.getSize();
+		final int waitingKeys = adaptiveBatchSize == null
+				? 0
+				: batchFetchQueue.getBatchLoadableEntityKeyCount( getLoadable() );
+
+		final Object[] batchIds = batchSize > 1
+				? batchFetchQueue.getBatchLoadableEntityIds( getLoadable(), pkValue, batchSize )
+				: null;
+
+		final int numberOfIds = batchIds == null ? 1 : ArrayHelper.countNonNull( batchIds );
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordLoad( numberOfIds, waitingKeys );
+		}
 
-		final int numberOfIds = ArrayHelper.countNonNull( batchIds );
 		if ( numberOfIds <= 1 ) {
 			initializeSingleIdLoaderIfNeeded( session );
 
@@ -93,46 +130,58 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final SelectStatement sqlAst;
+		final List<JdbcParameter> jdbcParameters;
+		final JdbcParameterBindings jdbcParameterBindings;
+		final JdbcSelect jdbcSelect;
+		if ( arrayJdbcMapping != null ) {
+			final MultiKeyLoadHelper.ArraySelect arraySelect = resolveArraySelect( lockOptions, session );
+			sqlAst = arraySelect.getSqlAst();
+			jdbcParameters = arraySelect.getJdbcParameters();
+			jdbcParameterBindings = arraySelect.createBindings( idsToLoad );
+			jdbcSelect = arraySelect.getJdbcSelect();
+		}
+		else {
+			jdbcParameters = new ArrayList<>();
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					session.getFactory()
+			);
 
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
+			final SessionFactoryImplementor sessionFactory = session.getFactory();
+			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl(
+					getLoadable().getIdentifierMapping().getJdbcTypeCount()
+			);
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				getLoadable().getIdentifierMapping().getJdbcTypeCount()
-		);
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						Clause.WHERE,
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					Clause.WHERE,
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			jdbcSelect = sqlAstTranslatorFactory
+					.buildSelectTranslator( sessionFactory, sqlAst )
+					.translate( jdbcParameterBindings, QueryOptions.NONE );
 		}
-		assert offset == jdbcParameters.size();
-
-		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
@@ -230,6 +279,36 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		};
 	}
 
+	private MultiKeyLoadHelper.ArraySelect resolveArraySelect(
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( !MultiKeyLoadHelper.isReusable( getLoadable(), influencers, lockOptions ) ) {
+			return createArraySelect( lockOptions, influencers, session.getFactory() );
+		}
+		MultiKeyLoadHelper.ArraySelect select = arraySelect;
+		if ( select == null ) {
+			// the same select is used for any number of ids
+			select = createArraySelect( LockOptions.NONE, influencers, session.getFactory() );
+			arraySelect = select;
+		}
+		return select;
+	}
+
+	private MultiKeyLoadHelper.ArraySelect createArraySelect(
+			LockOptions lockOptions,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		return MultiKeyLoadHelper.createArraySelect(
+				getLoadable(),
+				getLoadable().getIdentifierMapping(),
+				arrayJdbcMapping,
+				influencers,
+				lockOptions,
+				sessionFactory
+		);
+	}
+
 	private void initializeSingleIdLoaderIfNeeded(SharedSessionContractImplementor session) {
 		if ( singleIdLoader == null ) {
 			singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( getLoadable(), session.getFactory() );
@@ -67,6 +67,7 @@ public abstract class PersistentClass implements AttributeContainer, Serializabl
 	private final java.util.List<Table> subclassTables = new ArrayList<>();
 	private boolean dynamicInsert;
 	private boolean dynamicUpdate;
+	private boolean compactSnapshot;
 	private int batchSize = -1;
 	private boolean selectBeforeUpdate;
 	private java.util.Map metaAttributes;
@@ -179,6 +180,14 @@ public abstract class PersistentClass implements AttributeContainer, Serializabl
 		this.dynamicUpdate = dynamicUpdate;
 	}
 
+	public boolean useCompactSnapshot() {
+		return compactSnapshot;
+	}
+
+	public void setCompactSnapshot(boolean compactSnapshot) {
+		this.compactSnapshot = compactSnapshot;
+	}
+
 
 	public String getDiscriminatorValue() {
 		return discriminatorValue;
@@ -58,6 +58,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSize;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
 import org.hibernate.loader.ast.internal.CollectionLoaderBatchKey;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
@@ -204,6 +205,7 @@ public abstract class AbstractCollectionPersister
 	private final boolean isMutable;
 	private final boolean isVersioned;
 	protected final int batchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 	private final FetchMode fetchMode;
 	private final boolean hasOrphanDelete;
 	private final boolean subselectLoadable;
@@ -341,7 +343,13 @@ public abstract class AbstractCollectionPersister
 		hasOrphanDelete = collectionBootDescriptor.hasOrphanDelete();
 
 		int batch = collectionBootDescriptor.getBatchSize();
-		if ( batch == -1 ) {
+		adaptiveBatchSize = batch == -1 && queryLoaderName == null && !subselectLoadable
+				? AdaptiveBatchSize.create( collectionBootDescriptor.getRole(), factory.getSessionFactoryOptions() )
+				: null;
+		if ( adaptiveBatchSize != null ) {
+			batch = adaptiveBatchSize.getMaxSize();
+		}
+		else if ( batch == -1 ) {
 			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
@@ -874,7 +882,13 @@ public abstract class AbstractCollectionPersister
 	protected CollectionLoader createCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
 		final int batchSize = getBatchSize();
 		if ( batchSize > 1 ) {
-			return new CollectionLoaderBatchKey( attributeMapping, batchSize, loadQueryInfluencers, getFactory() );
+			return new CollectionLoaderBatchKey(
+					attributeMapping,
+					batchSize,
+					adaptiveBatchSize,
+					loadQueryInfluencers,
+					getFactory()
+			);
 		}
 
 
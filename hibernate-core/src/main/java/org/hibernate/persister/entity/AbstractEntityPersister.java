@@ -66,15 +66,18 @@ import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.classic.Lifecycle;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.GetGeneratedKeysDelegate;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.MultiRowInsertBatch;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -111,11 +114,13 @@ import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.LazyValue;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSize;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.internal.MultiIdLoaderStandard;
@@ -216,6 +221,7 @@ import org.hibernate.sql.Insert;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
 import org.hibernate.sql.Update;
+import org.hibernate.sql.Upsert;
 import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.spi.SimpleFromClauseAccessImpl;
@@ -315,6 +321,7 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 	private final boolean hasSubselectLoadableCollections;
 	protected final String rowIdName;
 
@@ -390,6 +397,12 @@ public abstract class AbstractEntityPersister
 	private String[] sqlInsertStrings;
 	private String[] sqlUpdateStrings;
 	private String[] sqlLazyUpdateStrings;
+	// generated on first use, since few applications use upsert()
+	private volatile String[] sqlUpsertStrings;
+
+	// dynamic-insert and dynamic-update SQL, by the properties included in the statement
+	private static final int DYNAMIC_SQL_CACHE_SIZE = 64;
+	private final Map<DynamicSqlKey, String> dynamicSqlStrings;
 
 	private GeneratedValuesProcessor insertGeneratedValuesProcessor;
 	private GeneratedValuesProcessor updateGeneratedValuesProcessor;
@@ -568,6 +581,35 @@ public abstract class AbstractEntityPersister
 		return sqlLazyUpdateStrings;
 	}
 
+	/**
+	 * The statements which insert or update the row of each table
+	 *
+	 * @throws UnsupportedOperationException if the dialect does not support
+	 * upsert statements, or not for the versioned rows of the entity, or if
+	 * the entity has custom SQL
+	 */
+	public String[] getSQLUpsertStrings() {
+		String[] strings = sqlUpsertStrings;
+		if ( strings == null ) {
+			if ( !getFactory().getJdbcServices().getDialect().supportsUpsert() ) {
+				throw new UnsupportedOperationException(
+						"Dialect does not support upsert statements: " + getFactory().getJdbcServices().getDialect()
+				);
+			}
+			strings = new String[getTableSpan()];
+			for ( int j = 0; j < strings.length; j++ ) {
+				if ( customSQLInsert[j] != null || customSQLUpdate[j] != null || customSQLDelete[j] != null ) {
+					throw new UnsupportedOperationException(
+							"Entity '" + getEntityName() + "' has custom SQL and does not support upsert"
+					);
+				}
+				strings[j] = generateUpsertString( j );
+			}
+			sqlUpsertStrings = strings;
+		}
+		return strings;
+	}
+
 	protected ExecuteUpdateResultCheckStyle[] getInsertResultCheckStyles() {
 		return insertResultCheckStyles;
 	}
@@ -719,6 +761,10 @@ public abstract class AbstractEntityPersister
 				? MutableEntityEntryFactory.INSTANCE
 				: ImmutableEntityEntryFactory.INSTANCE;
 
+		this.dynamicSqlStrings = entityMetamodel.isDynamicInsert() || entityMetamodel.isDynamicUpdate()
+				? new BoundedConcurrentHashMap<>( DYNAMIC_SQL_CACHE_SIZE, 4, BoundedConcurrentHashMap.Eviction.LRU )
+				: null;
+
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 		this.representationStrategy = creationContext.getBootstrapContext().getRepresentationStrategySelector()
@@ -731,7 +777,13 @@ public abstract class AbstractEntityPersister
 		final Dialect dialect = jdbcServices.getJdbcEnvironment().getDialect();
 
 		int batch = bootDescriptor.getBatchSize();
-		if ( batch == -1 ) {
+		adaptiveBatchSize = batch == -1 && bootDescriptor.getLoaderName() == null
+				? AdaptiveBatchSize.create( bootDescriptor.getEntityName(), factory.getSessionFactoryOptions() )
+				: null;
+		if ( adaptiveBatchSize != null ) {
+			batch = adaptiveBatchSize.getMaxSize();
+		}
+		else if ( batch == -1 ) {
 			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
@@ -762,7 +814,7 @@ public abstract class AbstractEntityPersister
 			);
 		}
 		else if ( batchSize > 1 ) {
-			singleIdEntityLoader = createBatchingIdEntityLoader( this, batchSize, factory );
+			singleIdEntityLoader = createBatchingIdEntityLoader( this, batchSize, adaptiveBatchSize, factory );
 		}
 		else {
 			singleIdEntityLoader = new SingleIdEntityLoaderStandardImpl<>( this, factory );
@@ -1073,8 +1125,9 @@ public abstract class AbstractEntityPersister
 	private static SingleIdEntityLoader<?> createBatchingIdEntityLoader(
 			EntityMappingType entityDescriptor,
 			int batchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
 			SessionFactoryImplementor factory) {
-		return new SingleIdEntityLoaderDynamicBatch<>( entityDescriptor, batchSize, factory );
+		return new SingleIdEntityLoaderDynamicBatch<>( entityDescriptor, batchSize, adaptiveBatchSize, factory );
 	}
 
 	/**
@@ -2524,7 +2577,8 @@ public abstract class AbstractEntityPersister
 						// Consider mutable properties as dirty if we don't have a previous state
 						( previousState == null || previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ||
 								( propertyCheckability[i]
-										&& propertyTypes[i].isDirty(
+										&& CompactSnapshots.isDirty(
+										propertyTypes[i],
 										previousState[i],
 										currentState[i],
 										propertyColumnUpdateable[i],
@@ -2958,6 +3012,71 @@ public abstract class AbstractEntityPersister
 		return hasColumns ? update.toStatementString() : null;
 	}
 
+	/**
+	 * Resolve the SQL that updates a row of the given table for dynamic-update,
+	 * reusing the SQL generated earlier for the same combination of properties.
+	 */
+	private String resolveDynamicUpdateString(
+			final boolean[] includeProperty,
+			final int j,
+			final Object[] oldFields,
+			final boolean useRowId) {
+		if ( dynamicSqlStrings == null ) {
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+
+		final DynamicSqlKey key = new DynamicSqlKey(
+				useRowId ? DynamicSqlKey.UPDATE_BY_ROW_ID : DynamicSqlKey.UPDATE,
+				j,
+				includeProperty,
+				optimisticLockNullness( includeProperty, j, oldFields )
+		);
+		final String cached = dynamicSqlStrings.get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		final String sql = generateUpdateString( includeProperty, j, oldFields, useRowId );
+		if ( sql != null ) {
+			dynamicSqlStrings.put( key, sql );
+		}
+		return sql;
+	}
+
+	/**
+	 * The nullness of the columns {@link #generateUpdateString} adds to the where
+	 * clause for "all" or "dirty" optimistic locking, since each null column is
+	 * rendered as {@code is null}.
+	 *
+	 * @return the nullness, or {@code null} if no such columns are added
+	 */
+	private BitSet optimisticLockNullness(boolean[] includeProperty, int j, Object[] oldFields) {
+		if ( j == 0 && isVersioned() && entityMetamodel.getOptimisticLockStyle().isVersion()
+				|| !isAllOrDirtyOptLocking() || oldFields == null ) {
+			return null;
+		}
+
+		final boolean[] includeInWhere = entityMetamodel.getOptimisticLockStyle().isAll()
+				? getPropertyUpdateability()
+				: includeProperty;
+		final boolean[] versionability = getPropertyVersionability();
+		final Type[] types = getPropertyTypes();
+		final BitSet nullness = new BitSet();
+		int column = 0;
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( includeInWhere[i] && isPropertyOfTable( i, j ) && versionability[i] ) {
+				final boolean[] propertyNullness = types[i].toColumnNullness( oldFields[i], getFactory() );
+				for ( boolean notNull : propertyNullness ) {
+					if ( !notNull ) {
+						nullness.set( column );
+					}
+					column++;
+				}
+			}
+		}
+		return nullness;
+	}
+
 	public final boolean checkVersion(final boolean[] includeProperty) {
 		return includeProperty[getVersionProperty()]
 				|| entityMetamodel.isVersionGenerated();
@@ -2971,9 +3090,49 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	public String generateInsertString(boolean[] includeProperty, int j) {
-
 		final Insert insert = createInsert().setTableName( getTableName( j ) );
+		addInsertColumns( insert, includeProperty, j );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			insert.setComment( "insert " + getEntityName() );
+		}
+		return insert.toStatementString();
+	}
 
+	/**
+	 * Generate the SQL that inserts a row, or updates the existing row with the
+	 * same id (and version), binding the same parameters as {@link #generateInsertString},
+	 * followed by the version of the existing row
+	 */
+	public String generateUpsertString(int j) {
+		final Upsert upsert = new Upsert( getFactory().getJdbcServices().getDialect() )
+				.setTableName( getTableName( j ) )
+				.setKeyColumns( getKeyColumns( j ) );
+		if ( isUpsertVersionChecked( j ) ) {
+			upsert.setVersionColumn( getVersionColumnName() );
+		}
+		final boolean[] includeProperty = getPropertyInsertability();
+		addInsertColumns( upsert, includeProperty, j );
+		for ( int i = 0; i < includeProperty.length; i++ ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) ) {
+				final boolean[] insertable = propertyColumnInsertable[i];
+				final boolean[] updatable = new boolean[insertable.length];
+				for ( int k = 0; k < insertable.length; k++ ) {
+					updatable[k] = insertable[k] && propertyColumnUpdateable[i][k];
+				}
+				upsert.addUpdatedColumns( getPropertyColumnNames( i ), updatable );
+			}
+		}
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			upsert.setComment( "upsert " + getEntityName() );
+		}
+		return upsert.toStatementString();
+	}
+
+	/**
+	 * Add the columns of the row inserted into the given table, in the order in
+	 * which {@link #dehydrate} binds them
+	 */
+	private void addInsertColumns(Insert insert, boolean[] includeProperty, int j) {
 		for ( int index = 0; index < attributeMappings.size(); index++ ) {
 			final AttributeMapping attributeMapping = attributeMappings.get( index );
 			if ( isPropertyOfTable( index, j ) ) {
@@ -3015,10 +3174,6 @@ public abstract class AbstractEntityPersister
 		// add the primary key
 		insert.addColumns( getKeyColumns( j ) );
 
-		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
-			insert.setComment( "insert " + getEntityName() );
-		}
-
 		// HHH-4635
 		// Oracle expects all Lob properties to be last in inserts
 		// and updates.  Insert them at the end.
@@ -3032,8 +3187,34 @@ public abstract class AbstractEntityPersister
 				);
 			}
 		}
+	}
 
-		return insert.toStatementString();
+	/**
+	 * Resolve the SQL that inserts a row into the given table for dynamic-insert,
+	 * reusing the SQL generated earlier for the same combination of properties.
+	 */
+	private String resolveDynamicInsertString(boolean[] includeProperty, int j) {
+		if ( dynamicSqlStrings == null ) {
+			return generateInsertString( includeProperty, j );
+		}
+		return dynamicSqlStrings.computeIfAbsent(
+				new DynamicSqlKey( DynamicSqlKey.INSERT, j, includeProperty, null ),
+				key -> generateInsertString( includeProperty, j )
+		);
+	}
+
+	/**
+	 * Resolve the SQL that inserts a row into the root table for dynamic-insert,
+	 * when the insert generates the identifier value.
+	 */
+	private String resolveDynamicIdentityInsertString(boolean[] includeProperty) {
+		if ( dynamicSqlStrings == null ) {
+			return generateIdentityInsertString( includeProperty );
+		}
+		return dynamicSqlStrings.computeIfAbsent(
+				new DynamicSqlKey( DynamicSqlKey.IDENTITY_INSERT, 0, includeProperty, null ),
+				key -> generateIdentityInsertString( includeProperty )
+		);
 	}
 
 	/**
@@ -3321,6 +3502,10 @@ public abstract class AbstractEntityPersister
 		}
 		final boolean callable = isInsertCallable( j );
 
+		if ( useBatch && !callable && addToMultiRowInsertBatch( id, fields, notNull, j, sql, session ) ) {
+			return;
+		}
+
 		try {
 			// Render the SQL query
 			final PreparedStatement insert;
@@ -3380,6 +3565,64 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	/**
+	 * Queue the row in a {@link MultiRowInsertBatch}, if multi-row inserts
+	 * are enabled and supported.
+	 *
+	 * @return {@code true} if the row was queued
+	 */
+	private boolean addToMultiRowInsertBatch(
+			final Object id,
+			final Object[] fields,
+			final boolean[] notNull,
+			final int j,
+			final String sql,
+			final SharedSessionContractImplementor session) {
+		final int rowsPerStatement = getFactory().getSessionFactoryOptions().getJdbcInsertRowsPerStatement();
+		if ( rowsPerStatement <= 1
+				|| hasInsertGeneratedProperties()
+				// custom SQL is executed as written
+				|| customSQLInsert[j] != null
+				|| !getFactory().getJdbcServices().getDialect().supportsValuesListForInsert() ) {
+			return false;
+		}
+
+		final MultiRowInsertBatch batch =
+				session.getJdbcCoordinator().getMultiRowInsertBatch( insertBatchKey, rowsPerStatement );
+		if ( batch == null ) {
+			return false;
+		}
+
+		// the values are bound when the batch is executed, so we must hold
+		// on to a copy of the state at the time the insert was issued, since
+		// mutable values may be changed before then
+		final SessionFactoryImplementor factory = getFactory();
+		final Type[] types = getPropertyTypes();
+		final Object[] state = new Object[fields.length];
+		for ( int i = 0; i < fields.length; i++ ) {
+			if ( isPropertyOfTable( i, j ) ) {
+				state[i] = types[i].deepCopy( fields[i], factory );
+			}
+		}
+		final Object stateId = getIdentifierType().deepCopy( id, factory );
+		batch.addRow(
+				sql,
+				(statement, index) -> dehydrate(
+						stateId,
+						state,
+						null,
+						notNull,
+						propertyColumnInsertable,
+						j,
+						statement,
+						session,
+						index,
+						false
+				)
+		);
+		return true;
+	}
+
 	/**
 	 * Perform an SQL UPDATE or SQL INSERT
 	 */
@@ -3789,7 +4032,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						resolveDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3852,9 +4095,9 @@ public abstract class AbstractEntityPersister
 		if ( entityMetamodel.isDynamicInsert() ) {
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
-			id = insert( fields, notNull, generateIdentityInsertString( notNull ), object, session );
+			id = insert( fields, notNull, resolveDynamicIdentityInsertString( notNull ), object, session );
 			for ( int j = 1; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, resolveDynamicInsertString( notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3867,6 +4110,51 @@ public abstract class AbstractEntityPersister
 		return id;
 	}
 
+	@Override
+	public boolean canBatchIdentityInserts() {
+		return identityDelegate instanceof GetGeneratedKeysDelegate
+				&& !entityMetamodel.isDynamicInsert()
+				&& Expectations.appropriateExpectation( insertResultCheckStyles[0] ).canBeBatched()
+				&& getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled();
+	}
+
+	@Override
+	public Object[] insertBatch(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		final Binder[] binders = new Binder[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+
+			final Object[] rowFields = fields[i];
+			final Object object = objects[i];
+			binders[i] = new Binder() {
+				@Override
+				public void bindValues(PreparedStatement ps) throws SQLException {
+					dehydrate( null, rowFields, getPropertyInsertability(), propertyColumnInsertable, 0, ps, session, false );
+				}
+
+				@Override
+				public Object getEntity() {
+					return object;
+				}
+			};
+		}
+
+		final Object[] ids = ( (GetGeneratedKeysDelegate) identityDelegate ).performBatchInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders,
+				Expectations.appropriateExpectation( insertResultCheckStyles[0] )
+		);
+		final int span = getTableSpan();
+		for ( int i = 0; i < objects.length; i++ ) {
+			for ( int j = 1; j < span; j++ ) {
+				insert( ids[i], fields[i], getPropertyInsertability(), j, getSQLInsertStrings()[j], objects[i], session );
+			}
+		}
+		return ids;
+	}
+
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
 		// apply any pre-insert in-memory value generation
@@ -3877,7 +4165,7 @@ public abstract class AbstractEntityPersister
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
 			for ( int j = 0; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, resolveDynamicInsertString( notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3888,6 +4176,101 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private BasicBatchKey upsertBatchKey;
+
+	private boolean isUpsertVersionChecked(int j) {
+		return j == 0 && isVersioned() && entityMetamodel.getOptimisticLockStyle().isVersion();
+	}
+
+	@Override
+	public void upsert(Object id, Object[] fields, Object version, Object object, SharedSessionContractImplementor session) {
+		if ( id == null ) {
+			throw new IllegalArgumentException(
+					"Cannot upsert an instance of '" + getEntityName() + "' with a null identifier"
+			);
+		}
+		final String[] sql = getSQLUpsertStrings();
+
+		// apply any pre-insert in-memory value generation
+		preInsertInMemoryValueGeneration( fields, object, session );
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Upserting entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		// a versioned upsert is not batched, so that the row count of its root
+		// table is checked, which is zero when the row has another version
+		final boolean useBatch = session.getConfiguredJdbcBatchSize() > 1 && !isUpsertVersionChecked( 0 );
+		if ( useBatch && upsertBatchKey == null ) {
+			// an upsert may affect zero, one or two rows, depending on the database
+			upsertBatchKey = new BasicBatchKey( getEntityName() + "#UPSERT", Expectations.NONE );
+		}
+		for ( int j = 0; j < sql.length; j++ ) {
+			if ( !isInverseTable( j ) ) {
+				// the row of an optional table is deleted, as by update()
+				final boolean delete = isNullableTable( j ) && isAllNull( fields, j );
+				upsert( id, fields, version, j, delete ? getSQLDeleteStrings()[j] : sql[j], delete, useBatch, session );
+			}
+		}
+	}
+
+	private void upsert(
+			Object id,
+			Object[] fields,
+			Object version,
+			int j,
+			String sql,
+			boolean delete,
+			boolean useBatch,
+			SharedSessionContractImplementor session) {
+		try {
+			final PreparedStatement statement = useBatch
+					? session.getJdbcCoordinator().getBatch( upsertBatchKey ).getBatchStatement( sql, false )
+					: session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql, false );
+			try {
+				if ( delete ) {
+					getIdentifierType().nullSafeSet( statement, id, 1, session );
+				}
+				else {
+					final int index = dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, j, statement, session, 1, false );
+					if ( isUpsertVersionChecked( j ) ) {
+						getVersionType().nullSafeSet( statement, version, index, session );
+					}
+				}
+
+				if ( useBatch ) {
+					session.getJdbcCoordinator().getBatch( upsertBatchKey ).addToBatch();
+				}
+				else {
+					final int rows = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( statement );
+					if ( !delete && isUpsertVersionChecked( j ) ) {
+						// no row is affected when the existing row has another version
+						check( rows, id, j, Expectations.BASIC, statement, sql );
+					}
+				}
+			}
+			catch (SQLException | RuntimeException e) {
+				if ( useBatch ) {
+					session.getJdbcCoordinator().abortBatch();
+				}
+				throw e;
+			}
+			finally {
+				if ( !useBatch ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( statement );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not upsert: " + MessageHelper.infoString( this, id, getFactory() ),
+					sql
+			);
+		}
+	}
+
 	protected void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -3914,9 +4297,8 @@ public abstract class AbstractEntityPersister
 			// first we need to locate the "loaded" state
 			//
 			// Note, it potentially could be a proxy, so doAfterTransactionCompletion the location the safe way...
-			final EntityKey key = session.generateEntityKey( id, this );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			Object entity = persistenceContext.getEntity( key );
+			Object entity = persistenceContext.getEntity( id, this );
 			if ( entity != null ) {
 				EntityEntry entry = persistenceContext.getEntry( entity );
 				loadedState = entry.getLoadedState();
@@ -5504,6 +5886,59 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Identifies dynamic-insert or dynamic-update SQL for a table: the kind of
+	 * statement, the included properties and, for "all" or "dirty" optimistic
+	 * locking, which of the columns in the where clause are null.
+	 */
+	private static final class DynamicSqlKey {
+		private static final int INSERT = 0;
+		private static final int IDENTITY_INSERT = 1;
+		private static final int UPDATE = 2;
+		private static final int UPDATE_BY_ROW_ID = 3;
+
+		private final int kind;
+		private final int table;
+		private final boolean[] includeProperty;
+		private final BitSet nullness;
+		private final int hashCode;
+
+		private DynamicSqlKey(int kind, int table, boolean[] includeProperty, BitSet nullness) {
+			this.kind = kind;
+			this.table = table;
+			// the array is owned by the caller, and might be reused
+			this.includeProperty = includeProperty.clone();
+			this.nullness = nullness;
+
+			int result = kind;
+			result = 31 * result + table;
+			result = 31 * result + Arrays.hashCode( includeProperty );
+			result = 31 * result + Objects.hashCode( nullness );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			final DynamicSqlKey that = (DynamicSqlKey) o;
+			return kind == that.kind
+					&& table == that.table
+					&& Arrays.equals( includeProperty, that.includeProperty )
+					&& Objects.equals( nullness, that.nullness );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// org.hibernate.metamodel.mapping.EntityMappingType
@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
@@ -66,7 +67,13 @@ class DirtyHelper {
 		}
 		else {
 			return properties[i].isDirtyCheckable()
-				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
+				&& CompactSnapshots.isDirty(
+						properties[i].getType(),
+						previousState[i],
+						currentState[i],
+						includeColumns[i],
+						session
+				);
 		}
 	}
 
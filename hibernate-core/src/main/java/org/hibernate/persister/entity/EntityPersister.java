@@ -540,6 +540,45 @@ public interface EntityPersister
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Whether instances of this entity, whose identifiers are natively
+	 * generated, may be persisted in batches using {@link #insertBatch}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean canBatchIdentityInserts() {
+		return false;
+	}
+
+	/**
+	 * Persist several instances in a single JDBC batch, using natively
+	 * generated identifiers (optional operation)
+	 *
+	 * @param fields The state of each instance
+	 * @param objects The instances
+	 *
+	 * @return The generated identifiers, in the order of the instances
+	 */
+	default Object[] insertBatch(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Entity '" + getEntityName() + "' does not support batched identity inserts" );
+	}
+
+	/**
+	 * Insert an instance, or update the existing row with the same identifier,
+	 * using a single statement per table (optional operation)
+	 *
+	 * @param fields The state to insert or update, including the next version
+	 * @param version The version the existing row is expected to have
+	 *
+	 * @throws org.hibernate.StaleObjectStateException if the existing row of
+	 * a versioned entity has another version
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsUpsert()
+	 */
+	default void upsert(Object id, Object[] fields, Object version, Object object, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Entity '" + getEntityName() + "' does not support upsert" );
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
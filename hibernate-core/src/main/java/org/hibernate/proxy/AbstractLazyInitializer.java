@@ -254,8 +254,8 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 			final EntityPersister entityDescriptor = getSession().getFactory().getRuntimeMetamodels()
 					.getMappingMetamodel()
 					.getEntityDescriptor( getEntityName() );
-			final EntityKey key = session.generateEntityKey( getInternalIdentifier(), entityDescriptor );
-			final Object entity = session.getPersistenceContextInternal().getEntity( key );
+			final Object entity = session.getPersistenceContextInternal()
+					.getEntity( getInternalIdentifier(), entityDescriptor );
 			if ( entity != null ) {
 				setImplementation( entity );
 			}
@@ -13,10 +13,14 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -113,6 +117,64 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return getResultStream();
 	}
 
+	/**
+	 * Execute a query with a single numeric item in its selection list and
+	 * return the query results as a {@link LongStream}.  Where possible, the
+	 * values are read without materializing a row or boxing the values.
+	 * <p>
+	 * The client should call {@link LongStream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @return The results as a {@link LongStream}
+	 *
+	 * @throws HibernateException if a result is null or not numeric
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	default LongStream getResultLongStream() {
+		return getResultStream().mapToLong( result -> ( (Number) result ).longValue() );
+	}
+
+	/**
+	 * Execute a query with a single numeric item in its selection list and
+	 * return the query results as an {@link IntStream}.  Where possible, the
+	 * values are read without materializing a row or boxing the values.
+	 * <p>
+	 * The client should call {@link IntStream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @return The results as an {@link IntStream}
+	 *
+	 * @throws HibernateException if a result is null or not numeric
+	 * @throws ArithmeticException if a result does not fit in an {@code int}
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	default IntStream getResultIntStream() {
+		return getResultStream().mapToInt( result -> Math.toIntExact( ( (Number) result ).longValue() ) );
+	}
+
+	/**
+	 * Execute a query with a single numeric item in its selection list and
+	 * return the query results as a {@link DoubleStream}.  Where possible, the
+	 * values are read without materializing a row or boxing the values.
+	 * <p>
+	 * The client should call {@link DoubleStream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @return The results as a {@link DoubleStream}
+	 *
+	 * @throws HibernateException if a result is null or not numeric
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	default DoubleStream getResultDoubleStream() {
+		return getResultStream().mapToDouble( result -> ( (Number) result ).doubleValue() );
+	}
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
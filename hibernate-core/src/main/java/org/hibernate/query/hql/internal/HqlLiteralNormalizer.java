@@ -0,0 +1,304 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.internal.util.QuotingHelper;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Replaces literals in an HQL query string with synthetic named parameters,
+ * so that queries which differ only in the values of their literals share
+ * a single interpretation and query plan.
+ * <p>
+ * This works on the token stream, not on the parse tree, and only replaces
+ * string and integer literals in positions where a parameter is guaranteed
+ * to be interpreted the same way as the literal:
+ * <ul>
+ *     <li>as the right hand side of a comparison or {@code like} predicate,
+ *     when the literal makes up the whole operand, and</li>
+ *     <li>as the elements of an {@code in} list consisting only of literals.</li>
+ * </ul>
+ * Whether the type inferred for the synthetic parameters matches the type
+ * of the literal they replace can only be decided after interpretation,
+ * which is left to the caller.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+ */
+public final class HqlLiteralNormalizer {
+	/**
+	 * The prefix of the names of the synthetic parameters.  Queries which
+	 * already use parameters with this prefix are never normalized.
+	 */
+	public static final String PARAMETER_PREFIX = "__literal_";
+
+	private HqlLiteralNormalizer() {
+	}
+
+	/**
+	 * Normalize the given query string.
+	 *
+	 * @return the normalized query, or {@code null} if there is no literal to replace
+	 */
+	public static NormalizedQuery normalize(String hql) {
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final ErrorListener errorListener = new ErrorListener();
+		lexer.removeErrorListeners();
+		lexer.addErrorListener( errorListener );
+		final List<? extends Token> tokens = lexer.getAllTokens();
+		if ( errorListener.failed ) {
+			// let the parser report the error
+			return null;
+		}
+
+		final int size = tokens.size();
+		for ( int i = 0; i < size; i++ ) {
+			final Token token = tokens.get( i );
+			if ( token.getType() == HqlLexer.QUESTION_MARK ) {
+				// named and positional parameters can't be mixed
+				return null;
+			}
+			if ( token.getType() == HqlLexer.COLON && i + 1 < size
+					&& tokens.get( i + 1 ).getText().startsWith( PARAMETER_PREFIX ) ) {
+				return null;
+			}
+		}
+
+		List<Token> literals = null;
+		for ( int i = 0; i < size; i++ ) {
+			final int type = tokens.get( i ).getType();
+			if ( isComparisonOperator( type ) ) {
+				if ( i + 1 < size && isLiteral( tokens.get( i + 1 ) )
+						&& ( i + 2 == size || endsOperand( tokens.get( i + 2 ).getType() ) ) ) {
+					if ( literals == null ) {
+						literals = new ArrayList<>();
+					}
+					literals.add( tokens.get( ++i ) );
+				}
+			}
+			else if ( type == HqlLexer.IN && i + 1 < size && tokens.get( i + 1 ).getType() == HqlLexer.LEFT_PAREN ) {
+				final int end = literalListEnd( tokens, i + 2 );
+				if ( end > 0 ) {
+					if ( literals == null ) {
+						literals = new ArrayList<>();
+					}
+					for ( int j = i + 2; j < end; j += 2 ) {
+						literals.add( tokens.get( j ) );
+					}
+					i = end;
+				}
+			}
+		}
+
+		if ( literals == null ) {
+			return null;
+		}
+
+		final StringBuilder sb = new StringBuilder( hql.length() + literals.size() * 16 );
+		final List<String> parameterNames = new ArrayList<>( literals.size() );
+		final List<Object> values = new ArrayList<>( literals.size() );
+		int position = 0;
+		for ( Token literal : literals ) {
+			final Object value = literalValue( literal );
+			final String name = PARAMETER_PREFIX + kind( value ) + values.size();
+			sb.append( hql, position, literal.getStartIndex() ).append( ':' ).append( name );
+			position = literal.getStopIndex() + 1;
+			parameterNames.add( name );
+			values.add( value );
+		}
+		sb.append( hql, position, hql.length() );
+
+		return new NormalizedQuery( sb.toString(), parameterNames, values );
+	}
+
+	private static boolean isComparisonOperator(int tokenType) {
+		switch ( tokenType ) {
+			case HqlLexer.EQUAL:
+			case HqlLexer.NOT_EQUAL:
+			case HqlLexer.GREATER:
+			case HqlLexer.GREATER_EQUAL:
+			case HqlLexer.LESS:
+			case HqlLexer.LESS_EQUAL:
+			case HqlLexer.LIKE:
+			case HqlLexer.ILIKE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Whether a token following a literal guarantees that the literal is the
+	 * whole operand, and not the start of a larger expression.
+	 */
+	private static boolean endsOperand(int tokenType) {
+		switch ( tokenType ) {
+			case HqlLexer.AND:
+			case HqlLexer.OR:
+			case HqlLexer.RIGHT_PAREN:
+			case HqlLexer.COMMA:
+			case HqlLexer.THEN:
+			case HqlLexer.ESCAPE:
+			case HqlLexer.WHERE:
+			case HqlLexer.GROUP:
+			case HqlLexer.HAVING:
+			case HqlLexer.ORDER:
+			case HqlLexer.LIMIT:
+			case HqlLexer.OFFSET:
+			case HqlLexer.FETCH:
+			case HqlLexer.UNION:
+			case HqlLexer.INTERSECT:
+			case HqlLexer.EXCEPT:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isLiteral(Token token) {
+		switch ( token.getType() ) {
+			case HqlLexer.STRING_LITERAL:
+				return true;
+			case HqlLexer.INTEGER_LITERAL:
+			case HqlLexer.LONG_LITERAL:
+				// leave literals out of range to the parser, which reports them
+				return literalValue( token ) != null;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Returns the index of the closing parenthesis of a list of literals of the
+	 * same kind starting at the given index, or {@code -1} if there is none.
+	 */
+	private static int literalListEnd(List<? extends Token> tokens, int start) {
+		final int size = tokens.size();
+		if ( start >= size || !isLiteral( tokens.get( start ) ) ) {
+			return -1;
+		}
+		final boolean strings = tokens.get( start ).getType() == HqlLexer.STRING_LITERAL;
+		for ( int i = start; i + 1 < size; i += 2 ) {
+			final Token literal = tokens.get( i );
+			if ( !isLiteral( literal ) || ( literal.getType() == HqlLexer.STRING_LITERAL ) != strings ) {
+				return -1;
+			}
+			final int separator = tokens.get( i + 1 ).getType();
+			if ( separator == HqlLexer.RIGHT_PAREN ) {
+				return i + 1;
+			}
+			else if ( separator != HqlLexer.COMMA ) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private static Object literalValue(Token token) {
+		final String text = token.getText();
+		switch ( token.getType() ) {
+			case HqlLexer.STRING_LITERAL:
+				return QuotingHelper.unquoteStringLiteral( text );
+			case HqlLexer.INTEGER_LITERAL:
+				try {
+					return Integer.valueOf( text );
+				}
+				catch (NumberFormatException e) {
+					try {
+						return Long.valueOf( text );
+					}
+					catch (NumberFormatException e2) {
+						return null;
+					}
+				}
+			case HqlLexer.LONG_LITERAL:
+				try {
+					return Long.valueOf( text.substring( 0, text.length() - 1 ) );
+				}
+				catch (NumberFormatException e) {
+					return null;
+				}
+			default:
+				throw new IllegalArgumentException( "Not a literal: " + text );
+		}
+	}
+
+	/**
+	 * The kind of value is encoded in the name of the parameter, so that
+	 * queries only share an interpretation if their literals are of the same
+	 * type.
+	 */
+	private static char kind(Object value) {
+		if ( value instanceof String ) {
+			return 's';
+		}
+		else if ( value instanceof Integer ) {
+			return 'i';
+		}
+		else {
+			return 'l';
+		}
+	}
+
+	private static class ErrorListener extends BaseErrorListener {
+		private boolean failed;
+
+		@Override
+		public void syntaxError(
+				Recognizer<?, ?> recognizer,
+				Object offendingSymbol,
+				int line,
+				int charPositionInLine,
+				String msg,
+				RecognitionException e) {
+			failed = true;
+		}
+	}
+
+	/**
+	 * A query string with literals replaced by synthetic parameters, along
+	 * with the names of the parameters and the values of the literals.
+	 */
+	public static final class NormalizedQuery {
+		private final String queryString;
+		private final List<String> parameterNames;
+		private final List<Object> literalValues;
+
+		private NormalizedQuery(String queryString, List<String> parameterNames, List<Object> literalValues) {
+			this.queryString = queryString;
+			this.parameterNames = Collections.unmodifiableList( parameterNames );
+			this.literalValues = Collections.unmodifiableList( literalValues );
+		}
+
+		public String getQueryString() {
+			return queryString;
+		}
+
+		/**
+		 * The names of the synthetic parameters, in order of appearance.
+		 */
+		public List<String> getParameterNames() {
+			return parameterNames;
+		}
+
+		/**
+		 * The values of the replaced literals, either {@link String}, {@link Integer}
+		 * or {@link Long}, in the same order as {@link #getParameterNames()}.
+		 */
+		public List<Object> getLiteralValues() {
+			return literalValues;
+		}
+	}
+}
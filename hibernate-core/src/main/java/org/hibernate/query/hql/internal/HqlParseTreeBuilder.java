@@ -12,9 +12,14 @@ import org.hibernate.query.hql.HqlLogging;
 
 import org.jboss.logging.Logger;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Leverages Antlr to build a parse tree from an HQL query
@@ -50,4 +55,46 @@ public class HqlParseTreeBuilder {
 		// Build the lexer
 		return buildHqlParser( hql, buildHqlLexer( hql ) );
 	}
+
+	/**
+	 * Parse the given query, reporting errors to the given listener.
+	 * <p>
+	 * The query is first parsed using SLL prediction, which is much faster than
+	 * full LL prediction, but fails for some valid input.  Only if it fails is the
+	 * query parsed again using LL prediction, which then reports actual errors.
+	 * <p>
+	 * The DFA built up during prediction is held statically by the generated parser,
+	 * so it is shared by all parsers, even those of different SessionFactories, and
+	 * every parsed query speeds up the prediction for later ones.
+	 */
+	public HqlParser.StatementContext parseHql(String hql, ANTLRErrorListener errorListener) {
+		final HqlLexer hqlLexer = buildHqlLexer( hql );
+		final HqlParser hqlParser = buildHqlParser( hql, hqlLexer );
+
+		hqlLexer.removeErrorListeners();
+		hqlLexer.addErrorListener( errorListener );
+
+		// try to use SLL(k)-based parsing first - its faster
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.addErrorListener( errorListener );
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+
+		try {
+			return hqlParser.statement();
+		}
+		catch ( ParseCancellationException e) {
+			HqlLogging.QUERY_LOGGER.debugf( "Falling back to LL prediction for HQL : %s", hql );
+
+			// rewind the token stream and reset the parser state; the lexer must not be
+			// reset, since the token stream already buffered the tokens read so far
+			hqlParser.reset();
+
+			// fall back to LL(k)-based parsing
+			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
+
+			return hqlParser.statement();
+		}
+	}
 }
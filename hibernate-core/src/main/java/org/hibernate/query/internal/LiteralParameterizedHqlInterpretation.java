@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.hibernate.query.hql.internal.HqlLiteralNormalizer;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+
+/**
+ * The cached interpretation of a query string whose literals were replaced by
+ * synthetic parameters, or a marker that the parameterized query string must
+ * not be used, because the type inferred for one of the parameters differs
+ * from the type of the literal it replaced.
+ *
+ * @see HqlLiteralNormalizer
+ */
+final class LiteralParameterizedHqlInterpretation implements HqlInterpretation {
+	private final String queryString;
+	private final HqlInterpretation delegate;
+	private final String[] parameterNames;
+	private final Class<?>[] parameterTypes;
+
+	private LiteralParameterizedHqlInterpretation(
+			String queryString,
+			HqlInterpretation delegate,
+			String[] parameterNames,
+			Class<?>[] parameterTypes) {
+		this.queryString = queryString;
+		this.delegate = delegate;
+		this.parameterNames = parameterNames;
+		this.parameterTypes = parameterTypes;
+	}
+
+	static LiteralParameterizedHqlInterpretation notApplicable(String queryString) {
+		return new LiteralParameterizedHqlInterpretation( queryString, null, null, null );
+	}
+
+	static LiteralParameterizedHqlInterpretation create(
+			HqlLiteralNormalizer.NormalizedQuery normalizedQuery,
+			HqlInterpretation interpretation) {
+		final String queryString = normalizedQuery.getQueryString();
+		final List<String> names = normalizedQuery.getParameterNames();
+		final List<Object> values = normalizedQuery.getLiteralValues();
+		final SqmStatement<?> sqmStatement = interpretation.getSqmStatement();
+
+		final String[] parameterNames = names.toArray( new String[0] );
+		final Class<?>[] parameterTypes = new Class<?>[parameterNames.length];
+		for ( SqmParameter<?> parameter : sqmStatement.getSqmParameters() ) {
+			final String name = parameter.getName();
+			if ( name == null || !name.startsWith( HqlLiteralNormalizer.PARAMETER_PREFIX ) ) {
+				continue;
+			}
+			final int index = names.indexOf( name );
+			final Class<?> type = inferredType( parameter );
+			if ( index < 0 || type == null || !isAssignable( values.get( index ), type ) ) {
+				return notApplicable( queryString );
+			}
+			parameterTypes[index] = type;
+		}
+		for ( Class<?> parameterType : parameterTypes ) {
+			if ( parameterType == null ) {
+				return notApplicable( queryString );
+			}
+		}
+
+		return new LiteralParameterizedHqlInterpretation( queryString, interpretation, parameterNames, parameterTypes );
+	}
+
+	private static Class<?> inferredType(SqmParameter<?> parameter) {
+		final SqmExpressible<?> nodeType = parameter.getNodeType();
+		if ( nodeType == null || nodeType.getExpressibleJavaType() == null ) {
+			return null;
+		}
+		return nodeType.getExpressibleJavaType().getJavaTypeClass();
+	}
+
+	/**
+	 * Only allow parameter types to which the value of the literal converts
+	 * without loss, so that binding the value has the same effect as the literal.
+	 */
+	private static boolean isAssignable(Object value, Class<?> type) {
+		if ( value instanceof String ) {
+			return type == String.class;
+		}
+		else if ( value instanceof Integer ) {
+			return type == Integer.class || type == Long.class
+					|| type == BigInteger.class || type == BigDecimal.class;
+		}
+		else {
+			return type == Long.class || type == BigInteger.class || type == BigDecimal.class;
+		}
+	}
+
+	private static Object convert(Object value, Class<?> type) {
+		if ( value instanceof String || value.getClass() == type ) {
+			return value;
+		}
+		final long longValue = ( (Number) value ).longValue();
+		if ( type == Long.class ) {
+			return longValue;
+		}
+		else if ( type == BigInteger.class ) {
+			return BigInteger.valueOf( longValue );
+		}
+		else if ( type == BigDecimal.class ) {
+			return BigDecimal.valueOf( longValue );
+		}
+		return value;
+	}
+
+	boolean isApplicable() {
+		return delegate != null;
+	}
+
+	/**
+	 * The interpretation for a particular query, binding the given literal values.
+	 */
+	HqlInterpretation withLiteralValues(List<Object> literalValues) {
+		assert isApplicable();
+		assert literalValues.size() == parameterNames.length;
+		return new HqlInterpretation() {
+			@Override
+			public SqmStatement getSqmStatement() {
+				return delegate.getSqmStatement();
+			}
+
+			@Override
+			public ParameterMetadataImplementor getParameterMetadata() {
+				return delegate.getParameterMetadata();
+			}
+
+			@Override
+			public DomainParameterXref getDomainParameterXref() {
+				return delegate.getDomainParameterXref();
+			}
+
+			@Override
+			public String resolveQueryString(String queryString) {
+				return LiteralParameterizedHqlInterpretation.this.queryString;
+			}
+
+			@Override
+			public void bindLiteralParameters(QueryParameterBindings bindings) {
+				for ( int i = 0; i < parameterNames.length; i++ ) {
+					bindings.getBinding( parameterNames[i] )
+							.setBindValue( convert( literalValues.get( i ), parameterTypes[i] ) );
+				}
+			}
+		};
+	}
+
+	@Override
+	public SqmStatement getSqmStatement() {
+		return delegate.getSqmStatement();
+	}
+
+	@Override
+	public ParameterMetadataImplementor getParameterMetadata() {
+		return delegate.getParameterMetadata();
+	}
+
+	@Override
+	public DomainParameterXref getDomainParameterXref() {
+		return delegate.getDomainParameterXref();
+	}
+
+	@Override
+	public String resolveQueryString(String queryString) {
+		return this.queryString;
+	}
+}
@@ -6,8 +6,13 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -17,15 +22,20 @@ import org.hibernate.boot.query.NamedProcedureCallDefinition;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
-import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.Query;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
 
 import org.jboss.logging.Logger;
 
@@ -209,65 +219,157 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Named query checking
 
+	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		return checkNamedQueries( queryEngine, 1 );
+	}
+
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine, int parallelism) {
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
-		final HqlTranslator sqmProducer = queryEngine.getHqlTranslator();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
-		final boolean cachingEnabled = interpretationCache.isEnabled();
+		// Checking interprets the queries into the interpretation cache, so
+		// that their first execution does not have to parse them again
+		final List<Runnable> checks = new ArrayList<>( sqmMementoMap.size() + sqlMementoMap.size() );
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			try {
-				log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
-				String queryString = hqlMemento.getHqlString();
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						s -> queryEngine.getHqlTranslator().translate( queryString )
-				);
-			}
-			catch ( HibernateException e ) {
-				errors.put( hqlMemento.getRegistrationName(), e );
-			}
+			checks.add( () -> checkNamedHqlQuery( hqlMemento, queryEngine, errors ) );
 		}
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", sqlMementoMap.size() );
 		for ( NamedNativeQueryMemento memento : sqlMementoMap.values() ) {
+			checks.add( () -> checkNamedNativeQuery( memento, queryEngine, errors ) );
+		}
+
+		runAll( checks, parallelism );
+
+		return new HashMap<>( errors );
+	}
+
+	@Override
+	public void prepareNamedQueryPlans(SessionFactoryImplementor sessionFactory, int parallelism) {
+		if ( !sessionFactory.getQueryEngine().getInterpretationCache().isEnabled() ) {
+			return;
+		}
+
+		log.debugf( "Preparing the query plans of %s named HQL queries", sqmMementoMap.size() );
+		final List<Runnable> preparations = new ArrayList<>( sqmMementoMap.size() );
+		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+			preparations.add( () -> prepareNamedHqlQueryPlan( hqlMemento, sessionFactory ) );
+		}
+
+		runAll( preparations, parallelism );
+	}
+
+	/**
+	 * Run the given tasks on a dedicated pool of the given number of threads,
+	 * or sequentially on the current thread
+	 */
+	private static void runAll(List<Runnable> tasks, int parallelism) {
+		final int threads = parallelism < 1 ? Runtime.getRuntime().availableProcessors() : parallelism;
+		if ( threads > 1 && tasks.size() > 1 ) {
+			log.debugf( "Running %s named query tasks using %s threads", tasks.size(), threads );
+			final ForkJoinPool pool = new ForkJoinPool( Math.min( threads, tasks.size() ) );
+			try {
+				final List<ForkJoinTask<?>> submitted = new ArrayList<>( tasks.size() );
+				for ( Runnable task : tasks ) {
+					submitted.add( pool.submit( task ) );
+				}
+				for ( ForkJoinTask<?> task : submitted ) {
+					task.join();
+				}
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		else {
+			for ( Runnable task : tasks ) {
+				task.run();
+			}
+		}
+	}
+
+	private static void checkNamedHqlQuery(
+			NamedSqmQueryMemento hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		try {
+			log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					hqlMemento.getHqlString(),
+					s -> queryEngine.getHqlTranslator().translate( s )
+			);
+		}
+		catch ( HibernateException e ) {
+			errors.put( hqlMemento.getRegistrationName(), e );
+		}
+	}
+
+	private static void checkNamedNativeQuery(
+			NamedNativeQueryMemento memento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		try {
+			log.debugf( "Checking named SQL query: %s", memento.getRegistrationName() );
 			memento.validate( queryEngine );
-//			// this will throw an error if there's something wrong.
-//			try {
-//				log.debugf( "Checking named SQL query: %s", memento.getRegistrationName() );
-//				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-//				// currently not doable though because of the resultset-ref stuff...
-//				NativeSQLQuerySpecification spec;
-//				if ( memento.getResultSetMappingName() != null ) {
-//					NamedResultSetMappingMemento resultSetMappingMemento = getResultSetMappingMemento( memento.getResultSetMappingName() );
-//					if ( resultSetMappingMemento == null ) {
-//						throw new MappingException( "Unable to find resultset-ref resultSetMappingMemento: " + memento.getResultSetMappingName() );
-//					}
-//					spec = new NativeSQLQuerySpecification(
-//							namedSQLQueryDefinition.getQueryString(),
-//							resultSetMappingMemento.getQueryReturns(),
-//							namedSQLQueryDefinition.getQuerySpaces()
-//					);
-//				}
-//				else {
-//					spec =  new NativeSQLQuerySpecification(
-//							namedSQLQueryDefinition.getQueryString(),
-//							namedSQLQueryDefinition.getQueryReturns(),
-//							namedSQLQueryDefinition.getQuerySpaces()
-//					);
-//				}
-//				queryEngine.getNativeSQLQueryPlan( spec );
-//			}
-//			catch ( HibernateException e ) {
-//				errors.put( namedSQLQueryDefinition.getName(), e );
-//			}
 		}
+		catch ( HibernateException e ) {
+			errors.put( memento.getRegistrationName(), e );
+			return;
+		}
+
+		if ( queryEngine.getInterpretationCache().isEnabled() ) {
+			try {
+				NativeQueryImpl.resolveParameterInterpretation( memento.getSqlString(), queryEngine );
+			}
+			catch ( HibernateException e ) {
+				// this only warms the cache, and invalid parameters have never been
+				// reported at startup; leave it to the first use of the query to report it
+				log.debugf( e, "Unable to recognize parameters of named SQL query: %s", memento.getRegistrationName() );
+			}
+		}
+	}
 
-		return errors;
+
+	private static void prepareNamedHqlQueryPlan(
+			NamedSqmQueryMemento hqlMemento,
+			SessionFactoryImplementor sessionFactory) {
+		// the plan is cached under the result type passed when the query is
+		// created: the type of a single selection is the one usually passed,
+		// otherwise the query is usually created without a result type
+		final Class<?> resultType = determineResultType( hqlMemento );
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openTemporarySession() ) {
+			log.debugf( "Preparing the query plan of named HQL query: %s", hqlMemento.getRegistrationName() );
+			final Query<?> query = resultType == null
+					? session.createNamedQuery( hqlMemento.getRegistrationName() )
+					: session.createNamedQuery( hqlMemento.getRegistrationName(), resultType );
+			if ( query instanceof QuerySqmImpl ) {
+				( (QuerySqmImpl<?>) query ).prepareSelectQueryPlan();
+			}
+		}
+		catch ( RuntimeException e ) {
+			// this only warms the cache, and the query was already checked;
+			// leave it to the first use of the query to report any problem
+			log.debugf( e, "Unable to prepare the query plan of named HQL query: %s", hqlMemento.getRegistrationName() );
+		}
+	}
+
+	private static Class<?> determineResultType(NamedSqmQueryMemento hqlMemento) {
+		final SqmStatement<?> statement = hqlMemento.getSqmStatement();
+		if ( statement instanceof SqmSelectStatement ) {
+			final List<SqmSelection<?>> selections = ( (SqmSelectStatement<?>) statement ).getQueryPart()
+					.getFirstQuerySpec()
+					.getSelectClause()
+					.getSelections();
+			if ( selections.size() == 1 ) {
+				return selections.get( 0 ).getSelectableNode().getJavaType();
+			}
+		}
+		return null;
 	}
 
 
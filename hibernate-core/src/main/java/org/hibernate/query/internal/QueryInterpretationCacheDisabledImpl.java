@@ -52,6 +52,10 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 		return null;
 	}
 
@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.internal.HqlLiteralNormalizer;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -42,14 +43,23 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final boolean parameterizeLiterals;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, statisticsSupplier, false );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			boolean parameterizeLiterals) {
 		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.parameterizeLiterals = parameterizeLiterals;
 	}
 
 	@Override
@@ -90,12 +100,27 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final QueryPlan cached = queryPlanCache.get( key );
+		// the same HQL string can never be both a select and a non-select
+		// statement, but be defensive about what we hand back
+		final NonSelectQueryPlan plan = cached instanceof NonSelectQueryPlan ? (NonSelectQueryPlan) cached : null;
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( plan != null ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			else {
+				statistics.queryPlanCacheMiss( key.getQueryString() );
+			}
+		}
+		return plan;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.put( key.prepareForStore(), plan );
 	}
 
 	@Override
@@ -103,27 +128,69 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, SqmStatement<?>> creator) {
 		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
+		if ( parameterizeLiterals ) {
+			final HqlInterpretation parameterized = resolveLiteralParameterizedInterpretation( queryString, creator );
+			if ( parameterized != null ) {
+				return parameterized;
+			}
+		}
+		return resolveHqlInterpretation(
+				queryString,
+				s -> createHqlInterpretation( creator.apply( s ) )
+		);
+	}
+
+	private HqlInterpretation resolveLiteralParameterizedInterpretation(
+			String queryString,
+			Function<String, SqmStatement<?>> creator) {
+		if ( hqlInterpretationCache.containsKey( queryString ) ) {
+			// the query string is known to not be parameterizable
+			return null;
+		}
+
+		final HqlLiteralNormalizer.NormalizedQuery normalizedQuery = HqlLiteralNormalizer.normalize( queryString );
+		if ( normalizedQuery == null ) {
+			return null;
+		}
+
+		final HqlInterpretation interpretation = resolveHqlInterpretation(
+				normalizedQuery.getQueryString(),
+				s -> {
+					final SqmStatement<?> sqmStatement;
+					try {
+						sqmStatement = creator.apply( s );
+					}
+					catch (RuntimeException e) {
+						// report the error for the query string as given
+						log.debugf( e, "Unable to interpret parameterized query - %s", s );
+						return LiteralParameterizedHqlInterpretation.notApplicable( s );
+					}
+					return LiteralParameterizedHqlInterpretation.create(
+							normalizedQuery,
+							createHqlInterpretation( sqmStatement )
+					);
+				}
+		);
+
+		final LiteralParameterizedHqlInterpretation parameterized = (LiteralParameterizedHqlInterpretation) interpretation;
+		if ( !parameterized.isApplicable() ) {
+			log.debugf( "Literals of query can't be replaced by parameters - %s", queryString );
+			return null;
+		}
+		return parameterized.withLiteralValues( normalizedQuery.getLiteralValues() );
+	}
+
+	private HqlInterpretation resolveHqlInterpretation(
+			String queryString,
+			Function<String, HqlInterpretation> creator) {
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 		final boolean stats = statistics.isStatisticsEnabled();
 		final long startTime = ( stats ) ? System.nanoTime() : 0L;
 
-		final DomainParameterXref domainParameterXref;
 		HqlInterpretation hqlInterpretation = hqlInterpretationCache.get( queryString );
 		if ( hqlInterpretation == null ) {
 			log.debugf( "Creating and caching HqlInterpretation - %s", queryString );
-			final SqmStatement<?> sqmStatement = creator.apply( queryString );
-			final ParameterMetadataImplementor parameterMetadata;
-
-			if ( sqmStatement.getSqmParameters().isEmpty() ) {
-				domainParameterXref = DomainParameterXref.empty();
-				parameterMetadata = ParameterMetadataImpl.EMPTY;
-			}
-			else {
-				domainParameterXref = DomainParameterXref.from( sqmStatement );
-				parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
-			}
-
-			hqlInterpretation = new SimpleHqlInterpretationImpl( sqmStatement, parameterMetadata, domainParameterXref );
+			hqlInterpretation = creator.apply( queryString );
 			hqlInterpretationCache.put( queryString, hqlInterpretation );
 
 			if ( stats ) {
@@ -141,6 +208,22 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return hqlInterpretation;
 	}
 
+	private static HqlInterpretation createHqlInterpretation(SqmStatement<?> sqmStatement) {
+		final DomainParameterXref domainParameterXref;
+		final ParameterMetadataImplementor parameterMetadata;
+
+		if ( sqmStatement.getSqmParameters().isEmpty() ) {
+			domainParameterXref = DomainParameterXref.empty();
+			parameterMetadata = ParameterMetadataImpl.EMPTY;
+		}
+		else {
+			domainParameterXref = DomainParameterXref.from( sqmStatement );
+			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
+		}
+
+		return new SimpleHqlInterpretationImpl( sqmStatement, parameterMetadata, domainParameterXref );
+	}
+
 	@Override
 	public ParameterInterpretation resolveNativeQueryParameters(
 			String queryString,
@@ -40,6 +40,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
+	private boolean evictingProcessedEntities;
 
 	private TupleTransformer tupleTransformer;
 	private ResultListTransformer resultListTransformer;
@@ -184,6 +185,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return readOnlyEnabled;
 	}
 
+	@Override
+	public void setEvictingProcessedEntities(boolean evictingProcessedEntities) {
+		this.evictingProcessedEntities = evictingProcessedEntities;
+	}
+
+	@Override
+	public boolean isEvictingProcessedEntities() {
+		return evictingProcessedEntities;
+	}
+
 	@Override
 	public void applyGraph(RootGraphImplementor<?> rootGraph, GraphSemantic graphSemantic) {
 		this.rootGraph = rootGraph;
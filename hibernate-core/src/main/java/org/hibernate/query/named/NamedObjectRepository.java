@@ -69,6 +69,27 @@ public interface NamedObjectRepository {
 	 */
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Perform a validity check on all named queries, using the given number
+	 * of threads
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache, int parallelism) {
+		return checkNamedQueries( queryPlanCache );
+	}
+
+	/**
+	 * Prepare the select query plans of the named HQL queries, and translate
+	 * their SQL, using the given number of threads.  Called once the session
+	 * factory is ready to open sessions, after the named queries were checked.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM
+	 */
+	default void prepareNamedQueryPlans(SessionFactoryImplementor sessionFactory, int parallelism) {
+		// by default, nothing to do...
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
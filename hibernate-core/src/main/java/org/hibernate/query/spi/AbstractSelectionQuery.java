@@ -17,6 +17,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.FlushModeType;
@@ -435,6 +441,51 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public LongStream getResultLongStream() {
+		final ScrollableResultsImplementor<R> scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		final Spliterator.OfLong spliterator = new Spliterators.AbstractLongSpliterator(
+				Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL
+		) {
+			@Override
+			public boolean tryAdvance(LongConsumer action) {
+				return scrollableResults.tryAdvanceLong( action );
+			}
+		};
+		return new LongStreamDecorator( StreamSupport.longStream( spliterator, false ), scrollableResults::close );
+	}
+
+	@Override
+	public IntStream getResultIntStream() {
+		final ScrollableResultsImplementor<R> scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		final Spliterator.OfInt spliterator = new Spliterators.AbstractIntSpliterator(
+				Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL
+		) {
+			@Override
+			public boolean tryAdvance(IntConsumer action) {
+				return scrollableResults.tryAdvanceInt( action );
+			}
+		};
+		return new IntStreamDecorator( StreamSupport.intStream( spliterator, false ), scrollableResults::close );
+	}
+
+	@Override
+	public DoubleStream getResultDoubleStream() {
+		final ScrollableResultsImplementor<R> scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		final Spliterator.OfDouble spliterator = new Spliterators.AbstractDoubleSpliterator(
+				Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL
+		) {
+			@Override
+			public boolean tryAdvance(DoubleConsumer action) {
+				return scrollableResults.tryAdvanceDouble( action );
+			}
+		};
+		return new DoubleStreamDecorator( StreamSupport.doubleStream( spliterator, false ), scrollableResults::close );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
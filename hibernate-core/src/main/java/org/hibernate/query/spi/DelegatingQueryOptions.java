@@ -43,6 +43,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.isReadOnly();
 	}
 
+	@Override
+	public boolean isEvictingProcessedEntities() {
+		return queryOptions.isEvictingProcessedEntities();
+	}
+
 	@Override
 	public AppliedGraph getAppliedGraph() {
 		return queryOptions.getAppliedGraph();
@@ -18,4 +18,24 @@ public interface HqlInterpretation {
 	ParameterMetadataImplementor getParameterMetadata();
 
 	DomainParameterXref getDomainParameterXref();
+
+	/**
+	 * The query string under which the query plans of a query created from
+	 * this interpretation are cached.  This is the given query string, unless
+	 * its literals were replaced by parameters.  The query itself still reports
+	 * the given query string.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+	 */
+	default String resolveQueryString(String queryString) {
+		return queryString;
+	}
+
+	/**
+	 * Bind the values of the literals which were replaced by parameters, if any.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS
+	 */
+	default void bindLiteralParameters(QueryParameterBindings bindings) {
+	}
 }
@@ -74,6 +74,11 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setReadOnly(boolean readOnly);
 
+	/**
+	 * Corollary to {@link #isEvictingProcessedEntities()}
+	 */
+	void setEvictingProcessedEntities(boolean evictingProcessedEntities);
+
 	/**
 	 * Corollary to {@link #getComment()}
 	 */
@@ -372,7 +372,13 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final boolean parameterizeLiterals = ConfigurationHelper.getBoolean(
+					AvailableSettings.QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS,
+					properties,
+					false
+			);
+
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier, parameterizeLiterals );
 		}
 		else {
 			// disabled
@@ -44,6 +44,16 @@ public interface QueryOptions {
 	 */
 	Boolean isReadOnly();
 
+	/**
+	 * Should the entities loaded by a row of the results be evicted once the
+	 * results are scrolled past that row.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_EVICT_PROCESSED
+	 */
+	default boolean isEvictingProcessedEntities() {
+		return false;
+	}
+
 	/**
 	 * JPA {@link jakarta.persistence.EntityGraph} explicitly applied to the
 	 * query.
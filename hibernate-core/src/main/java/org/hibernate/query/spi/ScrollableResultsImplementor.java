@@ -6,6 +6,11 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollableResults;
 
@@ -17,4 +22,66 @@ import org.hibernate.ScrollableResults;
 @Incubating
 public interface ScrollableResultsImplementor<R> extends ScrollableResults<R> {
 	boolean isClosed();
+
+	/**
+	 * Move to the next row and pass its single numeric result to the given
+	 * consumer as a {@code long}.  Implementations may avoid materializing
+	 * (and boxing) the row.
+	 *
+	 * @return {@code false} if there are no more rows
+	 *
+	 * @throws HibernateException if the result is null or not numeric
+	 */
+	default boolean tryAdvanceLong(LongConsumer action) {
+		if ( !next() ) {
+			return false;
+		}
+		action.accept( toNumber( get() ).longValue() );
+		return true;
+	}
+
+	/**
+	 * Move to the next row and pass its single numeric result to the given
+	 * consumer as an {@code int}.
+	 *
+	 * @return {@code false} if there are no more rows
+	 *
+	 * @throws HibernateException if the result is null or not numeric
+	 * @throws ArithmeticException if the result does not fit in an {@code int}
+	 */
+	default boolean tryAdvanceInt(IntConsumer action) {
+		if ( !next() ) {
+			return false;
+		}
+		action.accept( Math.toIntExact( toNumber( get() ).longValue() ) );
+		return true;
+	}
+
+	/**
+	 * Move to the next row and pass its single numeric result to the given
+	 * consumer as a {@code double}.  Implementations may avoid materializing
+	 * (and boxing) the row.
+	 *
+	 * @return {@code false} if there are no more rows
+	 *
+	 * @throws HibernateException if the result is null or not numeric
+	 */
+	default boolean tryAdvanceDouble(DoubleConsumer action) {
+		if ( !next() ) {
+			return false;
+		}
+		action.accept( toNumber( get() ).doubleValue() );
+		return true;
+	}
+
+	private static Number toNumber(Object result) {
+		if ( result instanceof Number ) {
+			return (Number) result;
+		}
+		throw new HibernateException(
+				result == null
+						? "Unexpected null result"
+						: "Unexpected non-numeric result of type " + result.getClass().getName()
+		);
+	}
 }
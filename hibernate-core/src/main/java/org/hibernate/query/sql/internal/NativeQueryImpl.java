@@ -30,7 +30,6 @@ import org.hibernate.QueryException;
 import org.hibernate.ScrollMode;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
-import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
@@ -339,8 +338,16 @@ public class NativeQueryImpl<R>
 	private ParameterInterpretation resolveParameterInterpretation(
 			String sqlString,
 			SharedSessionContractImplementor session) {
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		return resolveParameterInterpretation( sqlString, session.getFactory().getQueryEngine() );
+	}
+
+	/**
+	 * Resolve the parameters of the given SQL through the
+	 * {@link QueryInterpretationCache}, recognizing them if not cached yet.
+	 */
+	public static ParameterInterpretation resolveParameterInterpretation(
+			String sqlString,
+			QueryEngine queryEngine) {
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 
 		return interpretationCache.resolveNativeQueryParameters(
@@ -348,9 +355,7 @@ public class NativeQueryImpl<R>
 					s -> {
 						final ParameterRecognizerImpl parameterRecognizer = new ParameterRecognizerImpl();
 
-						session.getFactory().getServiceRegistry()
-								.getService( NativeQueryInterpreter.class )
-								.recognizeParameters( sqlString, parameterRecognizer );
+						queryEngine.getNativeQueryInterpreter().recognizeParameters( sqlString, parameterRecognizer );
 
 						return new ParameterInterpretationImpl( parameterRecognizer );
 					}
@@ -10,7 +10,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.query.Query;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -24,6 +28,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
@@ -54,6 +59,7 @@ import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
 
@@ -65,6 +71,12 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translated variants kept per plan.  Once reached,
+	 * additional variants are translated per execution without being kept.
+	 */
+	private static final int MAX_INTERPRETATION_VARIANTS = 8;
+
 	private final SqmSelectStatement<?> sqm;
 	private final String hql;
 	private final DomainParameterXref domainParameterXref;
@@ -72,7 +84,12 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The translated variants of this plan, keyed by the parts of the
+	 * {@link QueryOptions} which influence the rendered SQL.  Bounded
+	 * by {@link #MAX_INTERPRETATION_VARIANTS}.
+	 */
+	private final ConcurrentHashMap<InterpretationVariantKey, CacheableSqmInterpretation> cacheableSqmInterpretations = new ConcurrentHashMap<>( 4 );
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -256,48 +273,71 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
-	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+	/**
+	 * Translate the SQL of the variant for the query options of the given context,
+	 * unless it is already translated, without executing it
+	 */
+	public void prepareInterpretation(DomainQueryExecutionContext executionContext) {
+		final InterpretationVariantKey variantKey = new InterpretationVariantKey( executionContext.getQueryOptions() );
+		if ( !cacheableSqmInterpretations.containsKey( variantKey )
+				&& cacheableSqmInterpretations.size() < MAX_INTERPRETATION_VARIANTS ) {
+			final CacheableSqmInterpretation interpretation = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref,
+					executionContext
+			);
+			// the parameters are not bound yet, so these bindings are of no use
+			interpretation.firstParameterBindings = null;
+			cacheableSqmInterpretations.putIfAbsent( variantKey, interpretation );
+		}
+	}
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		// A plan is executed with varying query options, e.g. paginated and unpaginated
+		// or with different lock modes, and each combination needs its own SQL.  Instead
+		// of a single interpretation which is rebuilt whenever the options change, we keep
+		// one interpretation per variant so that alternating executions don't thrash.
+		//
+		// NOTE : no locking here - concurrent executions of an unseen variant could
+		//		both translate it, which is harmless as the last one simply wins
+
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final InterpretationVariantKey variantKey = new InterpretationVariantKey( queryOptions );
+
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( variantKey );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-			}
-		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
+		if ( localCopy != null ) {
+			// If the translation depends on parameter bindings, the variant might still not
+			// be compatible with the current bindings in which case we have to rebuild it
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+				localCopy = null;
+				jdbcParameterBindings = null;
+			}
+		}
+
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( localCopy == null ) {
+			localCopy = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref,
+					executionContext
+			);
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			if ( cacheableSqmInterpretations.size() < MAX_INTERPRETATION_VARIANTS
+					|| cacheableSqmInterpretations.containsKey( variantKey ) ) {
+				cacheableSqmInterpretations.put( variantKey, localCopy );
 			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanVariantMiss( hql );
+			}
+		}
+		else if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanVariantHit( hql );
 		}
 
 		if ( jdbcParameterBindings == null ) {
@@ -388,6 +428,52 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	/**
+	 * The parts of the {@link QueryOptions} which lead to different SQL
+	 * for the same SQM.  Parameter values which are rendered into the SQL
+	 * are still verified through {@link JdbcSelect#isCompatibleWith}.
+	 */
+	private static class InterpretationVariantKey {
+		private final boolean hasFirstRow;
+		private final boolean hasMaxRows;
+		private final LockMode lockMode;
+		private final Boolean followOnLocking;
+
+		InterpretationVariantKey(QueryOptions queryOptions) {
+			final Limit limit = queryOptions.getLimit();
+			this.hasFirstRow = limit != null && limit.getFirstRow() != null;
+			this.hasMaxRows = limit != null && limit.getMaxRows() != null;
+			final LockOptions lockOptions = queryOptions.getLockOptions();
+			this.lockMode = lockOptions == null ? null : lockOptions.findGreatestLockMode();
+			this.followOnLocking = lockOptions == null ? null : lockOptions.getFollowOnLocking();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			final InterpretationVariantKey that = (InterpretationVariantKey) o;
+			return hasFirstRow == that.hasFirstRow
+					&& hasMaxRows == that.hasMaxRows
+					&& lockMode == that.lockMode
+					&& Objects.equals( followOnLocking, that.followOnLocking );
+		}
+
+		@Override
+		public int hashCode() {
+			int result = hasFirstRow ? 1 : 0;
+			result = 31 * result + ( hasMaxRows ? 1 : 0 );
+			result = 31 * result + ( lockMode != null ? lockMode.hashCode() : 0 );
+			result = 31 * result + ( followOnLocking != null ? followOnLocking.hashCode() : 0 );
+			return result;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+/**
+ * A {@link SelectQueryPlan} shared by all criteria queries with the same
+ * {@linkplain SqmStructuralKey structure}.
+ * <p>
+ * The plan is built from a private copy of the tree of the criteria query which
+ * first created it, so that it is not affected by later changes to that query.
+ * Since every criteria query has its own parameter objects, the bindings of the
+ * executing query are transferred to the parameters of the copy, matching them
+ * by their position in the structural key.
+ *
+ * @see SqmStructuralKey
+ */
+public class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final ParameterMetadataImplementor parameterMetadata;
+
+	public CriteriaSelectQueryPlan(
+			SqmSelectStatement<R> statement,
+			SqmStructuralKey structuralKey,
+			BiFunction<SqmSelectStatement<R>, DomainParameterXref, SelectQueryPlan<R>> planCreator) {
+		final SqmCopyContext copyContext = SqmCopyContext.simpleContext();
+		final SqmSelectStatement<R> statementCopy = statement.copy( copyContext );
+
+		final List<JpaCriteriaParameter<?>> keyParameters = structuralKey.getParameters();
+		this.parameters = new ArrayList<>( keyParameters.size() );
+		for ( JpaCriteriaParameter<?> parameter : keyParameters ) {
+			// plain criteria parameters are never copied, since their identity matters
+			final JpaCriteriaParameter<?> parameterCopy = copyContext.getCopy( parameter );
+			parameters.add( parameterCopy == null ? parameter : parameterCopy );
+		}
+
+		final DomainParameterXref domainParameterXref = DomainParameterXref.from( statementCopy );
+		this.parameterMetadata = domainParameterXref.hasParameters()
+				? new ParameterMetadataImpl( domainParameterXref.getQueryParameters() )
+				: ParameterMetadataImpl.EMPTY;
+		this.delegate = planCreator.apply( statementCopy, domainParameterXref );
+	}
+
+	/**
+	 * Adapts this plan for execution by a query whose parameters, in the order
+	 * of its {@link SqmStructuralKey#getParameters() structural key}, are given.
+	 */
+	public SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> queryParameters) {
+		assert queryParameters.size() == parameters.size();
+		return new SelectQueryPlan<R>() {
+			@Override
+			public List<R> performList(DomainQueryExecutionContext executionContext) {
+				return CriteriaSelectQueryPlan.this.performList( transferBindings( executionContext, queryParameters ) );
+			}
+
+			@Override
+			public ScrollableResultsImplementor<R> performScroll(
+					ScrollMode scrollMode,
+					DomainQueryExecutionContext executionContext) {
+				return CriteriaSelectQueryPlan.this.performScroll(
+						scrollMode,
+						transferBindings( executionContext, queryParameters )
+				);
+			}
+		};
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private DomainQueryExecutionContext transferBindings(
+			DomainQueryExecutionContext executionContext,
+			List<JpaCriteriaParameter<?>> queryParameters) {
+		if ( parameters.isEmpty() ) {
+			return executionContext;
+		}
+
+		final QueryParameterBindings queryBindings = executionContext.getQueryParameterBindings();
+		final QueryParameterBindings planBindings = QueryParameterBindingsImpl.from(
+				parameterMetadata,
+				executionContext.getSession().getFactory()
+		);
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			transferBinding(
+					queryBindings.getBinding( queryParameters.get( i ) ),
+					planBindings.getBinding( parameters.get( i ) )
+			);
+		}
+
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return planBindings;
+			}
+		};
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void transferBinding(QueryParameterBinding source, QueryParameterBinding target) {
+		if ( !source.isBound() ) {
+			return;
+		}
+		if ( source.getExplicitTemporalPrecision() != null ) {
+			target.setBindValue( source.getBindValue(), source.getExplicitTemporalPrecision() );
+		}
+		else {
+			target.setBindValue( source.getBindValue(), source.getBindType() );
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.query.sqm.internal;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.sqm.mutation.internal.InsertHandler;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
 
@@ -20,6 +21,10 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	private final DomainParameterXref domainParameterXref;
 	private final SqmMultiTableInsertStrategy mutationStrategy;
 
+	// NOTE : plans are cached in the QueryInterpretationCache, and the handler keeps
+	//		the translation of the statement, so it is built once for the plan
+	private volatile InsertHandler handler;
+
 	public MultiTableInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
 			DomainParameterXref domainParameterXref,
@@ -32,6 +37,11 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
-		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref, executionContext );
+		InsertHandler handler = this.handler;
+		if ( handler == null ) {
+			handler = mutationStrategy.buildInsertHandler( sqmInsert, domainParameterXref, executionContext );
+			this.handler = handler;
+		}
+		return handler.execute( executionContext );
 	}
 }
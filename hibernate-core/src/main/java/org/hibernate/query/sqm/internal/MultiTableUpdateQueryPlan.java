@@ -9,6 +9,7 @@ package org.hibernate.query.sqm.internal;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.sqm.mutation.internal.UpdateHandler;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -21,6 +22,10 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	private final DomainParameterXref domainParameterXref;
 	private final SqmMultiTableMutationStrategy mutationStrategy;
 
+	// NOTE : plans are cached in the QueryInterpretationCache, and the handler keeps
+	//		the translation of the statement, so it is built once for the plan
+	private volatile UpdateHandler handler;
+
 	public MultiTableUpdateQueryPlan(
 			SqmUpdateStatement sqmUpdate,
 			DomainParameterXref domainParameterXref,
@@ -33,6 +38,11 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
-		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
+		UpdateHandler handler = this.handler;
+		if ( handler == null ) {
+			handler = mutationStrategy.buildUpdateHandler( sqmUpdate, domainParameterXref, executionContext );
+			this.handler = handler;
+		}
+		return handler.execute( executionContext );
 	}
 }
@@ -125,6 +125,9 @@ public class QuerySqmImpl<R>
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QuerySqmImpl.class );
 
 	private final String hql;
+	// the query string under which the query plans are cached, which differs
+	// from the HQL when its literals were replaced by parameters
+	private final String planCacheQueryString;
 	private final SqmStatement<R> sqm;
 
 	private final ParameterMetadataImplementor parameterMetadata;
@@ -144,16 +147,17 @@ public class QuerySqmImpl<R>
 			SharedSessionContractImplementor session) {
 		super( session );
 
-		this.hql = memento.getHqlString();
 		this.resultType = resultType;
 
 		final SessionFactoryImplementor factory = session.getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 		final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
-				hql,
-				(s) -> queryEngine.getHqlTranslator().translate( hql )
+				memento.getHqlString(),
+				(s) -> queryEngine.getHqlTranslator().translate( s )
 		);
+		this.hql = memento.getHqlString();
+		this.planCacheQueryString = hqlInterpretation.resolveQueryString( hql );
 
 		this.sqm = hqlInterpretation.getSqmStatement();
 
@@ -161,6 +165,7 @@ public class QuerySqmImpl<R>
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
 
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, session.getFactory() );
+		hqlInterpretation.bindLiteralParameters( parameterBindings );
 
 		validateStatement( sqm, resultType );
 		setComment( hql );
@@ -190,6 +195,7 @@ public class QuerySqmImpl<R>
 			SharedSessionContractImplementor session) {
 		super( session );
 		this.hql = hql;
+		this.planCacheQueryString = hqlInterpretation.resolveQueryString( hql );
 		this.resultType = resultType;
 
 		this.sqm = hqlInterpretation.getSqmStatement();
@@ -198,6 +204,7 @@ public class QuerySqmImpl<R>
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
 
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, session.getFactory() );
+		hqlInterpretation.bindLiteralParameters( parameterBindings );
 
 		validateStatement( sqm, resultType );
 		setComment( hql );
@@ -214,6 +221,7 @@ public class QuerySqmImpl<R>
 			SharedSessionContractImplementor producer) {
 		super( producer );
 		this.hql = CRITERIA_HQL_STRING;
+		this.planCacheQueryString = CRITERIA_HQL_STRING;
 		if ( producer.isCriteriaCopyTreeEnabled() ) {
 			this.sqm = criteria.copy( SqmCopyContext.simpleContext() );
 		}
@@ -404,6 +412,11 @@ public class QuerySqmImpl<R>
 		return hql;
 	}
 
+	@Override
+	public String getPlanCacheQueryString() {
+		return planCacheQueryString;
+	}
+
 	public SqmStatement getSqmStatement() {
 		return sqm;
 	}
@@ -557,33 +570,81 @@ public class QuerySqmImpl<R>
 	// Select query plan
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+		final QueryInterpretationCache interpretationCache = getSession().getFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildSelectQueryPlan
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+		}
+
+		if ( CRITERIA_HQL_STRING.equals( hql ) && tupleMetadata == null && interpretationCache.isEnabled() ) {
+			// structurally equal criteria queries share a plan; not for Tuple results though,
+			// since the TupleMetadata refers to the selection nodes of one particular query
+			final SqmStructuralKey structuralKey = SqmStructuralKey.from( (SqmSelectStatement<R>) getSqmStatement() );
+			final QueryInterpretationCache.Key criteriaCacheKey = SqmInterpretationsKey.createInterpretationsKey(
+					this,
+					structuralKey
 			);
+			if ( criteriaCacheKey != null ) {
+				final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+						criteriaCacheKey,
+						() -> new CriteriaSelectQueryPlan<>(
+								(SqmSelectStatement<R>) getSqmStatement(),
+								structuralKey,
+								this::buildSelectQueryPlan
+						)
+				);
+				return ( (CriteriaSelectQueryPlan<R>) plan ).forParameters( structuralKey.getParameters() );
+			}
 		}
-		else {
-			return buildSelectQueryPlan();
+
+		return buildSelectQueryPlan();
+	}
+
+	/**
+	 * Resolve the plan of this select query into the interpretation cache, and
+	 * translate its SQL for the current query options, without executing it.
+	 * Used to warm the cache with the plans of named queries at startup.
+	 */
+	public void prepareSelectQueryPlan() {
+		if ( getSqmStatement() instanceof SqmSelectStatement
+				&& SqmInterpretationsKey.createInterpretationsKey( this ) != null ) {
+			final SelectQueryPlan<R> plan = resolveSelectQueryPlan();
+			if ( plan instanceof ConcreteSqmSelectQueryPlan ) {
+				( (ConcreteSqmSelectQueryPlan<R>) plan ).prepareInterpretation( this );
+			}
 		}
 	}
 
 	private SelectQueryPlan<R> buildSelectQueryPlan() {
+		return buildSelectQueryPlan( (SqmSelectStatement<R>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -592,6 +653,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -602,12 +664,13 @@ public class QuerySqmImpl<R>
 
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
-				getQueryString(),
-				getDomainParameterXref(),
+				getPlanCacheQueryString(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -29,7 +29,6 @@ import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -48,9 +47,10 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcDelete jdbcDelete;
-	private SqmTranslation<DeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	// NOTE : plans are cached in the QueryInterpretationCache and may be executed
+	//		concurrently, so all translation state is published as a single immutable
+	//		holder rather than as separate mutable fields
+	private volatile CacheableDeleteInterpretation cacheableInterpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -63,7 +63,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcDelete> createDeleteTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslation<DeleteStatement> translate(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -77,33 +77,19 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		sqmInterpretation = translator.translate();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
+		return translator.translate();
 	}
 
-	@Override
-	public int executeUpdate(DomainQueryExecutionContext executionContext) {
-		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
+	private JdbcParameterBindings createJdbcParameterBindings(
+			CacheableDeleteInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		final SessionFactoryImplementor factory = session.getFactory();
-		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcDelete> deleteTranslator = null;
-		if ( jdbcDelete == null ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+		final SqmTranslation<DeleteStatement> sqmInterpretation = interpretation.sqmInterpretation;
+		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
+				interpretation.jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getFromClauseAccess()::findTableGroup,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
@@ -113,24 +99,56 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				},
 				session
 		);
+	}
 
-		if ( jdbcDelete != null
-				&& ! jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
+	@Override
+	public int executeUpdate(DomainQueryExecutionContext executionContext) {
+		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final JdbcServices jdbcServices = factory.getJdbcServices();
 
-		if ( deleteTranslator != null ) {
-			jdbcDelete = deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		CacheableDeleteInterpretation interpretation = cacheableInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			if ( interpretation.jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+			}
+			else {
+				interpretation = null;
+			}
 		}
-		else {
-			jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+
+		if ( interpretation == null ) {
+			final SqmTranslation<DeleteStatement> translation = translate( executionContext );
+			final CacheableDeleteInterpretation partialInterpretation = new CacheableDeleteInterpretation(
+					null,
+					translation,
+					SqmUtil.generateJdbcParamsXref( domainParameterXref, translation::getJdbcParamsBySqmParam )
+			);
+			jdbcParameterBindings = createJdbcParameterBindings( partialInterpretation, executionContext );
+			final JdbcDelete jdbcDelete = factory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildDeleteTranslator( factory, translation.getSqlAst() )
+					.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			interpretation = new CacheableDeleteInterpretation(
+					jdbcDelete,
+					translation,
+					partialInterpretation.jdbcParamsXref
+			);
+			cacheableInterpretation = interpretation;
 		}
 
+		final JdbcDelete jdbcDelete = interpretation.jdbcDelete;
+		final SqmTranslation<DeleteStatement> sqmInterpretation = interpretation.sqmInterpretation;
+
 		final boolean missingRestriction = sqmDelete.getWhereClause() == null
 				|| sqmDelete.getWhereClause().getPredicate() == null;
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert interpretation.jdbcParamsXref.isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -187,4 +205,19 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				executionContextAdapter
 		);
 	}
+
+	private static class CacheableDeleteInterpretation {
+		private final JdbcDelete jdbcDelete;
+		private final SqmTranslation<DeleteStatement> sqmInterpretation;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+
+		CacheableDeleteInterpretation(
+				JdbcDelete jdbcDelete,
+				SqmTranslation<DeleteStatement> sqmInterpretation,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref) {
+			this.jdbcDelete = jdbcDelete;
+			this.sqmInterpretation = sqmInterpretation;
+			this.jdbcParamsXref = jdbcParamsXref;
+		}
+	}
 }
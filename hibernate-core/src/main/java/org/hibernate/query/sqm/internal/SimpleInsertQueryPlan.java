@@ -24,7 +24,6 @@ import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.insert.InsertStatement;
@@ -37,11 +36,11 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
 
-	private JdbcInsert jdbcInsert;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	// NOTE : plans are cached in the QueryInterpretationCache and may be executed
+	//		concurrently, so all translation state is published as a single immutable
+	//		holder rather than as separate mutable fields
+	private volatile CacheableInsertInterpretation cacheableInterpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
@@ -50,7 +49,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcInsert> createInsertTranslator(DomainQueryExecutionContext executionContext) {
+	private SqmTranslation<InsertStatement> translate(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -64,21 +63,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		final SqmTranslation<InsertStatement> sqmInterpretation = translator.translate();
-
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildInsertTranslator( factory, sqmInterpretation.getSqlAst() );
+		return translator.translate();
 	}
 
 	@Override
@@ -87,42 +72,44 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcInsert> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
 
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
+		CacheableInsertInterpretation interpretation = cacheableInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			if ( interpretation.jdbcInsert.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings );
+			}
+			else {
+				interpretation = null;
+			}
 		}
 
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
-		else {
-			jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( interpretation == null ) {
+			final SqmTranslation<InsertStatement> sqmInterpretation = translate( executionContext );
+			final CacheableInsertInterpretation partialInterpretation = new CacheableInsertInterpretation(
+					null,
+					sqmInterpretation.getFromClauseAccess(),
+					SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam ),
+					sqmInterpretation.getSqmParameterMappingModelTypeResolutions()
+			);
+			jdbcParameterBindings = createJdbcParameterBindings( partialInterpretation, executionContext );
+			final JdbcInsert jdbcInsert = factory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildInsertTranslator( factory, sqmInterpretation.getSqlAst() )
+					.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			interpretation = new CacheableInsertInterpretation(
+					jdbcInsert,
+					partialInterpretation.tableGroupAccess,
+					partialInterpretation.jdbcParamsXref,
+					partialInterpretation.paramTypeResolutions
+			);
+			cacheableInterpretation = interpretation;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcInsert,
+				interpretation.jdbcInsert,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -132,4 +119,42 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext )
 		);
 	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			CacheableInsertInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				interpretation.jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				interpretation.tableGroupAccess::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) interpretation.paramTypeResolutions.get( parameter );
+					}
+				},
+				session
+		);
+	}
+
+	private static class CacheableInsertInterpretation {
+		private final JdbcInsert jdbcInsert;
+		private final FromClauseAccess tableGroupAccess;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+		private final Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
+
+		CacheableInsertInterpretation(
+				JdbcInsert jdbcInsert,
+				FromClauseAccess tableGroupAccess,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions) {
+			this.jdbcInsert = jdbcInsert;
+			this.tableGroupAccess = tableGroupAccess;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.paramTypeResolutions = paramTypeResolutions;
+		}
+	}
 }
@@ -24,7 +24,6 @@ import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
@@ -38,10 +37,10 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 	private final SqmUpdateStatement<?> sqmUpdate;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcUpdate jdbcUpdate;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+	// NOTE : plans are cached in the QueryInterpretationCache and may be executed
+	//		concurrently, so all translation state is published as a single immutable
+	//		holder rather than as separate mutable fields
+	private volatile CacheableUpdateInterpretation cacheableInterpretation;
 
 	public SimpleUpdateQueryPlan(
 			SqmUpdateStatement<?> sqmUpdate,
@@ -56,42 +55,44 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcUpdate> updateTranslator = null;
-		if ( jdbcUpdate == null ) {
-			updateTranslator = createUpdateTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
 
-		if ( jdbcUpdate != null && !jdbcUpdate.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			updateTranslator = createUpdateTranslator( executionContext );
+		CacheableUpdateInterpretation interpretation = cacheableInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			if ( interpretation.jdbcUpdate.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcUpdate.bindFilterJdbcParameters( jdbcParameterBindings );
+			}
+			else {
+				interpretation = null;
+			}
 		}
 
-		if ( updateTranslator != null ) {
-			jdbcUpdate = updateTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
-		else {
-			jdbcUpdate.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( interpretation == null ) {
+			final SqmTranslation<UpdateStatement> sqmInterpretation = translate( executionContext );
+			final CacheableUpdateInterpretation partialInterpretation = new CacheableUpdateInterpretation(
+					null,
+					sqmInterpretation.getFromClauseAccess(),
+					SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam ),
+					sqmInterpretation.getSqmParameterMappingModelTypeResolutions()
+			);
+			jdbcParameterBindings = createJdbcParameterBindings( partialInterpretation, executionContext );
+			final JdbcUpdate jdbcUpdate = factory.getJdbcServices()
+					.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildUpdateTranslator( factory, sqmInterpretation.getSqlAst() )
+					.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			interpretation = new CacheableUpdateInterpretation(
+					jdbcUpdate,
+					partialInterpretation.tableGroupAccess,
+					partialInterpretation.jdbcParamsXref,
+					partialInterpretation.sqmParamMappingTypeResolutions
+			);
+			cacheableInterpretation = interpretation;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcUpdate,
+				interpretation.jdbcUpdate,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -102,7 +103,27 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	private SqlAstTranslator<JdbcUpdate> createUpdateTranslator(DomainQueryExecutionContext executionContext) {
+	private JdbcParameterBindings createJdbcParameterBindings(
+			CacheableUpdateInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				interpretation.jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				interpretation.tableGroupAccess::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) interpretation.sqmParamMappingTypeResolutions.get( parameter );
+					}
+				},
+				session
+		);
+	}
+
+	private SqmTranslation<UpdateStatement> translate(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -116,18 +137,24 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		final SqmTranslation<UpdateStatement> sqmInterpretation = translator.translate();
-
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.sqmParamMappingTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
+		return translator.translate();
+	}
 
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildUpdateTranslator( factory, sqmInterpretation.getSqlAst() );
+	private static class CacheableUpdateInterpretation {
+		private final JdbcUpdate jdbcUpdate;
+		private final FromClauseAccess tableGroupAccess;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+
+		CacheableUpdateInterpretation(
+				JdbcUpdate jdbcUpdate,
+				FromClauseAccess tableGroupAccess,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions) {
+			this.jdbcUpdate = jdbcUpdate;
+			this.tableGroupAccess = tableGroupAccess;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.sqmParamMappingTypeResolutions = sqmParamMappingTypeResolutions;
+		}
 	}
 }
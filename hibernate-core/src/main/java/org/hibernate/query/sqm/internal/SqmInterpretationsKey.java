@@ -23,6 +23,17 @@ import static java.lang.Boolean.TRUE;
 public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	public interface CacheabilityInfluencers {
 		String getQueryString();
+
+		/**
+		 * The query string under which the query plans are cached, which is the
+		 * query string, unless its literals were replaced by parameters
+		 *
+		 * @see org.hibernate.query.spi.HqlInterpretation#resolveQueryString
+		 */
+		default String getPlanCacheQueryString() {
+			return getQueryString();
+		}
+
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
 		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
@@ -33,29 +44,54 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
+		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			// Criteria-based plans cannot be keyed by the query string, since all
+			// criteria queries share the same one; see the overload accepting a
+			// SqmStructuralKey instead
+			return null;
+		}
+
 		if ( ! isCacheable( keySource ) ) {
 			return null;
 		}
 
 		return new SqmInterpretationsKey(
-				keySource.getQueryString(),
+				keySource.getPlanCacheQueryString(),
+				null,
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
 				keySource.getQueryOptions().getResultListTransformer()
 		);
 	}
+
+	/**
+	 * Creates a key for a criteria query, based on the structure of its
+	 * SQM tree rather than on its query string.
+	 *
+	 * @return the key, or {@code null} if the plan should not be cached
+	 */
+	public static SqmInterpretationsKey createInterpretationsKey(
+			InterpretationsKeySource keySource,
+			SqmStructuralKey structuralKey) {
+		if ( structuralKey == null || ! isCacheable( keySource ) ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				keySource.getPlanCacheQueryString(),
+				structuralKey,
+				keySource.getResultType(),
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer()
+		);
+	}
+
 	@SuppressWarnings("RedundantIfStatement")
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
-		}
-
 		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
 			// At the moment we cannot cache query plan if there is filter enabled.
 			return false;
@@ -83,15 +119,18 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+		// The same restrictions as for select plans apply.  Most importantly, filters are
+		// part of the translated SQL and filter values are baked into the JdbcOperation,
+		// so no caching happens when filters (including the discriminator-based
+		// multi-tenancy filter) are enabled.  Multi-table plans are cached as well; they
+		// keep the handler built by the mutation strategy, which holds no per-execution
+		// state and may keep the translation of the statement.
+		return createInterpretationsKey( keyDetails );
 	}
 
 
 	private final String query;
+	private final SqmStructuralKey structuralKey;
 	private final Class<?> resultType;
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
@@ -99,11 +138,13 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 	private SqmInterpretationsKey(
 			String query,
+			SqmStructuralKey structuralKey,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer resultListTransformer) {
 		this.query = query;
+		this.structuralKey = structuralKey;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
@@ -114,6 +155,7 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	public QueryInterpretationCache.Key prepareForStore() {
 		return new SqmInterpretationsKey(
 				query,
+				structuralKey == null ? null : structuralKey.prepareForStore(),
 				resultType,
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
@@ -138,6 +180,7 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 
 		final SqmInterpretationsKey that = (SqmInterpretationsKey) o;
 		return query.equals( that.query )
+				&& areEqual( structuralKey, that.structuralKey )
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
@@ -156,6 +199,7 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	@Override
 	public int hashCode() {
 		int result = query.hashCode();
+		result = 31 * result + ( structuralKey != null ? structuralKey.hashCode() : 0 );
 		result = 31 * result + ( resultType != null ? resultType.hashCode() : 0 );
 		result = 31 * result + ( lockOptions != null ? lockOptions.hashCode() : 0 );
 		result = 31 * result + ( tupleTransformer != null ? tupleTransformer.hashCode() : 0 );
@@ -81,6 +81,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private final String hql;
+	// the query string under which the query plans are cached, which differs
+	// from the HQL when its literals were replaced by parameters
+	private final String planCacheQueryString;
 	private final SqmSelectStatement<R> sqm;
 
 	private final ParameterMetadataImplementor parameterMetadata;
@@ -96,6 +99,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 			SharedSessionContractImplementor session) {
 		super( session );
 		this.hql = hql;
+		this.planCacheQueryString = hqlInterpretation.resolveQueryString( hql );
 		//noinspection unchecked
 		this.sqm = (SqmSelectStatement<R>) hqlInterpretation.getSqmStatement();
 
@@ -103,6 +107,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
 
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, session.getFactory() );
+		hqlInterpretation.bindLiteralParameters( parameterBindings );
 
 		visitQueryReturnType( sqm.getQueryPart(), null, getSessionFactory() );
 		this.resultType = null;
@@ -116,16 +121,17 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 			Class<R> resultType,
 			SharedSessionContractImplementor session) {
 		super( session );
-		this.hql = memento.getHqlString();
 		this.resultType = resultType;
 
 		final SessionFactoryImplementor factory = session.getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 		final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
-				hql,
-				(s) -> queryEngine.getHqlTranslator().translate( hql )
+				memento.getHqlString(),
+				(s) -> queryEngine.getHqlTranslator().translate( s )
 		);
+		this.hql = memento.getHqlString();
+		this.planCacheQueryString = hqlInterpretation.resolveQueryString( hql );
 
 		SqmUtil.verifyIsSelectStatement( hqlInterpretation.getSqmStatement(), hql );
 		//noinspection unchecked
@@ -135,6 +141,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		this.domainParameterXref = hqlInterpretation.getDomainParameterXref();
 
 		this.parameterBindings = QueryParameterBindingsImpl.from( parameterMetadata, session.getFactory() );
+		hqlInterpretation.bindLiteralParameters( parameterBindings );
 
 		visitQueryReturnType( sqm.getQueryPart(), resultType, getSessionFactory() );
 		setComment( hql );
@@ -156,6 +163,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 			SharedSessionContractImplementor session) {
 		super( session );
 		this.hql = CRITERIA_HQL_STRING;
+		this.planCacheQueryString = CRITERIA_HQL_STRING;
 		if ( session.isCriteriaCopyTreeEnabled() ) {
 			this.sqm = criteria.copy( SqmCopyContext.simpleContext() );
 		}
@@ -325,33 +333,61 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
+		final QueryInterpretationCache interpretationCache = getSession().getFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
-					cacheKey,
-					this::buildQueryPlan
-			);
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildQueryPlan );
 		}
-		else {
-			return buildQueryPlan();
+
+		if ( CRITERIA_HQL_STRING.equals( hql ) && tupleMetadata == null && interpretationCache.isEnabled() ) {
+			// see QuerySqmImpl#resolveSelectQueryPlan
+			final SqmStructuralKey structuralKey = SqmStructuralKey.from( sqm );
+			final QueryInterpretationCache.Key criteriaCacheKey = SqmInterpretationsKey.createInterpretationsKey(
+					this,
+					structuralKey
+			);
+			if ( criteriaCacheKey != null ) {
+				final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+						criteriaCacheKey,
+						() -> new CriteriaSelectQueryPlan<>( sqm, structuralKey, this::buildQueryPlan )
+				);
+				return ( (CriteriaSelectQueryPlan<R>) plan ).forParameters( structuralKey.getParameters() );
+			}
 		}
+
+		return buildQueryPlan();
 	}
 
 	private SelectQueryPlan<R> buildQueryPlan() {
+		return buildQueryPlan( sqm, getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildQueryPlan(
+			SqmSelectStatement<R> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<?>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<?>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedQueryPlan( concreteSqmStatements );
+			return buildAggregatedQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -360,6 +396,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -370,12 +407,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
-				getQueryString(),
-				getDomainParameterXref(),
+				getPlanCacheQueryString(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -392,6 +430,11 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return resultType;
 	}
 
+	@Override
+	public String getPlanCacheQueryString() {
+		return planCacheQueryString;
+	}
+
 	@Override
 	public LoadQueryInfluencers getLoadQueryInfluencers() {
 		return getSession().getLoadQueryInfluencers();
@@ -0,0 +1,1105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.function.SelfRenderingSqmAggregateFunction;
+import org.hibernate.query.sqm.function.SelfRenderingSqmFunction;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBagJoin;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmListJoin;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmMapJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmSetJoin;
+import org.hibernate.query.sqm.tree.domain.SqmSingularJoin;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralNull;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmAndPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmOrPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A key describing the structure of a criteria {@link SqmSelectStatement},
+ * ignoring the values bound to its parameters.  Two criteria queries with
+ * equal keys translate to the same SQL and can share a
+ * {@link org.hibernate.query.spi.SelectQueryPlan}.
+ * <p>
+ * The key is built from a canonical rendering of the tree in which from-elements
+ * and parameters are identified by the order in which they are encountered rather
+ * than by alias, name or identity.  Only the commonly used subset of SQM is
+ * supported; for anything else (subqueries, CTEs, treats, set operations,
+ * window functions, ...) no key is produced and the query is simply not cached.
+ *
+ * @see CriteriaSelectQueryPlan
+ */
+public final class SqmStructuralKey {
+
+	/**
+	 * Produces the structural key of the given statement, or {@code null}
+	 * if the statement uses constructs which are not supported for
+	 * structural plan caching.
+	 */
+	public static SqmStructuralKey from(SqmSelectStatement<?> statement) {
+		final StructureWriter writer = new StructureWriter();
+		try {
+			writer.visitSelectStatement( statement );
+		}
+		catch (UnsupportedStructureException e) {
+			return null;
+		}
+		return new SqmStructuralKey( writer.sb.toString(), writer.parameters );
+	}
+
+	private final String structure;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final int hashCode;
+
+	private SqmStructuralKey(String structure, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.parameters = Collections.unmodifiableList( parameters );
+		this.hashCode = structure.hashCode();
+	}
+
+	/**
+	 * A copy of this key suitable for storing in a cache, which does not
+	 * keep the parameters of the originating query reachable.
+	 */
+	public SqmStructuralKey prepareForStore() {
+		return new SqmStructuralKey( structure, Collections.emptyList() );
+	}
+
+	/**
+	 * The criteria parameters of the statement, in canonical order.  Parameters
+	 * at the same position of two equal keys play the same role in both statements.
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		final SqmStructuralKey that = (SqmStructuralKey) o;
+		return hashCode == that.hashCode && structure.equals( that.structure );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "SqmStructuralKey(" + structure + ")";
+	}
+
+	private static class UnsupportedStructureException extends RuntimeException {
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			// used for control flow only
+			return this;
+		}
+	}
+
+	private static final UnsupportedStructureException UNSUPPORTED = new UnsupportedStructureException();
+
+	private static class StructureWriter implements SemanticQueryWalker<Object> {
+		private final StringBuilder sb = new StringBuilder( 256 );
+		private final Map<SqmFrom<?, ?>, Integer> fromOrdinals = new IdentityHashMap<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// helpers
+
+		private void appendString(String string) {
+			if ( string == null ) {
+				sb.append( '-' );
+			}
+			else {
+				// length-prefixed, so that no string can be mistaken for structure
+				sb.append( string.length() ).append( '\'' ).append( string );
+			}
+		}
+
+		private void appendType(SqmExpressible<?> type) {
+			if ( type == null ) {
+				sb.append( '?' );
+				return;
+			}
+			sb.append( '<' ).append( type.getClass().getName() );
+			final JavaType<?> javaType = type.getExpressibleJavaType();
+			if ( javaType != null ) {
+				sb.append( ':' ).append( javaType.getJavaType().getTypeName() );
+			}
+			if ( type instanceof BasicType<?> ) {
+				sb.append( ':' ).append( ( (BasicType<?>) type ).getJdbcType().getDefaultSqlTypeCode() );
+			}
+			sb.append( '>' );
+		}
+
+		private void appendNode(SqmVisitableNode node) {
+			if ( node == null ) {
+				sb.append( '-' );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+		private void appendNodes(List<? extends SqmVisitableNode> nodes) {
+			sb.append( '[' );
+			for ( int i = 0; i < nodes.size(); i++ ) {
+				if ( i > 0 ) {
+					sb.append( ',' );
+				}
+				appendNode( nodes.get( i ) );
+			}
+			sb.append( ']' );
+		}
+
+		private void appendLiteralValue(Object value) {
+			if ( value == null ) {
+				sb.append( "null" );
+			}
+			else if ( value instanceof Enum<?> ) {
+				sb.append( value.getClass().getName() ).append( '.' );
+				appendString( ( (Enum<?>) value ).name() );
+			}
+			else if ( value instanceof String
+					|| value instanceof Character
+					|| value instanceof Boolean
+					|| value instanceof Integer
+					|| value instanceof Long
+					|| value instanceof Short
+					|| value instanceof Byte
+					|| value instanceof Double
+					|| value instanceof Float
+					|| value instanceof BigDecimal
+					|| value instanceof BigInteger
+					|| value instanceof Temporal
+					|| value instanceof UUID ) {
+				// only immutable values with a faithful toString()
+				sb.append( value.getClass().getName() ).append( ':' );
+				appendString( value.toString() );
+			}
+			else {
+				throw UNSUPPORTED;
+			}
+		}
+
+		private static boolean isPlainAttributeJoin(Class<?> joinType) {
+			return joinType == SqmSingularJoin.class
+					|| joinType == SqmBagJoin.class
+					|| joinType == SqmSetJoin.class
+					|| joinType == SqmListJoin.class
+					|| joinType == SqmMapJoin.class;
+		}
+
+		private void registerFrom(SqmFrom<?, ?> from) {
+			if ( from.hasTreats() ) {
+				throw UNSUPPORTED;
+			}
+			fromOrdinals.put( from, fromOrdinals.size() );
+			for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+				registerFrom( join );
+			}
+		}
+
+		private void appendFrom(SqmFrom<?, ?> from) {
+			sb.append( '#' ).append( fromOrdinals.get( from ) );
+			final Class<?> fromType = from.getClass();
+			if ( fromType == SqmRoot.class ) {
+				sb.append( "root" );
+				appendString( ( (SqmRoot<?>) from ).getEntityName() );
+			}
+			else if ( isPlainAttributeJoin( fromType ) ) {
+				final SqmAttributeJoin<?, ?> join = (SqmAttributeJoin<?, ?>) from;
+				sb.append( "join:" ).append( join.getSqmJoinType() ).append( ':' ).append( join.isFetched() );
+				appendString( join.getReferencedPathSource().getPathName() );
+				appendNode( join.getJoinPredicate() );
+			}
+			else if ( fromType == SqmEntityJoin.class ) {
+				final SqmEntityJoin<?> join = (SqmEntityJoin<?>) from;
+				sb.append( "entityjoin:" ).append( join.getSqmJoinType() );
+				appendString( join.getEntityName() );
+				appendNode( join.getJoinPredicate() );
+			}
+			else if ( fromType == SqmCrossJoin.class ) {
+				sb.append( "crossjoin" );
+				appendString( ( (SqmCrossJoin<?>) from ).getEntityName() );
+			}
+			else {
+				throw UNSUPPORTED;
+			}
+			sb.append( '[' );
+			for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+				appendFrom( join );
+			}
+			sb.append( ']' );
+		}
+
+		private Object fromReference(SqmFrom<?, ?> from) {
+			final Integer ordinal = fromOrdinals.get( from );
+			if ( ordinal == null ) {
+				// e.g. a reference to a from-element of some other query
+				throw UNSUPPORTED;
+			}
+			sb.append( '#' ).append( ordinal );
+			return null;
+		}
+
+		private Object simplePath(String kind, SqmPath<?> path) {
+			sb.append( kind ).append( '(' );
+			appendNode( path.getLhs() );
+			sb.append( '.' );
+			appendString( path.getReferencedPathSource().getPathName() );
+			sb.append( ')' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// statements
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			if ( !statement.getCteStatements().isEmpty() ) {
+				throw UNSUPPORTED;
+			}
+			final SqmQueryPart<?> queryPart = statement.getQueryPart();
+			if ( queryPart.getClass() != SqmQuerySpec.class ) {
+				throw UNSUPPORTED;
+			}
+			sb.append( "select:" );
+			sb.append( statement.getResultType() == null ? "-" : statement.getResultType().getName() );
+			visitQuerySpec( (SqmQuerySpec<?>) queryPart );
+			return null;
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment assignment) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitCteContainer(SqmCteContainer consumer) {
+			throw UNSUPPORTED;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// from-clause / domain paths
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			sb.append( "from[" );
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				appendFrom( root );
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			return fromReference( sqmRoot );
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			if ( path.getClass() != SqmBasicValuedSimplePath.class ) {
+				throw UNSUPPORTED;
+			}
+			return simplePath( "basic", path );
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			if ( path.getClass() != SqmEmbeddedValuedSimplePath.class ) {
+				throw UNSUPPORTED;
+			}
+			return simplePath( "embedded", path );
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			if ( path.getClass() != SqmEntityValuedSimplePath.class ) {
+				throw UNSUPPORTED;
+			}
+			return simplePath( "entity", path );
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			if ( path.getClass() != SqmPluralValuedSimplePath.class ) {
+				throw UNSUPPORTED;
+			}
+			return simplePath( "plural", path );
+		}
+
+		@Override
+		public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> sqmPath) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			throw UNSUPPORTED;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// query spec
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			final SqmFromClause fromClause = querySpec.getFromClause();
+			if ( fromClause == null ) {
+				throw UNSUPPORTED;
+			}
+			// number all from-elements up front, so that predicates may refer to any of them
+			for ( SqmRoot<?> root : fromClause.getRoots() ) {
+				registerFrom( root );
+			}
+
+			sb.append( "spec(" );
+			visitFromClause( fromClause );
+			visitSelectClause( querySpec.getSelectClause() );
+			visitWhereClause( querySpec.getWhereClause() );
+			visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+			visitHavingClause( querySpec.getHavingClausePredicate() );
+			visitOrderByClause( querySpec.getOrderByClause() );
+			visitOffsetExpression( querySpec.getOffsetExpression() );
+			visitFetchExpression( querySpec.getFetchExpression() );
+			sb.append( querySpec.getFetchClauseType() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			sb.append( "sel" );
+			if ( selectClause == null ) {
+				sb.append( '-' );
+				return null;
+			}
+			sb.append( ':' ).append( selectClause.isDistinct() );
+			appendNodes( selectClause.getSelections() );
+			return null;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			appendNode( selection.getSelectableNode() );
+			sb.append( " as " );
+			appendString( selection.getAlias() );
+			return null;
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			sb.append( "group" );
+			appendNodes( groupByClauseExpressions );
+			return null;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate clause) {
+			sb.append( "having(" );
+			appendNode( clause );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			sb.append( "new:" )
+					.append( sqmDynamicInstantiation.getInstantiationTarget().getNature() )
+					.append( ':' )
+					.append( sqmDynamicInstantiation.getInstantiationTarget().getJavaType().getName() )
+					.append( '[' );
+			final List<SqmDynamicInstantiationArgument<?>> arguments = sqmDynamicInstantiation.getArguments();
+			for ( int i = 0; i < arguments.size(); i++ ) {
+				if ( i > 0 ) {
+					sb.append( ',' );
+				}
+				final SqmDynamicInstantiationArgument<?> argument = arguments.get( i );
+				appendNode( argument.getSelectableNode() );
+				sb.append( " as " );
+				appendString( argument.getAlias() );
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			sb.append( "compound:" ).append( selection.getJavaType().getName() );
+			final List<SqmSelectableNode<?>> selectionItems = selection.getSelectionItems();
+			appendNodes( selectionItems );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// expressions - general
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			final Class<?> literalType = literal.getClass();
+			if ( literalType != SqmLiteral.class && literalType != SqmLiteralNull.class ) {
+				throw UNSUPPORTED;
+			}
+			sb.append( "lit" );
+			appendType( literal.getNodeType() );
+			appendLiteralValue( literal.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			sb.append( "enum:" );
+			appendLiteralValue( sqmEnumLiteral.getEnumValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			sb.append( "tuple" );
+			appendNodes( sqmTuple.getGroupedExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			sb.append( "arith:" ).append( expression.getOperator() ).append( '(' );
+			appendNode( expression.getLeftHandOperand() );
+			sb.append( ',' );
+			appendNode( expression.getRightHandOperand() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			sb.append( "case(" );
+			appendNode( expression.getFixture() );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				sb.append( " when " );
+				appendNode( whenFragment.getCheckValue() );
+				sb.append( " then " );
+				appendNode( whenFragment.getResult() );
+			}
+			sb.append( " else " );
+			appendNode( expression.getOtherwise() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			sb.append( "case(" );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				sb.append( " when " );
+				appendNode( whenFragment.getPredicate() );
+				sb.append( " then " );
+				appendNode( whenFragment.getResult() );
+			}
+			sb.append( " else " );
+			appendNode( expression.getOtherwise() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			final Class<?> parameterType = expression.getClass();
+			if ( parameterType != JpaCriteriaParameter.class && parameterType != ValueBindJpaCriteriaParameter.class ) {
+				throw UNSUPPORTED;
+			}
+			Integer ordinal = parameterOrdinals.get( expression );
+			if ( ordinal == null ) {
+				ordinal = parameters.size();
+				parameterOrdinals.put( expression, ordinal );
+				parameters.add( expression );
+			}
+			sb.append( '?' ).append( ordinal ).append( ':' ).append( expression.allowsMultiValuedBinding() );
+			appendType( expression.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			sb.append( "type" );
+			appendString( expression.getNodeType().getHibernateEntityName() );
+			return null;
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			sb.append( "unary:" ).append( expression.getOperation() ).append( '(' );
+			appendNode( expression.getOperand() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> tSqmFunction) {
+			final Class<?> functionType = tSqmFunction.getClass();
+			if ( functionType != SelfRenderingSqmFunction.class
+					&& functionType != SelfRenderingSqmAggregateFunction.class ) {
+				// window and ordered-set aggregate functions, or custom implementations
+				throw UNSUPPORTED;
+			}
+			sb.append( "fn" );
+			appendString( tSqmFunction.getFunctionName() );
+			appendType( tSqmFunction.getNodeType() );
+			sb.append( '[' );
+			final List<? extends SqmTypedNode<?>> arguments = tSqmFunction.getArguments();
+			for ( int i = 0; i < arguments.size(); i++ ) {
+				if ( i > 0 ) {
+					sb.append( ',' );
+				}
+				final SqmTypedNode<?> argument = arguments.get( i );
+				if ( !( argument instanceof SqmVisitableNode ) ) {
+					throw UNSUPPORTED;
+				}
+				appendNode( (SqmVisitableNode) argument );
+			}
+			sb.append( ']' );
+			if ( functionType == SelfRenderingSqmAggregateFunction.class ) {
+				sb.append( "filter(" );
+				appendNode( ( (SelfRenderingSqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+				sb.append( ')' );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			sb.append( "unit:" ).append( extractUnit.getUnit() );
+			appendType( extractUnit.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+			sb.append( "target" );
+			appendType( sqmCastTarget.getNodeType() );
+			sb.append( ':' ).append( sqmCastTarget.getLength() )
+					.append( ':' ).append( sqmCastTarget.getPrecision() )
+					.append( ':' ).append( sqmCastTarget.getScale() );
+			return null;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			sb.append( "trim:" ).append( trimSpecification.getSpecification() );
+			return null;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			sb.append( "distinct(" );
+			appendNode( distinct.getExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			sb.append( '*' );
+			return null;
+		}
+
+		@Override
+		public Object visitOver(SqmOver<?> over) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			sb.append( "coalesce" );
+			appendNodes( sqmCoalesce.getArguments() );
+			return null;
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit sqmByUnit) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			sb.append( "duration:" ).append( durationUnit.getUnit() );
+			appendType( durationUnit.getNodeType() );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// predicates
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			sb.append( "where(" );
+			appendNode( whereClause == null ? null : whereClause.getPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			sb.append( '(' );
+			appendNode( predicate.getSubPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitAndPredicate(SqmAndPredicate predicate) {
+			sb.append( "and(" );
+			appendNode( predicate.getLeftHandPredicate() );
+			sb.append( ',' );
+			appendNode( predicate.getRightHandPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitOrPredicate(SqmOrPredicate predicate) {
+			sb.append( "or(" );
+			appendNode( predicate.getLeftHandPredicate() );
+			sb.append( ',' );
+			appendNode( predicate.getRightHandPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			sb.append( "cmp:" ).append( predicate.getSqmOperator() ).append( ':' ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getLeftHandExpression() );
+			sb.append( ',' );
+			appendNode( predicate.getRightHandExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			sb.append( "empty:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getPluralPath() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			sb.append( "null:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			sb.append( "between:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getExpression() );
+			sb.append( ',' );
+			appendNode( predicate.getLowerBound() );
+			sb.append( ',' );
+			appendNode( predicate.getUpperBound() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			sb.append( "like:" ).append( predicate.isNegated() ).append( ':' ).append( predicate.isCaseSensitive() ).append( '(' );
+			appendNode( predicate.getMatchExpression() );
+			sb.append( ',' );
+			appendNode( predicate.getPattern() );
+			sb.append( ',' );
+			appendNode( predicate.getEscapeCharacter() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			sb.append( "not:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getWrappedPredicate() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			sb.append( "in:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getTestExpression() );
+			sb.append( ',' );
+			appendNodes( predicate.getListExpressions() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			sb.append( "bool:" ).append( predicate.isNegated() ).append( '(' );
+			appendNode( predicate.getBooleanExpression() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+			throw UNSUPPORTED;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// sorting
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			sb.append( "order[" );
+			if ( orderByClause != null && orderByClause.getSortSpecifications() != null ) {
+				for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+					visitSortSpecification( sortSpecification );
+				}
+			}
+			sb.append( ']' );
+			return null;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			appendNode( sortSpecification.getSortExpression() );
+			sb.append( ':' ).append( sortSpecification.getSortOrder() )
+					.append( ':' ).append( sortSpecification.getNullPrecedence() )
+					.append( ';' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// paging
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			sb.append( "offset(" );
+			appendNode( expression );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			sb.append( "fetch(" );
+			appendNode( expression );
+			sb.append( ')' );
+			return null;
+		}
+
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// misc
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			sb.append( "size(" );
+			appendNode( function.getPluralPath() );
+			sb.append( ')' );
+			return null;
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+			throw UNSUPPORTED;
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			throw UNSUPPORTED;
+		}
+	}
+}
@@ -23,6 +23,7 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.SqlExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
 import org.hibernate.query.sqm.internal.SqmUtil;
@@ -46,6 +47,7 @@ import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.from.UnionTableReference;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
@@ -76,6 +78,11 @@ public abstract class AbstractCteMutationHandler extends AbstractMutationHandler
 	private final DomainParameterXref domainParameterXref;
 	private final CteMutationStrategy strategy;
 
+	// NOTE : handlers are kept by the plans cached in the QueryInterpretationCache and
+	//		may be executed concurrently, so all translation state is published as a
+	//		single immutable holder rather than as separate mutable fields
+	private volatile CacheableCteInterpretation cacheableInterpretation;
+
 	public AbstractCteMutationHandler(
 			SqmCteTable cteTable,
 			SqmDeleteOrUpdateStatement<?> sqmStatement,
@@ -103,109 +110,131 @@ public abstract class AbstractCteMutationHandler extends AbstractMutationHandler
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final SqmDeleteOrUpdateStatement sqmMutationStatement = getSqmDeleteOrUpdateStatement();
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
-		final EntityMappingType entityDescriptor = getEntityDescriptor();
-		final String explicitDmlTargetAlias;
-		// We need an alias because we try to acquire a WRITE lock for these rows in the CTE
-		if ( sqmMutationStatement.getTarget().getExplicitAlias() == null ) {
-			explicitDmlTargetAlias = "dml_target";
-		}
-		else {
-			explicitDmlTargetAlias = sqmMutationStatement.getTarget().getExplicitAlias();
-		}
+		final JdbcServices jdbcServices = factory.getJdbcServices();
 
-		final MultiTableSqmMutationConverter sqmConverter = new MultiTableSqmMutationConverter(
-				entityDescriptor,
-				sqmMutationStatement,
-				sqmMutationStatement.getTarget(),
-				explicitDmlTargetAlias,
-				domainParameterXref,
-				executionContext.getQueryOptions(),
-				executionContext.getSession().getLoadQueryInfluencers(),
-				executionContext.getQueryParameterBindings(),
-				factory
-		);
-		final Map<SqmParameter, List<JdbcParameter>> parameterResolutions;
-		if ( domainParameterXref.getSqmParameterCount() == 0 ) {
-			parameterResolutions = Collections.emptyMap();
-		}
-		else {
-			parameterResolutions = new IdentityHashMap<>();
+		CacheableCteInterpretation interpretation = cacheableInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+			if ( interpretation.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation.jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+			}
+			else {
+				interpretation = null;
+			}
 		}
 
-		final Map<SqmParameter, MappingModelExpressible> paramTypeResolutions = new LinkedHashMap<>();
+		if ( interpretation == null ) {
+			final SqmDeleteOrUpdateStatement sqmMutationStatement = getSqmDeleteOrUpdateStatement();
+			final EntityMappingType entityDescriptor = getEntityDescriptor();
+			final String explicitDmlTargetAlias;
+			// We need an alias because we try to acquire a WRITE lock for these rows in the CTE
+			if ( sqmMutationStatement.getTarget().getExplicitAlias() == null ) {
+				explicitDmlTargetAlias = "dml_target";
+			}
+			else {
+				explicitDmlTargetAlias = sqmMutationStatement.getTarget().getExplicitAlias();
+			}
 
-		final Predicate restriction = sqmConverter.visitWhereClause(
-				sqmMutationStatement.getWhereClause(),
-				columnReference -> {},
-				(sqmParam, mappingType, jdbcParameters) -> paramTypeResolutions.put( sqmParam, mappingType )
-		);
-		sqmConverter.pruneTableGroupJoins();
-
-		final CteStatement idSelectCte = new CteStatement(
-				BaseSqmToSqlAstConverter.createCteTable( getCteTable(), factory ),
-				MatchingIdSelectionHelper.generateMatchingIdSelectStatement(
-						entityDescriptor,
-						sqmMutationStatement,
-						false,
-						restriction,
-						sqmConverter,
-						executionContext,
-						factory
-				),
-				// The id-select cte will be reused multiple times
-				CteMaterialization.MATERIALIZED
-		);
+			final MultiTableSqmMutationConverter sqmConverter = new MultiTableSqmMutationConverter(
+					entityDescriptor,
+					sqmMutationStatement,
+					sqmMutationStatement.getTarget(),
+					explicitDmlTargetAlias,
+					domainParameterXref,
+					executionContext.getQueryOptions(),
+					executionContext.getSession().getLoadQueryInfluencers(),
+					executionContext.getQueryParameterBindings(),
+					factory
+			);
+			final Map<SqmParameter, List<JdbcParameter>> parameterResolutions;
+			if ( domainParameterXref.getSqmParameterCount() == 0 ) {
+				parameterResolutions = Collections.emptyMap();
+			}
+			else {
+				parameterResolutions = new IdentityHashMap<>();
+			}
 
-		// Create the main query spec that will return the count of
-		final QuerySpec querySpec = new QuerySpec( true, 1 );
-		final List<DomainResult<?>> domainResults = new ArrayList<>( 1 );
-		final SelectStatement statement = new SelectStatement( querySpec, domainResults );
-		final JdbcServices jdbcServices = factory.getJdbcServices();
-		final SqlAstTranslator<JdbcSelect> translator = jdbcServices.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildSelectTranslator( factory, statement );
-
-		final Expression count = createCountStar( factory, sqmConverter );
-		domainResults.add(
-				new BasicResult<>(
-						0,
-						null,
-						( (SqlExpressible) count).getJdbcMapping().getJavaTypeDescriptor()
-				)
-		);
-		querySpec.getSelectClause().addSqlSelection( new SqlSelectionImpl( 1, 0, count ) );
-		querySpec.getFromClause().addRoot(
-				new CteTableGroup(
-						new NamedTableReference(
-								idSelectCte.getCteTable().getTableExpression(),
-								CTE_TABLE_IDENTIFIER,
-								false,
-								factory
-						)
-				)
-		);
+			final Map<SqmParameter, MappingModelExpressible> paramTypeResolutions = new LinkedHashMap<>();
 
-		// Add all CTEs
-		statement.addCteStatement( idSelectCte );
-		addDmlCtes( statement, idSelectCte, sqmConverter, parameterResolutions, factory );
+			final Predicate restriction = sqmConverter.visitWhereClause(
+					sqmMutationStatement.getWhereClause(),
+					columnReference -> {},
+					(sqmParam, mappingType, jdbcParameters) -> paramTypeResolutions.put( sqmParam, mappingType )
+			);
+			sqmConverter.pruneTableGroupJoins();
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmConverter ),
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				navigablePath -> sqmConverter.getMutatingTableGroup(),
-				paramTypeResolutions::get,
-				executionContext.getSession()
-		);
-		final LockOptions lockOptions = executionContext.getQueryOptions().getLockOptions();
-		final LockMode lockMode = lockOptions.getAliasSpecificLockMode( explicitDmlTargetAlias );
-		// Acquire a WRITE lock for the rows that are about to be modified
-		lockOptions.setAliasSpecificLockMode( explicitDmlTargetAlias, LockMode.WRITE );
-		final JdbcSelect select = translator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		lockOptions.setAliasSpecificLockMode( explicitDmlTargetAlias, lockMode );
+			final CteStatement idSelectCte = new CteStatement(
+					BaseSqmToSqlAstConverter.createCteTable( getCteTable(), factory ),
+					MatchingIdSelectionHelper.generateMatchingIdSelectStatement(
+							entityDescriptor,
+							sqmMutationStatement,
+							false,
+							restriction,
+							sqmConverter,
+							executionContext,
+							factory
+					),
+					// The id-select cte will be reused multiple times
+					CteMaterialization.MATERIALIZED
+			);
+
+			// Create the main query spec that will return the count of
+			final QuerySpec querySpec = new QuerySpec( true, 1 );
+			final List<DomainResult<?>> domainResults = new ArrayList<>( 1 );
+			final SelectStatement statement = new SelectStatement( querySpec, domainResults );
+			final SqlAstTranslator<JdbcSelect> translator = jdbcServices.getJdbcEnvironment()
+					.getSqlAstTranslatorFactory()
+					.buildSelectTranslator( factory, statement );
+
+			final Expression count = createCountStar( factory, sqmConverter );
+			domainResults.add(
+					new BasicResult<>(
+							0,
+							null,
+							( (SqlExpressible) count).getJdbcMapping().getJavaTypeDescriptor()
+					)
+			);
+			querySpec.getSelectClause().addSqlSelection( new SqlSelectionImpl( 1, 0, count ) );
+			querySpec.getFromClause().addRoot(
+					new CteTableGroup(
+							new NamedTableReference(
+									idSelectCte.getCteTable().getTableExpression(),
+									CTE_TABLE_IDENTIFIER,
+									false,
+									factory
+							)
+					)
+			);
+
+			// Add all CTEs
+			statement.addCteStatement( idSelectCte );
+			addDmlCtes( statement, idSelectCte, sqmConverter, parameterResolutions, factory );
+
+			final CacheableCteInterpretation partialInterpretation = new CacheableCteInterpretation(
+					null,
+					sqmConverter.getMutatingTableGroup(),
+					SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmConverter ),
+					paramTypeResolutions
+			);
+			jdbcParameterBindings = createJdbcParameterBindings( partialInterpretation, executionContext );
+			final LockOptions lockOptions = executionContext.getQueryOptions().getLockOptions();
+			final LockMode lockMode = lockOptions.getAliasSpecificLockMode( explicitDmlTargetAlias );
+			// Acquire a WRITE lock for the rows that are about to be modified
+			lockOptions.setAliasSpecificLockMode( explicitDmlTargetAlias, LockMode.WRITE );
+			final JdbcSelect select = translator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			lockOptions.setAliasSpecificLockMode( explicitDmlTargetAlias, lockMode );
+			interpretation = new CacheableCteInterpretation(
+					select,
+					partialInterpretation.mutatingTableGroup,
+					partialInterpretation.jdbcParamsXref,
+					partialInterpretation.paramTypeResolutions
+			);
+			cacheableInterpretation = interpretation;
+		}
+
+		final JdbcSelect select = interpretation.jdbcSelect;
 		executionContext.getSession().autoFlushIfRequired( select.getAffectedTableNames() );
 		List<Object> list = jdbcServices.getJdbcSelectExecutor().list(
 				select,
@@ -217,6 +246,20 @@ public abstract class AbstractCteMutationHandler extends AbstractMutationHandler
 		return ( (Number) list.get( 0 ) ).intValue();
 	}
 
+	private JdbcParameterBindings createJdbcParameterBindings(
+			CacheableCteInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				interpretation.jdbcParamsXref,
+				getSessionFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				navigablePath -> interpretation.mutatingTableGroup,
+				interpretation.paramTypeResolutions::get,
+				executionContext.getSession()
+		);
+	}
+
 	private Expression createCountStar(
 			SessionFactoryImplementor factory,
 			MultiTableSqmMutationConverter sqmConverter) {
@@ -341,4 +384,22 @@ public abstract class AbstractCteMutationHandler extends AbstractMutationHandler
 	private String unquote(String tableExpression) {
 		return tableExpression.substring( 1, tableExpression.length() - 1 );
 	}
+
+	private static class CacheableCteInterpretation {
+		private final JdbcSelect jdbcSelect;
+		private final TableGroup mutatingTableGroup;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+		private final Map<SqmParameter, MappingModelExpressible> paramTypeResolutions;
+
+		CacheableCteInterpretation(
+				JdbcSelect jdbcSelect,
+				TableGroup mutatingTableGroup,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+				Map<SqmParameter, MappingModelExpressible> paramTypeResolutions) {
+			this.jdbcSelect = jdbcSelect;
+			this.mutatingTableGroup = mutatingTableGroup;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.paramTypeResolutions = paramTypeResolutions;
+		}
+	}
 }
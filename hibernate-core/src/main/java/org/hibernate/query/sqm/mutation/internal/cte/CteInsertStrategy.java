@@ -156,6 +156,14 @@ public class CteInsertStrategy implements SqmMultiTableInsertStrategy {
 			SqmInsertStatement<?> sqmInsertStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
-		return new CteInsertHandler( entityCteTable, sqmInsertStatement, domainParameterXref, sessionFactory ).execute( context );
+		return buildInsertHandler( sqmInsertStatement, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public CteInsertHandler buildInsertHandler(
+			SqmInsertStatement<?> sqmInsertStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return new CteInsertHandler( entityCteTable, sqmInsertStatement, domainParameterXref, sessionFactory );
 	}
 }
@@ -97,8 +97,7 @@ public class CteMutationStrategy implements SqmMultiTableMutationStrategy {
 			SqmDeleteStatement<?> sqmDelete,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
-		checkMatch( sqmDelete );
-		return new CteDeleteHandler( idCteTable, sqmDelete, domainParameterXref, this, sessionFactory ).execute( context );
+		return buildDeleteHandler( sqmDelete, domainParameterXref, context ).execute( context );
 	}
 
 	@Override
@@ -106,8 +105,25 @@ public class CteMutationStrategy implements SqmMultiTableMutationStrategy {
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildUpdateHandler( sqmUpdate, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public CteDeleteHandler buildDeleteHandler(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		checkMatch( sqmDelete );
+		return new CteDeleteHandler( idCteTable, sqmDelete, domainParameterXref, this, sessionFactory );
+	}
+
+	@Override
+	public CteUpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		checkMatch( sqmUpdate );
-		return new CteUpdateHandler( idCteTable, sqmUpdate, domainParameterXref, this, sessionFactory ).execute( context );
+		return new CteUpdateHandler( idCteTable, sqmUpdate, domainParameterXref, this, sessionFactory );
 	}
 
 	private void checkMatch(SqmDeleteOrUpdateStatement<?> sqmStatement) {
@@ -6,7 +6,6 @@
  */
 package org.hibernate.query.sqm.mutation.internal.inline;
 
-import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -46,8 +45,6 @@ public class InlineDeleteHandler implements DeleteHandler {
 	private final SqmDeleteStatement sqmDeleteStatement;
 	private final DomainParameterXref domainParameterXref;
 
-	private final DomainQueryExecutionContext executionContext;
-
 	private final SessionFactoryImplementor sessionFactory;
 	private final SqlAstTranslatorFactory sqlAstTranslatorFactory;
 	private final JdbcMutationExecutor jdbcMutationExecutor;
@@ -62,9 +59,8 @@ public class InlineDeleteHandler implements DeleteHandler {
 		this.domainParameterXref = domainParameterXref;
 		this.matchingIdsPredicateProducer = matchingIdsPredicateProducer;
 
-		this.executionContext = context;
-
-		this.sessionFactory = executionContext.getSession().getFactory();
+		// the handler is reused by later executions, so only the factory of the context is kept
+		this.sessionFactory = context.getSession().getFactory();
 		this.sqlAstTranslatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
 		this.jdbcMutationExecutor = sessionFactory.getJdbcServices().getJdbcMutationExecutor();
 	}
@@ -185,13 +181,9 @@ public class InlineDeleteHandler implements DeleteHandler {
 		jdbcMutationExecutor.execute(
 				jdbcOperation,
 				jdbcParameterBindings,
-				this::prepareQueryStatement,
+				sql -> StatementCreatorHelper.prepareQueryStatement( sql, executionContext.getSession() ),
 				(integer, preparedStatement) -> {},
 				executionContextAdapter
 		);
 	}
-
-	private PreparedStatement prepareQueryStatement(String sql) {
-		return StatementCreatorHelper.prepareQueryStatement( sql, executionContext.getSession() );
-	}
 }
@@ -45,27 +45,40 @@ public class InlineMutationStrategy implements SqmMultiTableMutationStrategy {
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
-		final InlineUpdateHandler handler = new InlineUpdateHandler(
+		return buildUpdateHandler( sqmUpdate, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public int executeDelete(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return buildDeleteHandler( sqmDelete, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public InlineUpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return new InlineUpdateHandler(
 				matchingIdsStrategy.apply( sqmUpdate ),
 				sqmUpdate,
 				domainParameterXref,
 				context
 		);
-		return handler.execute( context );
 	}
 
 	@Override
-	public int executeDelete(
+	public InlineDeleteHandler buildDeleteHandler(
 			SqmDeleteStatement<?> sqmDelete,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
-		final InlineDeleteHandler deleteHandler = new InlineDeleteHandler(
+		return new InlineDeleteHandler(
 				matchingIdsStrategy.apply( sqmDelete ),
 				sqmDelete,
 				domainParameterXref,
 				context
 		);
-
-		return deleteHandler.execute( context );
 	}
 }
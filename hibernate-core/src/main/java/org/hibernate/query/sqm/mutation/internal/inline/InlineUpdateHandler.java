@@ -24,8 +24,6 @@ public class InlineUpdateHandler implements UpdateHandler {
 	private final DomainParameterXref domainParameterXref;
 	private final MatchingIdRestrictionProducer matchingIdsPredicateProducer;
 
-	private final DomainQueryExecutionContext executionContext;
-
 	private final SessionFactoryImplementor sessionFactory;
 	private final SqlAstTranslatorFactory sqlAstTranslatorFactory;
 	private final JdbcMutationExecutor jdbcMutationExecutor;
@@ -39,9 +37,8 @@ public class InlineUpdateHandler implements UpdateHandler {
 		this.domainParameterXref = domainParameterXref;
 		this.sqmUpdate = sqmUpdate;
 
-		this.executionContext = context;
-
-		this.sessionFactory = executionContext.getSession().getFactory();
+		// the handler is reused by later executions, so only the factory of the context is kept
+		this.sessionFactory = context.getSession().getFactory();
 		this.sqlAstTranslatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
 		this.jdbcMutationExecutor = sessionFactory.getJdbcServices().getJdbcMutationExecutor();
 	}
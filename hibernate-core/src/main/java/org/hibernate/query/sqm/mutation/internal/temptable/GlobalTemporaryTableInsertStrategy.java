@@ -31,6 +31,14 @@ public class GlobalTemporaryTableInsertStrategy extends GlobalTemporaryTableStra
 			SqmInsertStatement<?> sqmInsertStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildInsertHandler( sqmInsertStatement, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedInsertHandler buildInsertHandler(
+			SqmInsertStatement<?> sqmInsertStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedInsertHandler(
 				sqmInsertStatement,
 				domainParameterXref,
@@ -40,7 +48,7 @@ public class GlobalTemporaryTableInsertStrategy extends GlobalTemporaryTableStra
 				// but just in case a particular env needs it...
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 
 }
@@ -32,6 +32,14 @@ public class GlobalTemporaryTableMutationStrategy extends GlobalTemporaryTableSt
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildUpdateHandler( sqmUpdate, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedUpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedUpdateHandler(
 				sqmUpdate,
 				domainParameterXref,
@@ -41,7 +49,7 @@ public class GlobalTemporaryTableMutationStrategy extends GlobalTemporaryTableSt
 				// but just in case a particular env needs it...
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 
 	@Override
@@ -49,6 +57,14 @@ public class GlobalTemporaryTableMutationStrategy extends GlobalTemporaryTableSt
 			SqmDeleteStatement<?> sqmDelete,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildDeleteHandler( sqmDelete, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedDeleteHandler buildDeleteHandler(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedDeleteHandler(
 				sqmDelete,
 				domainParameterXref,
@@ -58,6 +74,6 @@ public class GlobalTemporaryTableMutationStrategy extends GlobalTemporaryTableSt
 				// but just in case a particular env needs it...
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 }
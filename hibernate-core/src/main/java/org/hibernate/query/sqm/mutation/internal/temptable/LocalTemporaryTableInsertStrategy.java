@@ -31,6 +31,14 @@ public class LocalTemporaryTableInsertStrategy extends LocalTemporaryTableStrate
 			SqmInsertStatement<?> sqmInsertStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildInsertHandler( sqmInsertStatement, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedInsertHandler buildInsertHandler(
+			SqmInsertStatement<?> sqmInsertStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedInsertHandler(
 				sqmInsertStatement,
 				domainParameterXref,
@@ -42,6 +50,6 @@ public class LocalTemporaryTableInsertStrategy extends LocalTemporaryTableStrate
 					throw new UnsupportedOperationException( "Unexpected call to access Session uid" );
 				},
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 }
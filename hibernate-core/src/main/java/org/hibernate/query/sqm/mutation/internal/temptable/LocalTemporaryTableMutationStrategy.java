@@ -32,6 +32,14 @@ public class LocalTemporaryTableMutationStrategy extends LocalTemporaryTableStra
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildUpdateHandler( sqmUpdate, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedUpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedUpdateHandler(
 				sqmUpdate,
 				domainParameterXref,
@@ -43,7 +51,7 @@ public class LocalTemporaryTableMutationStrategy extends LocalTemporaryTableStra
 					throw new UnsupportedOperationException( "Unexpected call to access Session uid" );
 				},
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 
 	@Override
@@ -51,6 +59,14 @@ public class LocalTemporaryTableMutationStrategy extends LocalTemporaryTableStra
 			SqmDeleteStatement<?> sqmDelete,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildDeleteHandler( sqmDelete, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedDeleteHandler buildDeleteHandler(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedDeleteHandler(
 				sqmDelete,
 				domainParameterXref,
@@ -62,7 +78,7 @@ public class LocalTemporaryTableMutationStrategy extends LocalTemporaryTableStra
 					throw new UnsupportedOperationException( "Unexpected call to access Session uid" );
 				},
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 
 }
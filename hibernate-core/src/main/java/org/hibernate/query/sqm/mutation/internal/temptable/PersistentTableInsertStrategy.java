@@ -40,6 +40,14 @@ public class PersistentTableInsertStrategy extends PersistentTableStrategy imple
 			SqmInsertStatement<?> sqmInsertStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildInsertHandler( sqmInsertStatement, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedInsertHandler buildInsertHandler(
+			SqmInsertStatement<?> sqmInsertStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedInsertHandler(
 				sqmInsertStatement,
 				domainParameterXref,
@@ -47,6 +55,6 @@ public class PersistentTableInsertStrategy extends PersistentTableStrategy imple
 				getSessionFactory().getJdbcServices().getDialect().getTemporaryTableAfterUseAction(),
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 }
@@ -34,6 +34,14 @@ public class PersistentTableMutationStrategy extends PersistentTableStrategy imp
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildUpdateHandler( sqmUpdate, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedUpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedUpdateHandler(
 				sqmUpdate,
 				domainParameterXref,
@@ -41,7 +49,7 @@ public class PersistentTableMutationStrategy extends PersistentTableStrategy imp
 				getSessionFactory().getJdbcServices().getDialect().getTemporaryTableAfterUseAction(),
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 
 	@Override
@@ -49,6 +57,14 @@ public class PersistentTableMutationStrategy extends PersistentTableStrategy imp
 			SqmDeleteStatement<?> sqmDelete,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		return buildDeleteHandler( sqmDelete, domainParameterXref, context ).execute( context );
+	}
+
+	@Override
+	public TableBasedDeleteHandler buildDeleteHandler(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
 		return new TableBasedDeleteHandler(
 				sqmDelete,
 				domainParameterXref,
@@ -56,6 +72,6 @@ public class PersistentTableMutationStrategy extends PersistentTableStrategy imp
 				getSessionFactory().getJdbcServices().getDialect().getTemporaryTableAfterUseAction(),
 				session -> session.getSessionIdentifier().toString(),
 				getSessionFactory()
-		).execute( context );
+		);
 	}
 }
@@ -11,6 +11,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.mutation.internal.InsertHandler;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
 
@@ -56,4 +57,19 @@ public interface SqmMultiTableInsertStrategy {
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context);
 
+	/**
+	 * Build the handler for the multi-table insert indicated by the passed
+	 * SqmInsertStatement.  The handler is kept by the cached query plan and
+	 * executed again by later executions of the same query, possibly in
+	 * other sessions and concurrently, so it must not keep any state of
+	 * the execution.
+	 *
+	 * @implNote By default, the returned handler simply calls {@link #executeInsert}
+	 */
+	default InsertHandler buildInsertHandler(
+			SqmInsertStatement<?> sqmInsertStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return executionContext -> executeInsert( sqmInsertStatement, domainParameterXref, executionContext );
+	}
 }
@@ -11,7 +11,9 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.mutation.internal.DeleteHandler;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
+import org.hibernate.query.sqm.mutation.internal.UpdateHandler;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 
@@ -67,4 +69,33 @@ public interface SqmMultiTableMutationStrategy {
 			SqmDeleteStatement<?> sqmDeleteStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context);
+
+	/**
+	 * Build the handler for the multi-table update indicated by the passed
+	 * SqmUpdateStatement.  The handler is kept by the cached query plan and
+	 * executed again by later executions of the same query, possibly in
+	 * other sessions and concurrently, so it must not keep any state of
+	 * the execution.
+	 *
+	 * @implNote By default, the returned handler simply calls {@link #executeUpdate}
+	 */
+	default UpdateHandler buildUpdateHandler(
+			SqmUpdateStatement<?> sqmUpdateStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return executionContext -> executeUpdate( sqmUpdateStatement, domainParameterXref, executionContext );
+	}
+
+	/**
+	 * Build the handler for the multi-table delete indicated by the passed
+	 * SqmDeleteStatement, with the same restrictions as {@link #buildUpdateHandler}.
+	 *
+	 * @implNote By default, the returned handler simply calls {@link #executeDelete}
+	 */
+	default DeleteHandler buildDeleteHandler(
+			SqmDeleteStatement<?> sqmDeleteStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		return executionContext -> executeDelete( sqmDeleteStatement, domainParameterXref, executionContext );
+	}
 }
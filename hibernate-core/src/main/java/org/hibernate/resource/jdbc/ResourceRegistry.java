@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,40 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Register a JDBC prepared statement which may be kept open for reuse
+	 * when it is {@linkplain #release(Statement) released}, instead of being
+	 * closed.  The statement is always cancelable.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL the statement was prepared for.
+	 *
+	 * @see #takeCachedStatement(String)
+	 */
+	default void registerCacheable(PreparedStatement statement, String sql) {
+		register( statement, true );
+	}
+
+	/**
+	 * Take a statement which was prepared for the given SQL, and kept open for
+	 * reuse, out of the statement cache.  The caller is expected to register the
+	 * statement again.
+	 *
+	 * @param sql The SQL of the statement.
+	 *
+	 * @return The cached statement, or {@code null} if there is none.
+	 */
+	default PreparedStatement takeCachedStatement(String sql) {
+		return null;
+	}
+
+	/**
+	 * Close all statements which were kept open for reuse.  Must be called
+	 * before the physical JDBC connection is released.
+	 */
+	default void releaseCachedStatements() {
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p/>
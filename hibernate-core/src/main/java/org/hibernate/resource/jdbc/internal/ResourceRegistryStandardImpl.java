@@ -9,11 +9,14 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -34,6 +37,12 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
  *
+ * When a statement cache size is given, prepared statements registered as
+ * {@linkplain #registerCacheable cacheable} are not closed when released,
+ * but kept open for reuse until the least recently released one has to make
+ * room, or until {@link #releaseCachedStatements()} is called, when the
+ * physical connection is released.
+ *
  * @author Steve Ebersole
  * @author Sanne Grinovero
  */
@@ -60,12 +69,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final int statementCacheSize;
+	// the cacheable statements currently in use
+	private HashMap<Statement, CachedStatement> cacheableStatements;
+	// the released statements kept open for reuse, by SQL, least recently released first
+	private LinkedHashMap<String, CachedStatement> cachedStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
@@ -92,6 +112,39 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void registerCacheable(PreparedStatement statement, String sql) {
+		register( statement, true );
+
+		if ( statementCacheSize > 0 ) {
+			final int fetchSize;
+			try {
+				fetchSize = statement.getFetchSize();
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to determine fetch size of JDBC statement, not caching it [%s]", e.getMessage() );
+				return;
+			}
+			if ( cacheableStatements == null ) {
+				cacheableStatements = new HashMap<>();
+			}
+			cacheableStatements.put( statement, new CachedStatement( statement, sql, fetchSize ) );
+		}
+	}
+
+	@Override
+	public PreparedStatement takeCachedStatement(String sql) {
+		if ( cachedStatements == null ) {
+			return null;
+		}
+		final CachedStatement cachedStatement = cachedStatements.remove( sql );
+		if ( cachedStatement == null ) {
+			return null;
+		}
+		log.tracef( "Reusing cached statement [%s]", cachedStatement.statement );
+		return cachedStatement.statement;
+	}
+
 	@Override
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
@@ -106,13 +159,79 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		final CachedStatement cachedStatement = cacheableStatements == null
+				? null
+				: cacheableStatements.remove( statement );
+		if ( cachedStatement == null || !returnToCache( cachedStatement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	/**
+	 * Reset the state of the statement which might have been changed since it
+	 * was prepared, and keep it open for reuse.
+	 *
+	 * @return {@code false} if the statement could not be cached, and has to be closed
+	 */
+	private boolean returnToCache(CachedStatement cachedStatement) {
+		if ( cachedStatements == null ) {
+			cachedStatements = new LinkedHashMap<String, CachedStatement>( statementCacheSize + 1, 1f ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+					if ( size() > statementCacheSize ) {
+						close( eldest.getValue().statement );
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+		else if ( cachedStatements.containsKey( cachedStatement.sql ) ) {
+			// another statement for the same SQL was in use at the same time
+			return false;
+		}
+
+		final PreparedStatement statement = cachedStatement.statement;
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != cachedStatement.fetchSize ) {
+				statement.setFetchSize( cachedStatement.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		log.tracef( "Caching statement [%s]", statement );
+		cachedStatements.put( cachedStatement.sql, cachedStatement );
+		return true;
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( cachedStatements != null ) {
+			log.trace( "Releasing cached JDBC statements" );
+			cachedStatements.forEach( (sql, cachedStatement) -> close( cachedStatement.statement ) );
+			cachedStatements.clear();
+		}
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -327,6 +446,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
+		if ( cacheableStatements != null ) {
+			cacheableStatements.clear();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -375,4 +497,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
+
+	private static final class CachedStatement {
+		private final PreparedStatement statement;
+		private final String sql;
+		private final int fetchSize;
+
+		private CachedStatement(PreparedStatement statement, String sql, int fetchSize) {
+			this.statement = statement;
+			this.sql = sql;
+			this.fetchSize = fetchSize;
+		}
+	}
 }
@@ -24,6 +24,12 @@ public interface JdbcObserver {
 	void jdbcPrepareStatementStart();
 	void jdbcPrepareStatementEnd();
 
+	/**
+	 * Notification that a prepared statement was reused from the statement
+	 * cache, instead of being prepared.
+	 */
+	default void jdbcPrepareStatementCacheHit() {}
+
 	void jdbcExecuteStatementStart();
 	void jdbcExecuteStatementEnd();
 
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
+
+/**
+ * An SQL statement which inserts a row, or updates the existing row with the
+ * same primary key, as rendered by {@link Dialect#getUpsertString}.  The JDBC
+ * parameters are in the same order as the parameters of the {@link Insert}
+ * with the same columns, followed by the expected version of a versioned row.
+ */
+@Internal
+public class Upsert extends Insert {
+
+	private String[] keyColumns;
+	private final List<String> updatedColumns = new ArrayList<>();
+	private String versionColumn;
+
+	public Upsert(Dialect dialect) {
+		super( dialect );
+	}
+
+	@Override
+	public Upsert setTableName(String tableName) {
+		super.setTableName( tableName );
+		return this;
+	}
+
+	public Upsert setKeyColumns(String[] keyColumns) {
+		this.keyColumns = keyColumns;
+		return this;
+	}
+
+	/**
+	 * Add the columns which are updated when the row already exists
+	 */
+	public Upsert addUpdatedColumns(String[] columnNames, boolean[] updatable) {
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( updatable[i] ) {
+				updatedColumns.add( columnNames[i] );
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Update an existing row only if its version is the expected one
+	 */
+	public Upsert setVersionColumn(String versionColumn) {
+		this.versionColumn = versionColumn;
+		return this;
+	}
+
+	@Override
+	public String toStatementString() {
+		final String sql = getDialect().getUpsertString(
+				tableName,
+				keyColumns,
+				columns.keySet().toArray( new String[0] ),
+				columns.values().toArray( new String[0] ),
+				updatedColumns.toArray( new String[0] ),
+				versionColumn
+		);
+		return comment == null ? sql : "/* " + Dialect.escapeComment( comment ) + " */ " + sql;
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.ast.tree.expression;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+
+/**
+ * The elements of an array bound to a parameter, rendered as {@code any(?)}
+ * on the right-hand side of a comparison.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsStandardArrays()
+ */
+public class AnyArrayParameter implements SelfRenderingExpression {
+
+	private final JdbcParameter arrayParameter;
+	private final JdbcMappingContainer elementType;
+
+	public AnyArrayParameter(JdbcParameter arrayParameter, JdbcMappingContainer elementType) {
+		this.arrayParameter = arrayParameter;
+		this.elementType = elementType;
+	}
+
+	@Override
+	public void renderToSql(SqlAppender sqlAppender, SqlAstTranslator<?> walker, SessionFactoryImplementor sessionFactory) {
+		sqlAppender.appendSql( "any(" );
+		arrayParameter.accept( walker );
+		sqlAppender.appendSql( ')' );
+	}
+
+	@Override
+	public JdbcMappingContainer getExpressionType() {
+		return elementType;
+	}
+
+	public JdbcParameter getArrayParameter() {
+		return arrayParameter;
+	}
+}
@@ -48,6 +48,7 @@ import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesReadAheadImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -124,7 +125,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						false,
 						scrollMode
 				),
-				ScrollableResultsConsumer.instance()
+				ScrollableResultsConsumer.instance(),
+				scrollMode == ScrollMode.FORWARD_ONLY
+						&& session.getFactory().getSessionFactoryOptions().isJdbcReadAheadEnabled()
 		);
 	}
 
@@ -170,7 +173,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					executionContext,
 					rowTransformer,
 					statementCreator,
-					resultsConsumer
+					resultsConsumer,
+					false
 			);
 		}
 		finally {
@@ -186,14 +190,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			boolean readAhead) {
 		return doExecuteQuery(
 				jdbcSelect,
 				jdbcParameterBindings,
 				getScrollContext( executionContext, executionContext.getSession().getPersistenceContext() ),
 				rowTransformer,
 				statementCreator,
-				resultsConsumer
+				resultsConsumer,
+				readAhead
 		);
 	}
 
@@ -329,7 +335,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			boolean readAhead) {
 
 		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
 				jdbcSelect,
@@ -337,13 +344,27 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				statementCreator
 		);
-		final JdbcValues jdbcValues = resolveJdbcValuesSource(
+		final JdbcValues resolvedJdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
 				deferredResultSetAccess
 		);
+		final JdbcValues jdbcValues;
+		if ( readAhead
+				&& resolvedJdbcValues instanceof JdbcValuesResultSetImpl
+				// scrolling over collection fetches needs to move backwards
+				&& !ScrollableResultsConsumer.containsCollectionFetches( resolvedJdbcValues.getValuesMapping() ) ) {
+			jdbcValues = new JdbcValuesReadAheadImpl(
+					(JdbcValuesResultSetImpl) resolvedJdbcValues,
+					deferredResultSetAccess,
+					executionContext.getSession()
+			);
+		}
+		else {
+			jdbcValues = resolvedJdbcValues;
+		}
 
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
@@ -366,7 +387,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		long startTime = 0;
 		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
 		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
-				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
+				&& resolvedJdbcValues instanceof JdbcValuesResultSetImpl ) {
 			stats = statistics.isStatisticsEnabled();
 			if ( stats ) {
 				startTime = System.nanoTime();
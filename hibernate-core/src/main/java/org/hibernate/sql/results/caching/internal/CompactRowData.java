@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column-oriented encoding of the JDBC values rows of a query result,
+ * used as the query cache representation of the rows.
+ * <p>
+ * Columns whose values are all of type {@link Long}, {@link Integer},
+ * {@link Double} or {@link Boolean} are stored in primitive arrays, and
+ * columns of {@link String} values are dictionary encoded.  Any other
+ * column is stored as an array of its values.
+ *
+ * @see QueryCachePutManagerEnabledImpl
+ * @see org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit
+ */
+public final class CompactRowData implements Serializable {
+	private final int rowCount;
+	private final Column[] columns;
+
+	private CompactRowData(int rowCount, Column[] columns) {
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	/**
+	 * Encode the given rows, each of which has the given number of columns
+	 */
+	public static CompactRowData from(List<Object[]> rows, int columnCount) {
+		final Column[] columns = new Column[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			columns[i] = encodeColumn( rows, i );
+		}
+		return new CompactRowData( rows.size(), columns );
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * The (boxed) value of a column of a row
+	 */
+	public Object getValue(int row, int column) {
+		final Column encoded = columns[column];
+		return encoded.isNull( row ) ? null : encoded.getValue( row );
+	}
+
+	/**
+	 * Whether the value of a column of a row is a non-null {@code int} or
+	 * {@code long} which is available from {@link #getLongValue}
+	 */
+	public boolean hasLongValue(int row, int column) {
+		final Column encoded = columns[column];
+		return ( encoded instanceof LongColumn || encoded instanceof IntColumn ) && !encoded.isNull( row );
+	}
+
+	public long getLongValue(int row, int column) {
+		final Column encoded = columns[column];
+		return encoded instanceof LongColumn
+				? ( (LongColumn) encoded ).values[row]
+				: ( (IntColumn) encoded ).values[row];
+	}
+
+	/**
+	 * Whether the value of a column of a row is a non-null {@code double}
+	 * which is available from {@link #getDoubleValue}
+	 */
+	public boolean hasDoubleValue(int row, int column) {
+		final Column encoded = columns[column];
+		return encoded instanceof DoubleColumn && !encoded.isNull( row );
+	}
+
+	public double getDoubleValue(int row, int column) {
+		return ( (DoubleColumn) columns[column] ).values[row];
+	}
+
+	private static Column encodeColumn(List<Object[]> rows, int column) {
+		final int rowCount = rows.size();
+		BitSet nulls = null;
+		Class<?> valueType = null;
+		for ( int i = 0; i < rowCount; i++ ) {
+			final Object value = rows.get( i )[column];
+			if ( value == null ) {
+				if ( nulls == null ) {
+					nulls = new BitSet( rowCount );
+				}
+				nulls.set( i );
+			}
+			else if ( valueType == null ) {
+				valueType = value.getClass();
+			}
+			else if ( valueType != value.getClass() ) {
+				valueType = Object.class;
+			}
+		}
+
+		if ( valueType == Long.class ) {
+			final long[] values = new long[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				final Object value = rows.get( i )[column];
+				if ( value != null ) {
+					values[i] = (Long) value;
+				}
+			}
+			return new LongColumn( nulls, values );
+		}
+		else if ( valueType == Integer.class ) {
+			final int[] values = new int[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				final Object value = rows.get( i )[column];
+				if ( value != null ) {
+					values[i] = (Integer) value;
+				}
+			}
+			return new IntColumn( nulls, values );
+		}
+		else if ( valueType == Double.class ) {
+			final double[] values = new double[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				final Object value = rows.get( i )[column];
+				if ( value != null ) {
+					values[i] = (Double) value;
+				}
+			}
+			return new DoubleColumn( nulls, values );
+		}
+		else if ( valueType == Boolean.class ) {
+			final BitSet values = new BitSet( rowCount );
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( Boolean.TRUE.equals( rows.get( i )[column] ) ) {
+					values.set( i );
+				}
+			}
+			return new BooleanColumn( nulls, values );
+		}
+		else if ( valueType == String.class ) {
+			final Map<String, Integer> codes = new HashMap<>();
+			final int[] values = new int[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				final String value = (String) rows.get( i )[column];
+				if ( value != null ) {
+					values[i] = codes.computeIfAbsent( value, (v) -> codes.size() );
+				}
+			}
+			final String[] dictionary = new String[codes.size()];
+			for ( Map.Entry<String, Integer> entry : codes.entrySet() ) {
+				dictionary[entry.getValue()] = entry.getKey();
+			}
+			return new StringColumn( nulls, dictionary, values );
+		}
+		else {
+			final Object[] values = new Object[rowCount];
+			for ( int i = 0; i < rowCount; i++ ) {
+				values[i] = rows.get( i )[column];
+			}
+			return new ObjectColumn( values );
+		}
+	}
+
+	private abstract static class Column implements Serializable {
+		// null when the column contains no null value
+		private final BitSet nulls;
+
+		Column(BitSet nulls) {
+			this.nulls = nulls;
+		}
+
+		boolean isNull(int row) {
+			return nulls != null && nulls.get( row );
+		}
+
+		abstract Object getValue(int row);
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+
+		LongColumn(BitSet nulls, long[] values) {
+			super( nulls );
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class IntColumn extends Column {
+		private final int[] values;
+
+		IntColumn(BitSet nulls, int[] values) {
+			super( nulls );
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+
+		DoubleColumn(BitSet nulls, double[] values) {
+			super( nulls );
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+		private final BitSet values;
+
+		BooleanColumn(BitSet nulls, BitSet values) {
+			super( nulls );
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values.get( row );
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		private final int[] codes;
+
+		StringColumn(BitSet nulls, String[] dictionary, int[] codes) {
+			super( nulls );
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return dictionary[codes[row]];
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		ObjectColumn(Object[] values) {
+			super( null );
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+}
@@ -28,7 +28,8 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
-	private final List<Object> dataToCache = new ArrayList<>();
+	private final JdbcValuesMetadata metadataForCache;
+	private final List<Object[]> rowsToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -40,24 +41,28 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
-		if ( metadataForCache != null ) {
-			dataToCache.add( metadataForCache );
-		}
+		this.metadataForCache = metadataForCache;
 	}
 
 	@Override
 	public void registerJdbcRow(Object[] values) {
 
-		// todo (6.0) : verify whether we really need to copy these..
-		//		`RowProcessingStateStandardImpl` (see `#finishRowProcessing`) already creates new array
-		//		instances for each row
-//		dataToCache.add( values );
-		dataToCache.add( Arrays.copyOf( values, values.length ) );
+		// the values array is reused for each row, so it must be copied
+		rowsToCache.add( Arrays.copyOf( values, values.length ) );
 	}
 
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		if ( queryKey != null ) {
+			// the cached data is the (optional) metadata followed by the encoded rows
+			final List<Object> dataToCache = new ArrayList<>( 2 );
+			if ( metadataForCache != null ) {
+				dataToCache.add( metadataForCache );
+			}
+			dataToCache.add(
+					CompactRowData.from( rowsToCache, rowsToCache.isEmpty() ? 0 : rowsToCache.get( 0 ).length )
+			);
+
 			final boolean put = queryCache.put(
 					queryKey,
 					dataToCache,
@@ -58,7 +58,9 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 			JdbcValuesSourceProcessingOptions options) {
 		final Object jdbcValue = extractRawValue( rowProcessingState );
 
-		ResultsLogger.LOGGER.debugf( "Extracted JDBC value [%d] - [%s]", valuesArrayPosition, jdbcValue );
+		if ( ResultsLogger.DEBUG_ENABLED ) {
+			ResultsLogger.LOGGER.debugf( "Extracted JDBC value [%d] - [%s]", valuesArrayPosition, jdbcValue );
+		}
 
 		if ( valueConverter != null ) {
 			if ( jdbcValue != null ) {
@@ -84,6 +86,52 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return (J) jdbcValue;
 	}
 
+	/**
+	 * Assemble a numeric value as a {@code long}, without boxing it if it was
+	 * read as a primitive and no conversion applies.
+	 *
+	 * @throws HibernateException if the value is null or not numeric
+	 */
+	public long assembleLong(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
+		if ( valueConverter == null && rowProcessingState.hasJdbcLongValue( valuesArrayPosition ) ) {
+			return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+		}
+		return assembleNumber( rowProcessingState, options ).longValue();
+	}
+
+	/**
+	 * Assemble a numeric value as a {@code double}, without boxing it if it was
+	 * read as a primitive and no conversion applies.
+	 *
+	 * @throws HibernateException if the value is null or not numeric
+	 */
+	public double assembleDouble(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
+		if ( valueConverter == null && rowProcessingState.hasJdbcDoubleValue( valuesArrayPosition ) ) {
+			return rowProcessingState.getJdbcDoubleValue( valuesArrayPosition );
+		}
+		return assembleNumber( rowProcessingState, options ).doubleValue();
+	}
+
+	private Number assembleNumber(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
+		final J value = assemble( rowProcessingState, options );
+		if ( value == null ) {
+			throw new HibernateException( "Unexpected null value at position " + valuesArrayPosition );
+		}
+		if ( !( value instanceof Number ) ) {
+			throw new HibernateException(
+					"Unexpected non-numeric value of type " + value.getClass().getName()
+							+ " at position " + valuesArrayPosition
+			);
+		}
+		return (Number) value;
+	}
+
 	@Override
 	public JavaType<J> getAssembledJavaType() {
 		return assembledJavaType;
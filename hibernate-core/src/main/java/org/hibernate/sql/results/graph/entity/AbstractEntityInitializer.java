@@ -18,6 +18,7 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.internal.CompactSnapshots;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
@@ -866,6 +867,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 					resolvedEntityState,
 					concreteDescriptor
 			);
+			CompactSnapshots.compactLoadedState( entityEntry, session );
 			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
 		}
 
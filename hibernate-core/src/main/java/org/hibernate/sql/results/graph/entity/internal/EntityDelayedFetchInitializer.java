@@ -27,6 +27,7 @@ import org.hibernate.sql.results.graph.FetchParentAccess;
 import org.hibernate.sql.results.graph.entity.AbstractEntityInitializer;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.Type;
 
@@ -153,12 +154,19 @@ public class EntityDelayedFetchInitializer extends AbstractFetchParentAccess imp
 						}
 					}
 					else {
+						final JdbcValuesSourceProcessingState processingState =
+								rowProcessingState.getJdbcValuesSourceProcessingState();
+						final boolean createsProxy = processingState.isCollectingCreatedProxies()
+								&& isUnknown( new EntityKey( identifier, concreteDescriptor ), session );
 						entityInstance = session.internalLoad(
 								concreteDescriptor.getEntityName(),
 								identifier,
 								false,
 								false
 						);
+						if ( createsProxy && entityInstance instanceof HibernateProxy ) {
+							processingState.registerCreatedProxy( entityInstance );
+						}
 					}
 
 					if ( entityInstance instanceof HibernateProxy ) {
@@ -172,6 +180,11 @@ public class EntityDelayedFetchInitializer extends AbstractFetchParentAccess imp
 		}
 	}
 
+	private static boolean isUnknown(EntityKey entityKey, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		return persistenceContext.getProxy( entityKey ) == null && persistenceContext.getEntity( entityKey ) == null;
+	}
+
 	protected boolean isAttributeAssignableToConcreteDescriptor() {
 		if ( parentAccess instanceof EntityInitializer ) {
 			final AbstractEntityPersister concreteDescriptor = (AbstractEntityPersister) ( (EntityInitializer) parentAccess ).getConcreteDescriptor();
@@ -139,7 +139,27 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 
 	@Override
 	public Object getJdbcValue(int position) {
-		return jdbcValues.getCurrentRowValuesArray()[ position ];
+		return jdbcValues.getCurrentRowValue( position );
+	}
+
+	@Override
+	public boolean hasJdbcLongValue(int position) {
+		return jdbcValues.hasCurrentRowLongValue( position );
+	}
+
+	@Override
+	public long getJdbcLongValue(int position) {
+		return jdbcValues.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public boolean hasJdbcDoubleValue(int position) {
+		return jdbcValues.hasCurrentRowDoubleValue( position );
+	}
+
+	@Override
+	public double getJdbcDoubleValue(int position) {
+		return jdbcValues.getCurrentRowDoubleValue( position );
 	}
 
 	@Override
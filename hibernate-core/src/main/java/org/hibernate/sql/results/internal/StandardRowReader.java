@@ -15,6 +15,7 @@ import org.hibernate.query.named.RowReaderMemento;
 import org.hibernate.sql.results.LoadingLogger;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.collection.CollectionInitializer;
 import org.hibernate.sql.results.graph.entity.internal.EntityDelayedFetchInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
@@ -35,6 +36,14 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	// a row array which is reused for every row, when the transformer
+	// does not hold on to it
+	private final Object[] reusableResultRow;
+
+	// the single basic assembler, when a row can be read as a primitive
+	// without going through the initializers and the row transformer
+	private final BasicResultAssembler<?> primitiveResultAssembler;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			List<Initializer> initializers,
@@ -44,6 +53,16 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 
 		this.assemblerCount = resultAssemblers.size();
+		this.reusableResultRow = rowTransformer instanceof RowTransformerSingularReturnImpl
+				? new Object[ assemblerCount ]
+				: null;
+		this.primitiveResultAssembler = assemblerCount == 1
+				&& initializers.isEmpty()
+				&& resultAssemblers.get( 0 ) instanceof BasicResultAssembler
+				&& ( rowTransformer instanceof RowTransformerSingularReturnImpl
+						|| rowTransformer instanceof RowTransformerPassThruImpl )
+				? (BasicResultAssembler<?>) resultAssemblers.get( 0 )
+				: null;
 
 		logDebugInfo();
 	}
@@ -90,11 +109,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		coordinateInitializers( rowProcessingState );
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		final Object[] resultRow = reusableResultRow != null ? reusableResultRow : new Object[ assemblerCount ];
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			if ( LoadingLogger.DEBUG_ENABLED ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
@@ -103,10 +124,28 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return rowTransformer.transformRow( resultRow );
 	}
 
+	@Override
+	public long readLong(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		if ( primitiveResultAssembler == null ) {
+			return RowReader.super.readLong( rowProcessingState, options );
+		}
+		return primitiveResultAssembler.assembleLong( rowProcessingState, options );
+	}
+
+	@Override
+	public double readDouble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		if ( primitiveResultAssembler == null ) {
+			return RowReader.super.readDouble( rowProcessingState, options );
+		}
+		return primitiveResultAssembler.assembleDouble( rowProcessingState, options );
+	}
+
 	private void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 
-		initializers.forEach( initializer -> initializer.finishUpRow( rowProcessingState ) );
+		for ( int i = 0; i < initializers.size(); i++ ) {
+			initializers.get( i ).finishUpRow( rowProcessingState );
+		}
 	}
 
 	@SuppressWarnings("ForLoopReplaceableByForEach")
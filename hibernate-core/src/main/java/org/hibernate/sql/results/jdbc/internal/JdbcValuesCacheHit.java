@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.CompactRowData;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
@@ -24,6 +25,10 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private static final Object[][] NO_DATA = new Object[0][];
 
 	private Object[][] cachedData;
+	private CompactRowData compactData;
+	// the row of compact data, decoded when it is accessed as an array
+	private Object[] currentRow;
+	private int currentRowPosition = -1;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private int position = -1;
@@ -40,32 +45,42 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		this.resolvedMapping = resolvedMapping;
 	}
 
+	public JdbcValuesCacheHit(CompactRowData compactData, JdbcValuesMapping resolvedMapping) {
+		this( (Object) compactData, resolvedMapping );
+	}
+
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		this( extractData( cachedResults ), resolvedMapping );
 	}
 
-	private static Object[][] extractData(List<?> cachedResults) {
+	private JdbcValuesCacheHit(Object cachedData, JdbcValuesMapping resolvedMapping) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		if ( cachedData instanceof CompactRowData ) {
+			this.compactData = (CompactRowData) cachedData;
+			this.numberOfRows = compactData.getRowCount();
+		}
+		else {
+			this.cachedData = (Object[][]) cachedData;
+			this.numberOfRows = this.cachedData.length;
+		}
+		this.resolvedMapping = resolvedMapping;
+	}
+
+	private static Object extractData(List<?> cachedResults) {
 		if ( CollectionHelper.isEmpty( cachedResults ) ) {
 			return NO_DATA;
 		}
 
-		final Object[][] data;
-		if ( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) {
-			final int end = cachedResults.size() - 1;
-			data = new Object[end][];
-			for ( int i = 0; i < end; i++ ) {
-				final Object[] row = (Object[]) cachedResults.get( i + 1 );
-				data[i] = row;
-			}
-		}
-		else {
-			data = new Object[cachedResults.size()][];
-			for ( int i = 0; i < cachedResults.size(); i++ ) {
-				final Object[] row = (Object[]) cachedResults.get( i );
-				data[i] = row;
-			}
+		final int start = cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+		if ( start < cachedResults.size() && cachedResults.get( start ) instanceof CompactRowData ) {
+			return cachedResults.get( start );
 		}
 
+		final int end = cachedResults.size() - start;
+		final Object[][] data = new Object[end][];
+		for ( int i = 0; i < end; i++ ) {
+			data[i] = (Object[]) cachedResults.get( i + start );
+		}
 		return data;
 	}
 
@@ -220,11 +235,59 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		return cachedData[position];
+		if ( compactData == null ) {
+			return cachedData[position];
+		}
+		if ( currentRowPosition != position ) {
+			if ( currentRow == null ) {
+				currentRow = new Object[ compactData.getColumnCount() ];
+			}
+			for ( int i = 0; i < currentRow.length; i++ ) {
+				currentRow[i] = compactData.getValue( position, i );
+			}
+			currentRowPosition = position;
+		}
+		return currentRow;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int position) {
+		if ( compactData == null ) {
+			return super.getCurrentRowValue( position );
+		}
+		return compactData.getValue( this.position, position );
+	}
+
+	@Override
+	public boolean hasCurrentRowLongValue(int position) {
+		return compactData != null && compactData.hasLongValue( this.position, position );
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int position) {
+		if ( hasCurrentRowLongValue( position ) ) {
+			return compactData.getLongValue( this.position, position );
+		}
+		return super.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public boolean hasCurrentRowDoubleValue(int position) {
+		return compactData != null && compactData.hasDoubleValue( this.position, position );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int position) {
+		if ( hasCurrentRowDoubleValue( position ) ) {
+			return compactData.getDoubleValue( this.position, position );
+		}
+		return super.getCurrentRowDoubleValue( position );
 	}
 
 	@Override
 	protected void release() {
 		cachedData = null;
+		compactData = null;
+		currentRow = null;
 	}
 }
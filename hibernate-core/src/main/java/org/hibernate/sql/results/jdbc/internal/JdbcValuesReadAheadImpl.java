@@ -0,0 +1,352 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * A forward-only JdbcValues which reads the JDBC values of the next block
+ * of rows on a background thread, while the current block is processed on
+ * the thread of the session.  At most one block is buffered in addition to
+ * the block being processed and the block being read.
+ * <p>
+ * The blocks are read on a bounded pool of daemon threads shared by every
+ * session.  When every thread of the pool is busy, the rows are read on the
+ * thread of the session instead.  A reader waiting for the session to take a
+ * block gives up once the results are released, or once the session or its
+ * connection is closed, so that results which are never closed do not pin a
+ * thread.
+ * <p>
+ * The reader advances the {@link java.sql.ResultSet} and runs the value
+ * extractors, with the session as their {@link org.hibernate.type.descriptor.WrapperOptions},
+ * concurrently with the session thread, which may meanwhile use the same JDBC
+ * connection, for example to initialize a lazy association.  This is only
+ * safe with a JDBC driver whose connections may be used by several threads
+ * at once, which is why read-ahead must be explicitly enabled.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#JDBC_READ_AHEAD
+ */
+public class JdbcValuesReadAheadImpl extends AbstractJdbcValues {
+	private static final Object[][] END = new Object[0][];
+	private static final int DEFAULT_BLOCK_SIZE = 256;
+	// how long a reader waits for the session to take a block before checking
+	// whether the results were abandoned
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private static final ThreadPoolExecutor READERS = new ThreadPoolExecutor(
+			0,
+			Math.max( 2, Runtime.getRuntime().availableProcessors() ),
+			30,
+			TimeUnit.SECONDS,
+			new SynchronousQueue<>(),
+			new ReaderThreadFactory()
+	);
+
+	private final JdbcValuesResultSetImpl delegate;
+	private final SharedSessionContractImplementor session;
+	private final int blockSize;
+
+	// holds blocks of rows (Object[][]), or the Throwable which stopped the reading
+	private final BlockingQueue<Object> blocks = new ArrayBlockingQueue<>( 1 );
+	private Future<?> reader;
+	private boolean readingOnSessionThread;
+	private boolean readToEnd;
+	private volatile boolean closed;
+
+	private Object[][] currentBlock;
+	private int positionInBlock;
+	private int position = -1;
+	private boolean exhausted;
+
+	public JdbcValuesReadAheadImpl(
+			JdbcValuesResultSetImpl delegate,
+			ResultSetAccess resultSetAccess,
+			SharedSessionContractImplementor session) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		this.delegate = delegate;
+		this.session = session;
+		// executes the query on the thread of the session
+		this.blockSize = resolveBlockSize( resultSetAccess );
+	}
+
+	private static int resolveBlockSize(ResultSetAccess resultSetAccess) {
+		try {
+			final int fetchSize = resultSetAccess.getResultSet().getFetchSize();
+			return fetchSize > 0 ? fetchSize : DEFAULT_BLOCK_SIZE;
+		}
+		catch (SQLException e) {
+			return DEFAULT_BLOCK_SIZE;
+		}
+	}
+
+	private void readAhead() {
+		try {
+			while ( !closed ) {
+				final Object[][] block = readBlock();
+				if ( block.length > 0 && !offer( block ) ) {
+					return;
+				}
+				if ( block.length < blockSize ) {
+					offer( END );
+					return;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable t) {
+			// including errors, which would otherwise be swallowed by the Future
+			try {
+				offer( t );
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Hand the given block, or exception, to the session
+	 *
+	 * @return {@code false} if the results were abandoned
+	 */
+	private boolean offer(Object item) throws InterruptedException {
+		while ( !closed ) {
+			if ( blocks.offer( item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS ) ) {
+				return true;
+			}
+			if ( isAbandoned() ) {
+				closed = true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isAbandoned() {
+		return session.isClosed() || !session.getJdbcCoordinator().getLogicalConnection().isOpen();
+	}
+
+	private Object[][] readBlock() {
+		final Object[][] block = new Object[blockSize][];
+		int count = 0;
+		// the delegate does not use the RowProcessingState to advance
+		while ( count < blockSize && !closed && delegate.next( null ) ) {
+			final Object[] values = delegate.getCurrentRowValuesArray();
+			block[count++] = Arrays.copyOf( values, values.length );
+		}
+		return count == blockSize ? block : Arrays.copyOf( block, count );
+	}
+
+	private Object takeBlock() {
+		if ( reader == null && !readingOnSessionThread ) {
+			try {
+				reader = READERS.submit( this::readAhead );
+			}
+			catch (RejectedExecutionException e) {
+				// every reader is busy
+				readingOnSessionThread = true;
+			}
+		}
+		if ( readingOnSessionThread ) {
+			if ( readToEnd ) {
+				return END;
+			}
+			final Object[][] block = readBlock();
+			readToEnd = block.length < blockSize;
+			return block.length == 0 ? END : block;
+		}
+		try {
+			while ( true ) {
+				final Object next = blocks.poll( OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS );
+				if ( next != null ) {
+					return next;
+				}
+				if ( reader.isDone() ) {
+					// the reader may have handed over its last item meanwhile
+					final Object last = blocks.poll();
+					if ( last != null ) {
+						return last;
+					}
+					throw new HibernateException( "Reading ahead stopped before the end of the results" );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the next block of rows", e );
+		}
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		if ( exhausted ) {
+			return false;
+		}
+
+		if ( currentBlock == null || ++positionInBlock >= currentBlock.length ) {
+			final Object next = takeBlock();
+			if ( next instanceof Throwable ) {
+				exhausted = true;
+				currentBlock = null;
+				if ( next instanceof Error ) {
+					throw (Error) next;
+				}
+				throw (RuntimeException) next;
+			}
+			if ( next == END ) {
+				ResultsLogger.LOGGER.tracef( "JdbcValuesReadAheadImpl#processNext : end of results after %s rows", position + 1 );
+				exhausted = true;
+				currentBlock = null;
+				position++;
+				return false;
+			}
+			currentBlock = (Object[][]) next;
+			positionInBlock = 0;
+		}
+
+		position++;
+		return true;
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		return currentBlock == null ? null : currentBlock[positionInBlock];
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return delegate.getValuesMapping();
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0 && !exhausted;
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return exhausted;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	private static UnsupportedOperationException forwardOnly() {
+		return new UnsupportedOperationException( "Results which are read ahead can only be scrolled forward" );
+	}
+
+	@Override
+	protected void release() {
+		closed = true;
+		if ( reader != null ) {
+			// the reader stops after the current row, once it is not waiting
+			// on a full queue; it is never interrupted since that may close
+			// the connection of drivers which use interruptible channels
+			boolean interrupted = false;
+			while ( !reader.isDone() ) {
+				blocks.clear();
+				try {
+					reader.get( 10, TimeUnit.MILLISECONDS );
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+				catch (ExecutionException | TimeoutException e) {
+					// the reader hands its exceptions to the session
+				}
+			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+			reader = null;
+		}
+		blocks.clear();
+		currentBlock = null;
+		delegate.finishUp( session );
+	}
+
+	private static class ReaderThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "hibernate-read-ahead-" + count.incrementAndGet() );
+			// do not pin the class loader of the application which created the thread
+			thread.setContextClassLoader( JdbcValuesReadAheadImpl.class.getClassLoader() );
+			return thread;
+		}
+	}
+}
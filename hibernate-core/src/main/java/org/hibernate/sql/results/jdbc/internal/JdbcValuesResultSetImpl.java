@@ -25,6 +25,11 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.FloatingPointValueExtractor;
+import org.hibernate.type.descriptor.IntegralValueExtractor;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -40,6 +45,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
 
+	// the extractors of the values which are read as primitives, by position,
+	// or null if there are none
+	private final PrimitiveValueExtractor<?>[] primitiveExtractors;
+	// whether the primitive value at a position may be exposed as a long or
+	// double, because it is wrapped as a number of the same type
+	private final boolean[] exposedPrimitives;
+	// the values read as primitives, which are only boxed on access
+	private final long[] currentRowLongValues;
+	private final double[] currentRowDoubleValues;
+	private final boolean[] currentRowPrimitives;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -55,6 +71,56 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
+
+		this.primitiveExtractors = resolvePrimitiveExtractors( sqlSelections, currentRowJdbcValues.length );
+		if ( primitiveExtractors == null ) {
+			this.exposedPrimitives = null;
+			this.currentRowLongValues = null;
+			this.currentRowDoubleValues = null;
+			this.currentRowPrimitives = null;
+		}
+		else {
+			this.exposedPrimitives = new boolean[ primitiveExtractors.length ];
+			for ( int i = 0; i < primitiveExtractors.length; i++ ) {
+				exposedPrimitives[i] = primitiveExtractors[i] != null && isExposed( primitiveExtractors[i] );
+			}
+			this.currentRowLongValues = new long[ primitiveExtractors.length ];
+			this.currentRowDoubleValues = new double[ primitiveExtractors.length ];
+			this.currentRowPrimitives = new boolean[ primitiveExtractors.length ];
+		}
+	}
+
+	private static PrimitiveValueExtractor<?>[] resolvePrimitiveExtractors(SqlSelection[] sqlSelections, int rowSize) {
+		if ( JdbcExtractingLogging.TRACE_ENABLED ) {
+			// only the regular extraction logs the extracted values
+			return null;
+		}
+		PrimitiveValueExtractor<?>[] primitiveExtractors = null;
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			final ValueExtractor<?> extractor = sqlSelection.getJdbcValueExtractor();
+			if ( extractor instanceof IntegralValueExtractor || extractor instanceof FloatingPointValueExtractor ) {
+				if ( primitiveExtractors == null ) {
+					primitiveExtractors = new PrimitiveValueExtractor[ rowSize ];
+				}
+				primitiveExtractors[ sqlSelection.getValuesArrayPosition() ] = (PrimitiveValueExtractor<?>) extractor;
+			}
+		}
+		return primitiveExtractors;
+	}
+
+	private static boolean isExposed(PrimitiveValueExtractor<?> extractor) {
+		final Class<?> primitiveType = extractor.getPrimitiveType();
+		final Class<?> javaTypeClass = extractor.getJavaType().getJavaTypeClass();
+		if ( primitiveType == long.class ) {
+			return javaTypeClass == Long.class;
+		}
+		else if ( primitiveType == int.class ) {
+			return javaTypeClass == Integer.class;
+		}
+		else if ( primitiveType == double.class ) {
+			return javaTypeClass == Double.class;
+		}
+		return false;
 	}
 
 	private static QueryCachePutManager resolveQueryCachePutManager(
@@ -179,7 +245,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	public void beforeFirst(RowProcessingState rowProcessingState) {
 		try {
 			resultSetAccess.getResultSet().beforeFirst();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRowValues();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#beforeFirst()", e );
@@ -229,7 +295,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	public void afterLast(RowProcessingState rowProcessingState) {
 		try {
 			resultSetAccess.getResultSet().afterLast();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRowValues();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#afterLast()", e );
@@ -290,16 +356,32 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		);
 	}
 
+	private void clearCurrentRowValues() {
+		Arrays.fill( currentRowJdbcValues, null );
+		if ( currentRowPrimitives != null ) {
+			Arrays.fill( currentRowPrimitives, false );
+		}
+	}
+
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
-						session
-				);
+				final PrimitiveValueExtractor<?> primitiveExtractor = primitiveExtractors == null
+						? null
+						: primitiveExtractors[ position ];
+				if ( primitiveExtractor != null ) {
+					readPrimitiveValue( resultSet, sqlSelection.getJdbcResultSetIndex(), position, primitiveExtractor );
+				}
+				else {
+					currentRowJdbcValues[ position ] = sqlSelection.getJdbcValueExtractor().extract(
+							resultSet,
+							sqlSelection.getJdbcResultSetIndex(),
+							session
+					);
+				}
 			}
 			catch (Exception e) {
 				throw new HibernateException(
@@ -320,8 +402,82 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return valuesMapping;
 	}
 
+	/**
+	 * Read a value without boxing it.  The value is only boxed when it is
+	 * accessed as an object.
+	 */
+	private void readPrimitiveValue(
+			ResultSet resultSet,
+			int jdbcResultSetIndex,
+			int position,
+			PrimitiveValueExtractor<?> extractor) throws SQLException {
+		if ( extractor instanceof IntegralValueExtractor ) {
+			currentRowLongValues[ position ] =
+					( (IntegralValueExtractor<?>) extractor ).extractLong( resultSet, jdbcResultSetIndex );
+		}
+		else {
+			currentRowDoubleValues[ position ] =
+					( (FloatingPointValueExtractor<?>) extractor ).extractDouble( resultSet, jdbcResultSetIndex );
+		}
+		currentRowPrimitives[ position ] = !resultSet.wasNull();
+		currentRowJdbcValues[ position ] = null;
+	}
+
 	@Override
 	public Object[] getCurrentRowValuesArray() {
+		if ( currentRowPrimitives != null ) {
+			for ( int i = 0; i < currentRowPrimitives.length; i++ ) {
+				if ( currentRowPrimitives[i] && currentRowJdbcValues[i] == null ) {
+					currentRowJdbcValues[i] = boxPrimitiveValue( i );
+				}
+			}
+		}
 		return currentRowJdbcValues;
 	}
+
+	@Override
+	public Object getCurrentRowValue(int position) {
+		final Object value = currentRowJdbcValues[ position ];
+		if ( value == null && currentRowPrimitives != null && currentRowPrimitives[ position ] ) {
+			return currentRowJdbcValues[ position ] = boxPrimitiveValue( position );
+		}
+		return value;
+	}
+
+	private Object boxPrimitiveValue(int position) {
+		final PrimitiveValueExtractor<?> extractor = primitiveExtractors[ position ];
+		return extractor instanceof IntegralValueExtractor
+				? ( (IntegralValueExtractor<?>) extractor ).wrapLong( currentRowLongValues[ position ], executionContext.getSession() )
+				: ( (FloatingPointValueExtractor<?>) extractor ).wrapDouble( currentRowDoubleValues[ position ], executionContext.getSession() );
+	}
+
+	@Override
+	public boolean hasCurrentRowLongValue(int position) {
+		return currentRowPrimitives != null
+				&& currentRowPrimitives[ position ]
+				&& exposedPrimitives[ position ]
+				&& primitiveExtractors[ position ] instanceof IntegralValueExtractor;
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int position) {
+		return hasCurrentRowLongValue( position )
+				? currentRowLongValues[ position ]
+				: super.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public boolean hasCurrentRowDoubleValue(int position) {
+		return currentRowPrimitives != null
+				&& currentRowPrimitives[ position ]
+				&& exposedPrimitives[ position ]
+				&& primitiveExtractors[ position ] instanceof FloatingPointValueExtractor;
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int position) {
+		return hasCurrentRowDoubleValue( position )
+				? currentRowDoubleValues[ position ]
+				: super.getCurrentRowDoubleValue( position );
+	}
 }
@@ -51,6 +51,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private Map<EntityUniqueKey, Initializer> initializerByUniquKeyMap;
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
 	private List<CollectionInitializer> arrayInitializers;
+	private List<Object> loadedEntities;
 
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
@@ -73,6 +74,27 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 	}
 
+	/**
+	 * Add the instances of the entities loaded from now on to the given list,
+	 * once they are fully initialized, along with the proxies created for
+	 * their associations
+	 */
+	public void collectLoadedEntities(List<Object> loadedEntities) {
+		this.loadedEntities = loadedEntities;
+	}
+
+	@Override
+	public boolean isCollectingCreatedProxies() {
+		return loadedEntities != null;
+	}
+
+	@Override
+	public void registerCreatedProxy(Object proxy) {
+		if ( loadedEntities != null ) {
+			loadedEntities.add( proxy );
+		}
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext() {
 		return executionContext;
@@ -217,6 +239,10 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 								(Loadable) loadingEntityEntry.getDescriptor()
 						);
 					}
+
+					if ( loadedEntities != null ) {
+						loadedEntities.add( loadingEntityEntry.getEntityInstance() );
+					}
 				}
 		);
 		loadingEntityMap = null;
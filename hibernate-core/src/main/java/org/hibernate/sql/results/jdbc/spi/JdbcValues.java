@@ -74,6 +74,49 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Get the JDBC value at the given position of the current row.  Unlike
+	 * {@link #getCurrentRowValuesArray()}, this only boxes the requested value,
+	 * if it was read as a primitive.
+	 */
+	default Object getCurrentRowValue(int position) {
+		return getCurrentRowValuesArray()[ position ];
+	}
+
+	/**
+	 * Whether the JDBC value at the given position of the current row is a
+	 * non-null {@code int} or {@code long} which was read without boxing it,
+	 * and is available from {@link #getCurrentRowLongValue(int)}.
+	 */
+	default boolean hasCurrentRowLongValue(int position) {
+		return false;
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given position of the current row,
+	 * without boxing it if {@link #hasCurrentRowLongValue(int)}.
+	 */
+	default long getCurrentRowLongValue(int position) {
+		return ( (Number) getCurrentRowValue( position ) ).longValue();
+	}
+
+	/**
+	 * Whether the JDBC value at the given position of the current row is a
+	 * non-null {@code double} which was read without boxing it, and is
+	 * available from {@link #getCurrentRowDoubleValue(int)}.
+	 */
+	default boolean hasCurrentRowDoubleValue(int position) {
+		return false;
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given position of the current row,
+	 * without boxing it if {@link #hasCurrentRowDoubleValue(int)}.
+	 */
+	default double getCurrentRowDoubleValue(int position) {
+		return ( (Number) getCurrentRowValue( position ) ).doubleValue();
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
@@ -70,6 +70,20 @@ public interface JdbcValuesSourceProcessingState {
 
 	Initializer findInitializer(EntityUniqueKey entityKey);
 
+	/**
+	 * Whether the proxies created for the associations of the rows should be
+	 * {@linkplain #registerCreatedProxy registered}
+	 */
+	default boolean isCollectingCreatedProxies() {
+		return false;
+	}
+
+	/**
+	 * Registers a proxy which was created for an association of the current
+	 * row, rather than found in the persistence context
+	 */
+	default void registerCreatedProxy(Object proxy) {
+	}
 
 	/**
 	 * Find a LoadingCollectionEntry locally to this context.
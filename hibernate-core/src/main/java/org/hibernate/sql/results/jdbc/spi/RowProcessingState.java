@@ -51,6 +51,40 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Whether the value corresponding to the given index is a non-null
+	 * {@code int} or {@code long} which may be retrieved without boxing
+	 * it by {@link #getJdbcLongValue(int)}.
+	 */
+	default boolean hasJdbcLongValue(int position) {
+		return false;
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index as a
+	 * {@code long}, without boxing it if {@link #hasJdbcLongValue(int)}.
+	 */
+	default long getJdbcLongValue(int position) {
+		return ( (Number) getJdbcValue( position ) ).longValue();
+	}
+
+	/**
+	 * Whether the value corresponding to the given index is a non-null
+	 * {@code double} which may be retrieved without boxing it by
+	 * {@link #getJdbcDoubleValue(int)}.
+	 */
+	default boolean hasJdbcDoubleValue(int position) {
+		return false;
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index as a
+	 * {@code double}, without boxing it if {@link #hasJdbcDoubleValue(int)}.
+	 */
+	default double getJdbcDoubleValue(int position) {
+		return ( (Number) getJdbcValue( position ) ).doubleValue();
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
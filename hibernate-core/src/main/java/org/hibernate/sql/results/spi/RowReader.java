@@ -8,6 +8,7 @@ package org.hibernate.sql.results.spi;
 
 import java.util.List;
 
+import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -47,6 +48,37 @@ public interface RowReader<R> {
 	 */
 	R readRow(RowProcessingState processingState, JdbcValuesSourceProcessingOptions options);
 
+	/**
+	 * Read a row whose single result is numeric as a {@code long}.  Implementations
+	 * may avoid materializing (and boxing) the result.
+	 *
+	 * @throws HibernateException if the result is null or not numeric
+	 */
+	default long readLong(RowProcessingState processingState, JdbcValuesSourceProcessingOptions options) {
+		return toNumber( readRow( processingState, options ) ).longValue();
+	}
+
+	/**
+	 * Read a row whose single result is numeric as a {@code double}.  Implementations
+	 * may avoid materializing (and boxing) the result.
+	 *
+	 * @throws HibernateException if the result is null or not numeric
+	 */
+	default double readDouble(RowProcessingState processingState, JdbcValuesSourceProcessingOptions options) {
+		return toNumber( readRow( processingState, options ) ).doubleValue();
+	}
+
+	private static Number toNumber(Object result) {
+		if ( result instanceof Number ) {
+			return (Number) result;
+		}
+		throw new HibernateException(
+				result == null
+						? "Unexpected null result"
+						: "Unexpected non-numeric result of type " + result.getClass().getName()
+		);
+	}
+
 	/**
 	 * Called at the end of processing all rows
 	 */
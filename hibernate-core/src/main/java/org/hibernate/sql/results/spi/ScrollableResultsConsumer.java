@@ -72,7 +72,11 @@ public class ScrollableResultsConsumer<R> implements ResultsConsumer<ScrollableR
 		return false;
 	}
 
-	private boolean containsCollectionFetches(JdbcValuesMapping valuesMapping) {
+	/**
+	 * Whether the results contain collection fetches, which require
+	 * the results to be scrolled backwards
+	 */
+	public static boolean containsCollectionFetches(JdbcValuesMapping valuesMapping) {
 		final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
 		for ( DomainResult domainResult : domainResults ) {
 			if ( domainResult instanceof EntityResult ) {
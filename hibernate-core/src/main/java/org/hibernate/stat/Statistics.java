@@ -364,6 +364,16 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements that were reused from the statement
+	 * cache of a session, instead of being prepared again.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPrepareStatementCacheHitCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -379,4 +389,22 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plan executions which could reuse one
+	 * of the SQL variants already translated for a cached query plan.
+	 */
+	default long getQueryPlanVariantHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of query plan executions which required a new
+	 * SQL translation because none of the variants already translated
+	 * for the query plan was compatible.  A high count relative to
+	 * {@link #getQueryPlanVariantHitCount()} indicates variant churn.
+	 */
+	default long getQueryPlanVariantMissCount() {
+		return 0;
+	}
 }
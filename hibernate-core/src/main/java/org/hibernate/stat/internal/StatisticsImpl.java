@@ -58,6 +58,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder prepareStatementCacheHitCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -91,6 +92,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanVariantHitCount = new LongAdder();
+	private final LongAdder queryPlanVariantMissCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -160,6 +163,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		prepareStatementCacheHitCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -197,6 +201,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanVariantHitCount.reset();
+		queryPlanVariantMissCount.reset();
 
 		resetStart();
 	}
@@ -737,6 +743,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanVariantHitCount() {
+		return queryPlanVariantHitCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanVariantMissCount() {
+		return queryPlanVariantMissCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +780,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanVariantHit(String query) {
+		queryPlanVariantHitCount.increment();
+	}
+
+	@Override
+	public void queryPlanVariantMiss(String query) {
+		queryPlanVariantMissCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -814,6 +840,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPrepareStatementCacheHitCount() {
+		return prepareStatementCacheHitCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -839,6 +870,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		prepareStatementCount.increment();
 	}
 
+	@Override
+	public void prepareStatementCacheHit() {
+		prepareStatementCacheHitCount.increment();
+	}
+
 	@Override
 	public void closeStatement() {
 		closeStatementCount.increment();
@@ -908,6 +944,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + prepareStatementCacheHitCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -936,6 +973,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan variant hits=" + queryPlanVariantHitCount +
+				",query plan variant misses=" + queryPlanVariantMissCount +
 				']';
 	}
 
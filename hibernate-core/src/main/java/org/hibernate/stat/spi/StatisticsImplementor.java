@@ -42,6 +42,12 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void prepareStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the statement cache.
+	 */
+	default void prepareStatementCacheHit() {
+	}
+
 	/**
 	 * Callback about a statement being closed.
 	 */
@@ -266,6 +272,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an execution of a query plan reused one of
+	 * its already translated SQL variants.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanVariantHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an execution of a query plan had to translate
+	 * a new SQL variant.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanVariantMiss(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -47,6 +47,7 @@ import org.hibernate.tuple.PropertyFactory;
 import org.hibernate.tuple.ValueGeneration;
 import org.hibernate.tuple.ValueGenerator;
 import org.hibernate.type.AssociationType;
+import org.hibernate.type.BasicType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
@@ -103,6 +104,7 @@ public class EntityMetamodel implements Serializable {
 	private final Map<String, Integer> propertyIndexes = new HashMap<>();
 	private final boolean hasCollections;
 	private final BitSet mutablePropertiesIndexes;
+	private final BitSet digestedPropertiesIndexes;
 	private final boolean hasLazyProperties;
 	private final boolean hasNonIdentifierPropertyNamedId;
 
@@ -216,6 +218,7 @@ public class EntityMetamodel implements Serializable {
 		boolean foundCascade = false;
 		boolean foundCollection = false;
 		BitSet mutableIndexes = new BitSet();
+		BitSet digestedIndexes = new BitSet();
 		boolean foundNonIdentifierPropertyNamedId = false;
 		boolean foundUpdateableNaturalIdProperty = false;
 
@@ -337,6 +340,13 @@ public class EntityMetamodel implements Serializable {
 			// Component types are dirty tracked as well so they are not exactly mutable for the "maybeDirty" check
 			if ( propertyType.isMutable() && propertyCheckability[i] && !( propertyType instanceof ComponentType ) ) {
 				mutableIndexes.set( i );
+				if ( persistentClass.useCompactSnapshot()
+						&& propertyType instanceof BasicType
+						&& propertyUpdateability[i]
+						&& prop != persistentClass.getVersion()
+						&& !prop.isNaturalIdentifier() ) {
+					digestedIndexes.set( i );
+				}
 			}
 
 			mapPropertyToIndex(prop, i);
@@ -410,6 +420,7 @@ public class EntityMetamodel implements Serializable {
 
 		hasCollections = foundCollection;
 		mutablePropertiesIndexes = mutableIndexes;
+		digestedPropertiesIndexes = digestedIndexes;
 
 		final Set<String> subclassEntityNamesLocal = new HashSet<>();
 		for ( Subclass subclass : persistentClass.getSubclasses() ) {
@@ -889,6 +900,15 @@ public class EntityMetamodel implements Serializable {
 		return mutablePropertiesIndexes;
 	}
 
+	/**
+	 * The properties of which the loaded state may hold a digest rather than a copy
+	 *
+	 * @see org.hibernate.annotations.CompactSnapshot
+	 */
+	public BitSet getDigestedPropertiesIndexes() {
+		return digestedPropertiesIndexes;
+	}
+
 	public boolean hasNonIdentifierPropertyNamedId() {
 		return hasNonIdentifierPropertyNamedId;
 	}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link PrimitiveValueExtractor} of {@code double} values.
+ */
+@Incubating
+public interface FloatingPointValueExtractor<X> extends PrimitiveValueExtractor<X> {
+	/**
+	 * Read a value, or {@code 0} for SQL null.
+	 */
+	double extractDouble(ResultSet rs, int paramIndex) throws SQLException;
+
+	/**
+	 * Wrap a value read by {@link #extractDouble}.
+	 */
+	X wrapDouble(double value, WrapperOptions options);
+}
@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link PrimitiveValueExtractor} of {@code int}, {@code long} or
+ * {@code boolean} values, all of which are read as a {@code long}.
+ */
+@Incubating
+public interface IntegralValueExtractor<X> extends PrimitiveValueExtractor<X> {
+	/**
+	 * Read a value, or {@code 0} for SQL null.
+	 */
+	long extractLong(ResultSet rs, int paramIndex) throws SQLException;
+
+	/**
+	 * Wrap a value read by {@link #extractLong}.
+	 */
+	X wrapLong(long value, WrapperOptions options);
+}
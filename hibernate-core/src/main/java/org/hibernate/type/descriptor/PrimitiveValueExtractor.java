@@ -0,0 +1,37 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor;
+
+import java.sql.ResultSet;
+
+import org.hibernate.Incubating;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A {@link ValueExtractor} which is able to read values of a primitive JDBC
+ * type from a {@link ResultSet} without boxing them, and to box them later,
+ * when the value is actually needed as an object.
+ * <p>
+ * Values of type {@code int}, {@code long} and {@code boolean} are read by an
+ * {@link IntegralValueExtractor}, with booleans represented as {@code 0} or
+ * {@code 1}, and values of type {@code double} by a
+ * {@link FloatingPointValueExtractor}.  Like the JDBC getters, these return
+ * {@code 0} for SQL nulls, so the caller must check {@link ResultSet#wasNull()}.
+ */
+@Incubating
+public interface PrimitiveValueExtractor<X> extends ValueExtractor<X> {
+	/**
+	 * The primitive type of the JDBC values, {@code int.class},
+	 * {@code long.class}, {@code double.class} or {@code boolean.class}.
+	 */
+	Class<?> getPrimitiveType();
+
+	/**
+	 * The Java type of the wrapped values.
+	 */
+	JavaType<X> getJavaType();
+}
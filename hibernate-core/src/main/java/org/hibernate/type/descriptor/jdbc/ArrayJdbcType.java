@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Descriptor for {@link Types#ARRAY ARRAY} handling, binding an {@code Object[]}
+ * of basic values as a {@link java.sql.Array} created by
+ * {@link Connection#createArrayOf}.
+ *
+ * @see org.hibernate.dialect.Dialect#supportsStandardArrays()
+ */
+public class ArrayJdbcType implements JdbcType {
+	private final JavaType<Object> elementJavaType;
+	private final Class<?> elementJdbcClass;
+	private final String elementTypeName;
+
+	/**
+	 * @param elementJavaType The Java type of the elements of the bound arrays
+	 * @param elementJdbcClass The class to which the elements are unwrapped before binding
+	 * @param elementTypeName The SQL type name of the elements, passed to {@link Connection#createArrayOf}
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayJdbcType(JavaType<?> elementJavaType, Class<?> elementJdbcClass, String elementTypeName) {
+		this.elementJavaType = (JavaType<Object>) elementJavaType;
+		this.elementJdbcClass = elementJdbcClass;
+		this.elementTypeName = elementTypeName;
+	}
+
+	@Override
+	public int getJdbcTypeCode() {
+		return Types.ARRAY;
+	}
+
+	@Override
+	public String getFriendlyName() {
+		return "ARRAY";
+	}
+
+	@Override
+	public String toString() {
+		return "ArrayTypeDescriptor(" + elementTypeName + ")";
+	}
+
+	@Override
+	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+		return new BasicBinder<>( javaType, this ) {
+			@Override
+			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+					throws SQLException {
+				st.setArray( index, createArray( st.getConnection(), value, options ) );
+			}
+
+			@Override
+			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+					throws SQLException {
+				st.setObject( name, createArray( st.getConnection(), value, options ), Types.ARRAY );
+			}
+		};
+	}
+
+	@Override
+	public <X> ValueExtractor<X> getExtractor(JavaType<X> javaType) {
+		return new BasicExtractor<>( javaType, this ) {
+			@Override
+			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+				return wrap( rs.getArray( paramIndex ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+				return wrap( statement.getArray( index ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+				return wrap( statement.getArray( name ), options );
+			}
+
+			private X wrap(Array array, WrapperOptions options) throws SQLException {
+				return array == null ? null : getJavaType().wrap( array.getArray(), options );
+			}
+		};
+	}
+
+	private Array createArray(Connection connection, Object value, WrapperOptions options) throws SQLException {
+		final Object[] elements = (Object[]) value;
+		final Object[] jdbcElements = new Object[elements.length];
+		for ( int i = 0; i < elements.length; i++ ) {
+			jdbcElements[i] = elementJavaType.unwrap( elements[i], elementJdbcClass, options );
+		}
+		return connection.createArrayOf( elementTypeName, jdbcElements );
+	}
+}
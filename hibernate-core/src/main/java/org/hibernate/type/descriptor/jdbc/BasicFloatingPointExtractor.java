@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import org.hibernate.type.descriptor.FloatingPointValueExtractor;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link FloatingPointValueExtractor}
+ */
+public abstract class BasicFloatingPointExtractor<J> extends BasicPrimitiveExtractor<J> implements FloatingPointValueExtractor<J> {
+	public BasicFloatingPointExtractor(JavaType<J> javaType, JdbcType jdbcType) {
+		super( javaType, jdbcType, double.class );
+	}
+}
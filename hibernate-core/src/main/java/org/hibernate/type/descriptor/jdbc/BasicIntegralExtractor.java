@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import org.hibernate.type.descriptor.IntegralValueExtractor;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link IntegralValueExtractor}
+ */
+public abstract class BasicIntegralExtractor<J> extends BasicPrimitiveExtractor<J> implements IntegralValueExtractor<J> {
+	public BasicIntegralExtractor(JavaType<J> javaType, JdbcType jdbcType, Class<?> primitiveType) {
+		super( javaType, jdbcType, primitiveType );
+	}
+}
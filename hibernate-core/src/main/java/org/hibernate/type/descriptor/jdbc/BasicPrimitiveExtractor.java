@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link PrimitiveValueExtractor}
+ */
+public abstract class BasicPrimitiveExtractor<J> extends BasicExtractor<J> implements PrimitiveValueExtractor<J> {
+	private final Class<?> primitiveType;
+
+	public BasicPrimitiveExtractor(JavaType<J> javaType, JdbcType jdbcType, Class<?> primitiveType) {
+		super( javaType, jdbcType );
+		this.primitiveType = primitiveType;
+	}
+
+	@Override
+	public Class<?> getPrimitiveType() {
+		return primitiveType;
+	}
+}
@@ -68,7 +68,7 @@ public class BigIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicIntegralExtractor<>( javaType, this, long.class ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getLong( paramIndex ), options );
@@ -83,6 +83,16 @@ public class BigIntJdbcType implements JdbcType {
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getLong( name ), options );
 			}
+
+			@Override
+			public long extractLong(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getLong( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaType.wrap( value, options );
+			}
 		};
 	}
 
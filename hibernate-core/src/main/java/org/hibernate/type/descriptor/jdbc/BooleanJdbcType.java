@@ -96,7 +96,7 @@ public class BooleanJdbcType implements AdjustableJdbcType {
 	}
 
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicIntegralExtractor<>( javaType, this, boolean.class ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getBoolean( paramIndex ), options );
@@ -111,6 +111,16 @@ public class BooleanJdbcType implements AdjustableJdbcType {
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getBoolean( name ), options );
 			}
+
+			@Override
+			public long extractLong(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getBoolean( paramIndex ) ? 1L : 0L;
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaType.wrap( value != 0L, options );
+			}
 		};
 	}
 }
@@ -88,7 +88,7 @@ public class DoubleJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicFloatingPointExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getDouble( paramIndex ), options );
@@ -103,6 +103,16 @@ public class DoubleJdbcType implements JdbcType {
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getDouble( name ), options );
 			}
+
+			@Override
+			public double extractDouble(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getDouble( paramIndex );
+			}
+
+			@Override
+			public X wrapDouble(double value, WrapperOptions options) {
+				return javaType.wrap( value, options );
+			}
 		};
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that entities with an {@code IDENTITY} identifier are inserted in
+ * JDBC batches when {@link AvailableSettings#BATCH_IDENTITY_INSERTS} is enabled
+ */
+@DomainModel( annotatedClasses = BatchedIdentityInsertTest.Node.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ),
+		@Setting( name = AvailableSettings.BATCH_IDENTITY_INSERTS, value = "true" )
+} )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@RequiresDialect( H2Dialect.class )
+@RequiresDialect( PostgreSQLDialect.class )
+public class BatchedIdentityInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Node set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Node" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchedInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		final List<Node> nodes = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 7; i++ ) {
+				final Node node = new Node( "node " + i );
+				session.persist( node );
+				nodes.add( node );
+			}
+			// the identifiers are assigned when the batch executes
+			assertThat( nodes.get( 0 ).id ).isNull();
+			session.flush();
+			for ( Node node : nodes ) {
+				assertThat( node.id ).isNotNull();
+				assertThat( session.contains( node ) ).isTrue();
+			}
+		} );
+
+		// a batch of five rows, and a batch of the remaining two
+		assertThat( inserts( statementInspector ) ).hasSize( 2 );
+		assertThat( nodes.stream().map( node -> node.id ).distinct().count() ).isEqualTo( 7L );
+
+		scope.inTransaction( session -> {
+			for ( Node node : nodes ) {
+				assertThat( session.find( Node.class, node.id ).name ).isEqualTo( node.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testReferenceWithinBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		final Node parent = new Node( "parent" );
+		final Node child = new Node( "child" );
+		final Node sibling = new Node( "sibling" );
+		scope.inTransaction( session -> {
+			child.parent = parent;
+			session.persist( parent );
+			session.persist( child );
+			session.persist( sibling );
+		} );
+
+		// the child refers to the parent, so it starts a new batch
+		assertThat( inserts( statementInspector ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Node.class, child.id ).parent.id ).isEqualTo( parent.id );
+			assertThat( session.find( Node.class, sibling.id ).parent ).isNull();
+		} );
+	}
+
+	private static List<String> inserts(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity( name = "Node" )
+	@Table( name = "batched_identity_nodes" )
+	public static class Node {
+		@Id
+		@GeneratedValue( strategy = GenerationType.IDENTITY )
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batched inserts are merged into multi-row insert statements
+ */
+@DomainModel( annotatedClasses = {
+		MultiRowInsertTest.Item.class,
+		MultiRowInsertTest.CustomItem.class,
+		MultiRowInsertTest.DatedItem.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "2" ),
+		@Setting( name = AvailableSettings.INSERT_ROWS_PER_STATEMENT, value = "3" )
+} )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsValuesListForInsert.class )
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from CustomItem" ).executeUpdate();
+			session.createMutationQuery( "delete from DatedItem" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 7; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		// two statements of three rows in one JDBC batch, and the remaining row
+		final List<String> inserts = statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+		assertThat( inserts ).hasSize( 2 );
+		assertThat( inserts.get( 0 ).split( "\\), \\(" ) ).hasSize( 3 );
+		assertThat( inserts.get( 1 ).split( "\\), \\(" ) ).hasSize( 1 );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( 7 );
+			for ( int i = 0; i < items.size(); i++ ) {
+				assertThat( items.get( i ).id ).isEqualTo( i + 1 );
+				assertThat( items.get( i ).name ).isEqualTo( "item " + ( i + 1 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testNoMultiRowInsertWithoutJdbcBatching(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			session.setJdbcBatchSize( 1 );
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		assertThat( insertStatements( statementInspector ) ).hasSize( 4 )
+				.allSatisfy( sql -> assertThat( sql ).doesNotContain( "), (" ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Item", Item.class ).list()
+		).hasSize( 4 ) );
+	}
+
+	@Test
+	public void testCustomSqlInsertNotMerged(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new CustomItem( i, "item " + i ) );
+			}
+		} );
+
+		assertThat( insertStatements( statementInspector ) ).hasSize( 4 )
+				.allSatisfy( sql -> assertThat( sql ).isEqualTo( CustomItem.INSERT ) );
+		scope.inTransaction( session -> {
+			final List<CustomItem> items = session.createSelectionQuery( "from CustomItem order by id", CustomItem.class )
+					.list();
+			assertThat( items ).hasSize( 4 );
+			assertThat( items.get( 3 ).name ).isEqualTo( "item 4" );
+		} );
+	}
+
+	@Test
+	public void testMutableValueChangedWhileQueued(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the row is still queued when the callback changes the date
+			session.persist( new DatedItem( 1, new Date( DatedItem.CREATED ) ) );
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.find( DatedItem.class, 1 ).created.getTime()
+		).isEqualTo( DatedItem.CREATED ) );
+	}
+
+	private static List<String> insertStatements(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "multi_row_items" )
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "CustomItem" )
+	@Table( name = "custom_multi_row_items" )
+	@SQLInsert( sql = CustomItem.INSERT )
+	public static class CustomItem {
+		static final String INSERT = "insert into custom_multi_row_items (name, id) values (?, ?)";
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public CustomItem() {
+		}
+
+		public CustomItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "DatedItem" )
+	@Table( name = "dated_multi_row_items" )
+	public static class DatedItem {
+		static final long CREATED = 1_000_000_000_000L;
+
+		@Id
+		private Integer id;
+
+		// not updatable, so the state of the insert holds the instance itself
+		@Temporal( TemporalType.TIMESTAMP )
+		@Column( updatable = false )
+		private Date created;
+
+		public DatedItem() {
+		}
+
+		public DatedItem(Integer id, Date created) {
+			this.id = id;
+			this.created = created;
+		}
+
+		@PostPersist
+		void touch() {
+			created.setTime( 0L );
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE}
+ */
+@DomainModel( annotatedClasses = {
+		AdaptiveBatchFetchTest.Store.class,
+		AdaptiveBatchFetchTest.Purchase.class
+} )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "16" ) )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class AdaptiveBatchFetchTest {
+	private static final int STORES = 20;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= STORES; i++ ) {
+				final Store store = new Store( i );
+				store.tags.add( "tag-" + i );
+				session.persist( store );
+				session.persist( new Purchase( i, store ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Purchase" ).executeUpdate();
+			for ( Store store : session.createSelectionQuery( "from Store", Store.class ).list() ) {
+				session.remove( store );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityBatchSizeGrows(SessionFactoryScope scope) {
+		final int first = countStatementsInitializingStores( scope );
+		// starts with single loads, then batches of 2, 4, and 8
+		assertThat( first ).isLessThan( STORES );
+
+		final int second = countStatementsInitializingStores( scope );
+		assertThat( second ).isLessThan( first );
+		assertThat( second ).isLessThanOrEqualTo( 3 );
+	}
+
+	@Test
+	public void testCollectionBatchSizeGrows(SessionFactoryScope scope) {
+		final int first = countStatementsInitializingTags( scope );
+		assertThat( first ).isLessThan( STORES );
+
+		final int second = countStatementsInitializingTags( scope );
+		assertThat( second ).isLessThan( first );
+		assertThat( second ).isLessThanOrEqualTo( 3 );
+	}
+
+	private static int countStatementsInitializingStores(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		return scope.fromTransaction( session -> {
+			final List<Purchase> purchases = session.createSelectionQuery( "from Purchase order by id", Purchase.class )
+					.list();
+			statementInspector.clear();
+
+			for ( Purchase purchase : purchases ) {
+				Hibernate.initialize( purchase.store );
+				assertThat( Hibernate.isInitialized( purchase.store ) ).isTrue();
+			}
+			return statementInspector.getSqlQueries().size();
+		} );
+	}
+
+	private static int countStatementsInitializingTags(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		return scope.fromTransaction( session -> {
+			final List<Store> stores = session.createSelectionQuery( "from Store order by id", Store.class )
+					.list();
+			statementInspector.clear();
+
+			for ( Store store : stores ) {
+				assertThat( store.tags ).containsExactly( "tag-" + store.id );
+			}
+			return statementInspector.getSqlQueries().size();
+		} );
+	}
+
+	@Entity( name = "Store" )
+	@Table( name = "stores" )
+	public static class Store {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Store() {
+		}
+
+		public Store(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Purchase" )
+	@Table( name = "purchases" )
+	public static class Purchase {
+		@Id
+		private Integer id;
+
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Store store;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, Store store) {
+			this.id = id;
+			this.store = store;
+		}
+	}
+}
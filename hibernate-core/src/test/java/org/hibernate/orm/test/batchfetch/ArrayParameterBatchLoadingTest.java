@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.NaturalId;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batch loading binds the keys to a single array parameter, so that
+ * the same SQL is executed for any number of keys
+ */
+@DomainModel( annotatedClasses = {
+		ArrayParameterBatchLoadingTest.Store.class,
+		ArrayParameterBatchLoadingTest.Purchase.class
+} )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsStandardArrays.class )
+public class ArrayParameterBatchLoadingTest {
+	private static final int STORES = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= STORES; i++ ) {
+				final Store store = new Store( i, "store-" + i );
+				store.tags.add( "tag-" + i );
+				session.persist( store );
+				session.persist( new Purchase( i, store ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Purchase" ).executeUpdate();
+			for ( Store store : session.createSelectionQuery( "from Store", Store.class ).list() ) {
+				session.remove( store );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityBatchLoading(SessionFactoryScope scope) {
+		final String threeKeys = loadStoresOfPurchases( scope, 3 );
+		final String sevenKeys = loadStoresOfPurchases( scope, 7 );
+		assertThat( sevenKeys ).isEqualTo( threeKeys );
+	}
+
+	@Test
+	public void testCollectionBatchLoading(SessionFactoryScope scope) {
+		final String threeKeys = loadTagsOfStores( scope, 3 );
+		final String sevenKeys = loadTagsOfStores( scope, 7 );
+		assertThat( sevenKeys ).isEqualTo( threeKeys );
+	}
+
+	@Test
+	public void testMultiLoading(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat(
+				session.byMultipleIds( Store.class ).multiLoad( 1, 2, 3 )
+		).extracting( store -> store.id ).containsExactly( 1, 2, 3 ) );
+		statementInspector.assertExecutedCount( 1 );
+		final String threeKeys = statementInspector.getSqlQueries().get( 0 );
+
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat(
+				session.byMultipleIds( Store.class ).multiLoad( 1, 2, 3, 4, 5, 6, 7 )
+		).hasSize( 7 ) );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).isEqualTo( threeKeys );
+	}
+
+	@Test
+	public void testNaturalIdMultiLoading(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat(
+				session.byMultipleNaturalId( Store.class ).multiLoad( "store-1", "store-2", "store-3" )
+		).hasSize( 3 ) );
+		statementInspector.assertExecutedCount( 1 );
+		final String threeKeys = statementInspector.getSqlQueries().get( 0 );
+
+		statementInspector.clear();
+		scope.inTransaction( session -> assertThat(
+				session.byMultipleNaturalId( Store.class ).multiLoad( "store-4", "store-5", "store-6", "store-7" )
+		).hasSize( 4 ) );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).isEqualTo( threeKeys );
+	}
+
+	private static String loadStoresOfPurchases(SessionFactoryScope scope, int count) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		return scope.fromTransaction( session -> {
+			final List<Purchase> purchases = session.createSelectionQuery( "from Purchase where id <= :count", Purchase.class )
+					.setParameter( "count", count )
+					.list();
+			statementInspector.clear();
+
+			Hibernate.initialize( purchases.get( 0 ).store );
+			statementInspector.assertExecutedCount( 1 );
+			for ( Purchase purchase : purchases ) {
+				assertThat( Hibernate.isInitialized( purchase.store ) ).isTrue();
+			}
+			return statementInspector.getSqlQueries().get( 0 );
+		} );
+	}
+
+	private static String loadTagsOfStores(SessionFactoryScope scope, int count) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		return scope.fromTransaction( session -> {
+			final List<Store> stores = session.createSelectionQuery( "from Store where id <= :count", Store.class )
+					.setParameter( "count", count )
+					.list();
+			statementInspector.clear();
+
+			Hibernate.initialize( stores.get( 0 ).tags );
+			statementInspector.assertExecutedCount( 1 );
+			for ( Store store : stores ) {
+				assertThat( Hibernate.isInitialized( store.tags ) ).isTrue();
+				assertThat( store.tags ).containsExactly( "tag-" + store.id );
+			}
+			return statementInspector.getSqlQueries().get( 0 );
+		} );
+	}
+
+	@Entity( name = "Store" )
+	@Table( name = "stores" )
+	@BatchSize( size = 20 )
+	public static class Store {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		@ElementCollection
+		@BatchSize( size = 20 )
+		private Set<String> tags = new HashSet<>();
+
+		public Store() {
+		}
+
+		public Store(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+
+	@Entity( name = "Purchase" )
+	@Table( name = "purchases" )
+	public static class Purchase {
+		@Id
+		private Integer id;
+
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Store store;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, Store store) {
+			this.id = id;
+			this.store = store;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+import org.hibernate.loader.ast.spi.Loadable;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the SQL rendered for batch loading by an array parameter, without
+ * executing it, using a dialect which claims to support arrays, so that it
+ * runs on the H2 version used by default for the tests
+ *
+ * @see ArrayParameterBatchLoadingTest
+ */
+@DomainModel( annotatedClasses = {
+		ArrayParameterSqlShapeTest.Store.class,
+		ArrayParameterSqlShapeTest.Shelf.class
+} )
+@ServiceRegistry( settings = @Setting(
+		name = AvailableSettings.DIALECT,
+		value = "org.hibernate.orm.test.batchfetch.ArrayParameterSqlShapeTest$ArrayDialect"
+) )
+@SessionFactory
+@RequiresDialect( H2Dialect.class )
+public class ArrayParameterSqlShapeTest {
+
+	@Test
+	public void testEntityKeys(SessionFactoryScope scope) {
+		final EntityPersister store = entityDescriptor( scope, Store.class );
+		assertArraySelect( scope, store, store.getIdentifierMapping() );
+	}
+
+	@Test
+	public void testCollectionKeys(SessionFactoryScope scope) {
+		final PluralAttributeMapping tags = (PluralAttributeMapping) entityDescriptor( scope, Store.class )
+				.findAttributeMapping( "tags" );
+		assertArraySelect( scope, tags, tags.getKeyDescriptor() );
+	}
+
+	@Test
+	public void testNaturalIdKeys(SessionFactoryScope scope) {
+		final EntityPersister store = entityDescriptor( scope, Store.class );
+		assertArraySelect( scope, store, store.getNaturalIdMapping() );
+	}
+
+	@Test
+	public void testCompositeKeysUseInList(SessionFactoryScope scope) {
+		final EntityPersister shelf = entityDescriptor( scope, Shelf.class );
+		assertThat( MultiKeyLoadHelper.resolveArrayJdbcMapping( shelf.getIdentifierMapping(), scope.getSessionFactory() ) )
+				.isNull();
+	}
+
+	@Test
+	public void testFixedLengthKeysUseInList(SessionFactoryScope scope) {
+		final EntityPersister shelf = entityDescriptor( scope, Shelf.class );
+		assertThat( MultiKeyLoadHelper.resolveArrayJdbcMapping( shelf.getNaturalIdMapping(), scope.getSessionFactory() ) )
+				.isNull();
+	}
+
+	private static void assertArraySelect(SessionFactoryScope scope, Loadable loadable, ModelPart restrictedPart) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( restrictedPart, sessionFactory );
+		assertThat( arrayJdbcMapping ).isNotNull();
+
+		final MultiKeyLoadHelper.ArraySelect arraySelect = MultiKeyLoadHelper.createArraySelect(
+				loadable,
+				restrictedPart,
+				arrayJdbcMapping,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				sessionFactory
+		);
+
+		// one array parameter, whatever the number of keys
+		final String sql = arraySelect.getJdbcSelect().getSql();
+		assertThat( sql ).contains( "any(?)" ).doesNotContain( " in(" ).doesNotContain( " in (" );
+		assertThat( sql.chars().filter( c -> c == '?' ).count() ).isEqualTo( 1L );
+		assertThat( arraySelect.getJdbcParameters() ).hasSize( 1 );
+
+		// the bindings of any number of keys are for that one parameter
+		assertThat( arraySelect.createBindings( new Object[] { 1, 2, 3 } ).getBindings() ).hasSize( 1 );
+		assertThat( arraySelect.createBindings( new Object[] { 1, 2, 3, 4, 5, 6, 7 } ).getBindings() ).hasSize( 1 );
+	}
+
+	private static EntityPersister entityDescriptor(SessionFactoryScope scope, Class<?> entityClass) {
+		return scope.getSessionFactory().getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( entityClass );
+	}
+
+	/**
+	 * H2Dialect only supports arrays as of H2 1.4.200, a later version than
+	 * the one used by default for the tests, but the SQL is only rendered here
+	 */
+	public static class ArrayDialect extends H2Dialect {
+		public ArrayDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		@Override
+		public boolean supportsStandardArrays() {
+			return true;
+		}
+	}
+
+	@Entity( name = "Store" )
+	@Table( name = "stores" )
+	public static class Store {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+	}
+
+	@Entity( name = "Shelf" )
+	@Table( name = "shelves" )
+	public static class Shelf {
+		@EmbeddedId
+		private ShelfId id;
+
+		@NaturalId
+		@JdbcTypeCode( SqlTypes.CHAR )
+		@Column( length = 8 )
+		private String label;
+	}
+
+	@Embeddable
+	public static class ShelfId implements Serializable {
+		private Integer storeId;
+		private Integer position;
+	}
+}
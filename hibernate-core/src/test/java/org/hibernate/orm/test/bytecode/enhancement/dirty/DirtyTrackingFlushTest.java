@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a flush only visits the enhanced entities modified since the previous flush
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class DirtyTrackingFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class, Basket.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 20; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+			final Basket basket = new Basket( 1L );
+			basket.getTags().add( "a" );
+			session.persist( basket );
+		} );
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesVisited() {
+		doInHibernate( this::sessionFactory, session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertTrue( items.get( 0 ) instanceof SelfDirtinessNotifier );
+
+			// the first flush visits every entity, and marks them clean
+			session.flush();
+			assertEquals( 0, persistenceContext.reentrantSafeDirtyEntityEntries().length );
+
+			items.get( 3 ).setName( "Changed" );
+			assertEquals( 1, persistenceContext.reentrantSafeDirtyEntityEntries().length );
+			session.flush();
+			assertEquals( 0, persistenceContext.reentrantSafeDirtyEntityEntries().length );
+
+			session.remove( items.get( 5 ) );
+			assertEquals( 1, persistenceContext.reentrantSafeDirtyEntityEntries().length );
+
+			items.get( 7 ).setName( "Changed again" );
+			session.persist( new Item( 100L, "New" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Changed", session.find( Item.class, 3L ).getName() );
+			assertNull( session.find( Item.class, 5L ) );
+			assertEquals( "Changed again", session.find( Item.class, 7L ).getName() );
+			assertEquals( "New", session.find( Item.class, 100L ).getName() );
+		} );
+	}
+
+	@Test
+	public void testCollectionOfCleanOwner() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket basket = session.find( Basket.class, 1L );
+			session.flush();
+			session.flush();
+			basket.getTags().add( "b" );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 2, session.find( Basket.class, 1L ).getTags().size() );
+		} );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "items" )
+	private static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Basket" )
+	@Table( name = "baskets" )
+	private static class Basket {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		Basket() {
+		}
+
+		Basket(Long id) {
+			this.id = id;
+		}
+
+		List<String> getTags() {
+			return tags;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the dynamic insert and update statements, which are cached
+ * per persister, depend on the dirty properties and on the nullness of the
+ * old values used for optimistic locking.
+ */
+@DomainModel( annotatedClasses = DynamicSqlCachingTest.Document.class )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class DynamicSqlCachingTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDynamicInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1, "first", null ) );
+			session.persist( new Document( 2, "second", null ) );
+			session.persist( new Document( 3, null, "third" ) );
+		} );
+
+		assertEquals( 3, statementInspector.getSqlQueries().size() );
+		assertEquals( statementInspector.getSqlQueries().get( 0 ), statementInspector.getSqlQueries().get( 1 ) );
+		assertFalse( statementInspector.getSqlQueries().get( 2 ).contains( "title" ) );
+
+		scope.inTransaction( session -> {
+			assertEquals( "second", session.find( Document.class, 2 ).getTitle() );
+			assertNull( session.find( Document.class, 3 ).getTitle() );
+			assertEquals( "third", session.find( Document.class, 3 ).getBody() );
+		} );
+	}
+
+	@Test
+	public void testDynamicUpdateWithDirtyLocking(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1, "first", null ) );
+			session.persist( new Document( 2, null, null ) );
+		} );
+
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			session.find( Document.class, 1 ).setTitle( "changed" );
+			session.flush();
+			// same dirty property, but the old value is null
+			session.find( Document.class, 2 ).setTitle( "changed" );
+		} );
+
+		assertEquals( 4, statementInspector.getSqlQueries().size() );
+		final String notNullUpdate = statementInspector.getSqlQueries().get( 1 );
+		final String nullUpdate = statementInspector.getSqlQueries().get( 3 );
+		assertTrue( notNullUpdate.startsWith( "update" ) );
+		assertFalse( notNullUpdate.contains( "is null" ) );
+		assertTrue( nullUpdate.startsWith( "update" ) );
+		assertTrue( nullUpdate.contains( "is null" ) );
+
+		scope.inTransaction( session -> {
+			// the same statement is used again for the same dirty property
+			session.find( Document.class, 1 ).setTitle( "changed again" );
+			session.find( Document.class, 2 ).setBody( "body" );
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( "changed again", session.find( Document.class, 1 ).getTitle() );
+			assertEquals( "changed", session.find( Document.class, 2 ).getTitle() );
+			assertEquals( "body", session.find( Document.class, 2 ).getBody() );
+		} );
+	}
+
+	@Entity( name = "Document" )
+	@Table( name = "documents" )
+	@DynamicInsert
+	@DynamicUpdate
+	@OptimisticLocking( type = OptimisticLockType.DIRTY )
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		private String body;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, String body) {
+			this.id = id;
+			this.title = title;
+			this.body = body;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public void setBody(String body) {
+			this.body = body;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.Arrays;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.annotations.CompactSnapshot;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link CompactSnapshot}
+ */
+@DomainModel( annotatedClasses = CompactSnapshotTest.Document.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ) )
+@SessionFactory
+public class CompactSnapshotTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1, "Large", content( 1000 ) ) );
+			session.persist( new Document( 2, "Small", content( 10 ) ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testLargeValuesDigested(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document large = session.find( Document.class, 1 );
+			final Document small = session.find( Document.class, 2 );
+			assertThat( loadedContent( session.getPersistenceContextInternal().getEntry( large ) ) )
+					.isNotInstanceOf( byte[].class );
+			assertThat( loadedContent( session.getPersistenceContextInternal().getEntry( small ) ) )
+					.isInstanceOf( byte[].class );
+		} );
+	}
+
+	@Test
+	public void testDirtyChecking(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+			document.content[500] = 42;
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+			assertThat( loadedContent( session.getPersistenceContextInternal().getEntry( document ) ) )
+					.isNotInstanceOf( byte[].class );
+
+			document.title = "Changed";
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+		} );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.title ).isEqualTo( "Changed" );
+			assertThat( document.content[500] ).isEqualTo( (byte) 42 );
+			session.remove( document );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Document.class, 1 ) ).isNull() );
+	}
+
+	@Test
+	public void testLoadedValueMaterialized(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( document );
+			assertThat( loadedContent( entry ) ).isNotInstanceOf( byte[].class );
+			assertThat( entry.getLoadedValue( "content" ) ).isEqualTo( content( 1000 ) );
+			assertThat( loadedContent( entry ) ).isInstanceOf( byte[].class );
+		} );
+	}
+
+	@Test
+	public void testNotCompactedWithInterceptor(SessionFactoryScope scope) {
+		final Interceptor interceptor = new Interceptor() {
+		};
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( loadedContent( session.unwrap( SessionImplementor.class )
+					.getPersistenceContextInternal()
+					.getEntry( document ) ) )
+					.isInstanceOf( byte[].class );
+		}
+	}
+
+	private static Object loadedContent(EntityEntry entry) {
+		// the loaded state itself, which getLoadedValue() would materialize
+		return entry.getLoadedState()[entry.getPersister().getEntityMetamodel().getPropertyIndex( "content" )];
+	}
+
+	private static byte[] content(int length) {
+		final byte[] content = new byte[length];
+		Arrays.fill( content, (byte) 7 );
+		return content;
+	}
+
+	@Entity( name = "Document" )
+	@Table( name = "documents" )
+	@CompactSnapshot
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@Column( length = 2000 )
+		private byte[] content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, byte[] content) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.internal.CollectionKeyMap;
+import org.hibernate.engine.internal.EntityKeyMap;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the maps of entities by {@link EntityKey}, and of collections by
+ * {@link CollectionKey}, of the persistence context
+ */
+@DomainModel( annotatedClasses = {
+		EntityKeyMapTest.Animal.class,
+		EntityKeyMapTest.Dog.class,
+		EntityKeyMapTest.Keeper.class
+} )
+@SessionFactory
+public class EntityKeyMapTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+			session.createMutationQuery( "delete from Keeper" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSameAsHashMap(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final MappingMetamodel mappingMetamodel = factory.getRuntimeMetamodels().getMappingMetamodel();
+		final EntityPersister animal = mappingMetamodel.getEntityDescriptor( Animal.class );
+		final EntityPersister dog = mappingMetamodel.getEntityDescriptor( Dog.class );
+		final EntityPersister keeper = mappingMetamodel.getEntityDescriptor( Keeper.class );
+		final EntityPersister[] persisters = { animal, dog, keeper };
+
+		final EntityKeyMap<Object> map = new EntityKeyMap<>();
+		final Map<EntityKey, Object> expected = new HashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			// few distinct ids, so that entries are replaced and removed often
+			final EntityKey key = new EntityKey(
+					(long) random.nextInt( 2_000 ),
+					persisters[random.nextInt( persisters.length )]
+			);
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+			}
+			else {
+				final Object value = new Object();
+				assertThat( map.put( key, value ) ).isEqualTo( expected.put( key, value ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+
+		for ( Map.Entry<EntityKey, Object> entry : expected.entrySet() ) {
+			final EntityKey key = entry.getKey();
+			assertThat( map.get( key.getIdentifier(), key.getPersister() ) ).isSameAs( entry.getValue() );
+			assertThat( map.containsKey( key ) ).isTrue();
+		}
+		// entities of a hierarchy share their identifiers
+		assertThat( map.get( 2_000L, dog ) ).isNull();
+		assertThat( map.asMap() ).isEqualTo( expected );
+
+		final List<Object> values = new ArrayList<>();
+		for ( Iterator<Object> iterator = map.valueIterator(); iterator.hasNext(); ) {
+			values.add( iterator.next() );
+		}
+		assertThat( values ).containsExactlyInAnyOrderElementsOf( expected.values() );
+
+		map.clear();
+		assertThat( map.isEmpty() ).isTrue();
+		assertThat( map.get( new EntityKey( 1L, keeper ) ) ).isNull();
+	}
+
+	@Test
+	public void testPersistenceContext(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 1_000; i++ ) {
+				session.persist( i % 2 == 0 ? new Animal( i ) : new Dog( i ) );
+				session.persist( new Keeper( i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Animal", Animal.class ).list();
+			session.createSelectionQuery( "from Keeper", Keeper.class ).list();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister animal = scope.getSessionFactory()
+					.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( Animal.class );
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 2_000 );
+			assertThat( persistenceContext.getEntity( 7L, animal ) ).isInstanceOf( Dog.class );
+			assertThat( persistenceContext.containsEntity( 8L, animal ) ).isTrue();
+
+			session.detach( session.find( Animal.class, 7L ) );
+			assertThat( persistenceContext.getEntity( 7L, animal ) ).isNull();
+			assertThat( session.find( Keeper.class, 7L ) ).isNotNull();
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 1_999 );
+		} );
+	}
+
+	@Test
+	public void testCollectionKeysSameAsHashMap(SessionFactoryScope scope) {
+		final CollectionPersister nicknames = scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getCollectionDescriptor( Keeper.class.getName() + ".nicknames" );
+
+		final CollectionKeyMap<Object> map = new CollectionKeyMap<>();
+		final Map<CollectionKey, Object> expected = new HashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			final CollectionKey key = new CollectionKey( nicknames, (long) random.nextInt( 2_000 ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+			}
+			else {
+				final Object value = new Object();
+				assertThat( map.put( key, value ) ).isEqualTo( expected.put( key, value ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+		assertThat( map.asMap() ).isEqualTo( expected );
+
+		map.reset( 16 );
+		assertThat( map.isEmpty() ).isTrue();
+		assertThat( map.get( new CollectionKey( nicknames, 1L ) ) ).isNull();
+	}
+
+	@Test
+	public void testCollectionsByKey(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 100; i++ ) {
+				final Keeper keeper = new Keeper( i );
+				keeper.nicknames.add( "keeper #" + i );
+				session.persist( keeper );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Keeper keeper : session.createSelectionQuery( "from Keeper", Keeper.class ).list() ) {
+				Hibernate.initialize( keeper.nicknames );
+			}
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getCollectionsByKey() ).hasSize( 100 );
+			final CollectionPersister nicknames = session.getFactory()
+					.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getCollectionDescriptor( Keeper.class.getName() + ".nicknames" );
+			assertThat( persistenceContext.getCollection( new CollectionKey( nicknames, 7L ) ) )
+					.isEqualTo( Set.of( "keeper #7" ) );
+		} );
+	}
+
+	@Test
+	public void testNullIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Keeper( 1L ) );
+			final EntityPersister keeper = session.getFactory().getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( Keeper.class );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThrows( AssertionFailure.class, () -> persistenceContext.getEntity( null, keeper ) );
+			assertThrows( AssertionFailure.class, () -> persistenceContext.containsEntity( null, keeper ) );
+		} );
+	}
+
+	@Entity( name = "Animal" )
+	@Table( name = "animals" )
+	public static class Animal {
+		@Id
+		private Long id;
+
+		public Animal() {
+		}
+
+		public Animal(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Dog" )
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity( name = "Keeper" )
+	@Table( name = "keepers" )
+	public static class Keeper {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		public Keeper() {
+		}
+
+		public Keeper(Long id) {
+			this.id = id;
+		}
+	}
+}
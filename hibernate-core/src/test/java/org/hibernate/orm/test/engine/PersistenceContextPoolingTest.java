@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.DomainModelScope;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link AvailableSettings#POOL_PERSISTENCE_CONTEXTS}
+ */
+@DomainModel( annotatedClasses = PersistenceContextPoolingTest.Book.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.POOL_PERSISTENCE_CONTEXTS, value = "true" ) )
+@SessionFactory
+public class PersistenceContextPoolingTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReuse(SessionFactoryScope scope) {
+		final PersistenceContext persistenceContext;
+		final ActionQueue actionQueue;
+		final Book proxy;
+		final SessionImplementor closed;
+		try ( SessionImplementor session = openSession( scope ) ) {
+			closed = session;
+			session.beginTransaction();
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+			session.getTransaction().commit();
+			persistenceContext = session.getPersistenceContextInternal();
+			actionQueue = session.getActionQueue();
+			session.clear();
+			proxy = session.getReference( Book.class, 1 );
+		}
+
+		// the closed session no longer holds what it released
+		assertThat( closed.getPersistenceContextInternal() ).isNull();
+
+		try ( SessionImplementor session = openSession( scope ) ) {
+			assertThat( session.getPersistenceContextInternal() ).isSameAs( persistenceContext );
+			assertThat( session.getActionQueue() ).isSameAs( actionQueue );
+			assertThat( persistenceContext.getSession() ).isSameAs( session );
+			assertThat( persistenceContext.getEntitiesByKey() ).isEmpty();
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isZero();
+			assertThat( actionQueue.hasAnyQueuedActions() ).isFalse();
+
+			// the instances of the previous session are detached
+			assertThat( session.contains( proxy ) ).isFalse();
+			assertThat( Hibernate.isInitialized( proxy ) ).isFalse();
+			assertThrows( LazyInitializationException.class, proxy::getTitle );
+
+			session.beginTransaction();
+			final Book book = session.find( Book.class, 2 );
+			book.title = "Changed";
+			session.getTransaction().commit();
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 1 );
+		}
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 2 ).title ).isEqualTo( "Changed" ) );
+	}
+
+	@Test
+	public void testNestedSessions(SessionFactoryScope scope) {
+		try ( SessionImplementor outer = openSession( scope ) ) {
+			try ( SessionImplementor inner = openSession( scope ) ) {
+				assertThat( inner.getPersistenceContextInternal() )
+						.isNotSameAs( outer.getPersistenceContextInternal() );
+			}
+		}
+	}
+
+	@Test
+	public void testSharedSessionNotPooled(SessionFactoryScope scope) {
+		final PersistenceContext persistenceContext;
+		final PersistenceContext childPersistenceContext;
+		try ( SessionImplementor session = openSession( scope ) ) {
+			persistenceContext = session.getPersistenceContextInternal();
+			try ( SessionImplementor child = (SessionImplementor) session.sessionWithOptions()
+					.connection()
+					.openSession() ) {
+				childPersistenceContext = child.getPersistenceContextInternal();
+				assertThat( childPersistenceContext ).isNotSameAs( persistenceContext );
+			}
+			// the session sharing the transaction coordinator did not release its context
+			assertThat( childPersistenceContext.getSession() ).isNotNull();
+		}
+
+		try ( SessionImplementor next = openSession( scope ) ) {
+			assertThat( next.getPersistenceContextInternal() ).isSameAs( persistenceContext );
+		}
+	}
+
+	@Test
+	public void testOtherFactoryNotPooled(DomainModelScope modelScope, SessionFactoryScope scope) {
+		final PersistenceContext persistenceContext;
+		final SessionFactoryImplementor otherFactory =
+				(SessionFactoryImplementor) modelScope.getDomainModel().buildSessionFactory();
+		try {
+			try ( SessionImplementor session = (SessionImplementor) otherFactory.openSession() ) {
+				persistenceContext = session.getPersistenceContextInternal();
+			}
+			try ( SessionImplementor session = openSession( scope ) ) {
+				assertThat( session.getPersistenceContextInternal() ).isNotSameAs( persistenceContext );
+			}
+		}
+		finally {
+			otherFactory.close();
+		}
+
+		assertThat( otherFactory.isOpen() ).isFalse();
+		try ( SessionImplementor session = openSession( scope ) ) {
+			assertThat( session.getPersistenceContextInternal() ).isNotSameAs( persistenceContext );
+		}
+	}
+
+	private static SessionImplementor openSession(SessionFactoryScope scope) {
+		return (SessionImplementor) scope.getSessionFactory().openSession();
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "books" )
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
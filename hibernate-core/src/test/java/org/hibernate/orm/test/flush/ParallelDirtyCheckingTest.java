@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD}
+ */
+@DomainModel( annotatedClasses = {
+		ParallelDirtyCheckingTest.Account.class,
+		ParallelDirtyCheckingTest.Transfer.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < 200; i++ ) {
+				final Account account = new Account( i, 100 );
+				session.persist( account );
+				session.persist( new Transfer( i, account, 10 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Transfer" ).executeUpdate();
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSameUpdatesAsSequentialFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.list();
+			final List<Transfer> transfers = session.createSelectionQuery( "from Transfer order by id", Transfer.class )
+					.list();
+			for ( int i = 0; i < accounts.size(); i += 3 ) {
+				accounts.get( i ).balance -= 10;
+			}
+			// entities with associations are still dirty checked on the flushing thread
+			for ( int i = 0; i < transfers.size(); i += 5 ) {
+				transfers.get( i ).amount = 20;
+			}
+			session.flush();
+
+			// nothing is dirty any more
+			session.flush();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 67 + 40 );
+
+		scope.inTransaction( session -> {
+			for ( Account account : session.createSelectionQuery( "from Account", Account.class ).list() ) {
+				assertThat( account.balance ).isEqualTo( account.id % 3 == 0 ? 90 : 100 );
+			}
+			for ( Transfer transfer : session.createSelectionQuery( "from Transfer", Transfer.class ).list() ) {
+				assertThat( transfer.amount ).isEqualTo( transfer.id % 5 == 0 ? 20 : 10 );
+			}
+		} );
+	}
+
+	@Entity( name = "Account" )
+	@Table( name = "accounts" )
+	public static class Account {
+		@Id
+		private Long id;
+
+		private int balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+
+	@Entity( name = "Transfer" )
+	@Table( name = "transfers" )
+	public static class Transfer {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Account account;
+
+		private int amount;
+
+		public Transfer() {
+		}
+
+		public Transfer(Long id, Account account, int amount) {
+			this.id = id;
+			this.account = account;
+			this.amount = amount;
+		}
+	}
+}
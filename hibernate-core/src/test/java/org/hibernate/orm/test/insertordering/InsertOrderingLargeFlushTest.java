@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.EntityInsertOrdering;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests ordering the insertions of a large flush of several entities which
+ * refer to each other, persisted in an order which violates the foreign keys
+ */
+@DomainModel( annotatedClasses = {
+		InsertOrderingLargeFlushTest.Customer.class,
+		InsertOrderingLargeFlushTest.Product.class,
+		InsertOrderingLargeFlushTest.PurchaseOrder.class,
+		InsertOrderingLargeFlushTest.OrderLine.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.ORDER_INSERTS, value = "true" ),
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "50" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class InsertOrderingLargeFlushTest {
+	private static final int CUSTOMERS = 500;
+	private static final int ORDERS_PER_CUSTOMER = 4;
+	private static final int LINES_PER_ORDER = 5;
+	private static final int PRODUCTS = 100;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from OrderLine" ).executeUpdate();
+			session.createMutationQuery( "delete from PurchaseOrder" ).executeUpdate();
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+			session.createMutationQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntityDependencies(SessionFactoryScope scope) {
+		final EntityInsertOrdering ordering = scope.getSessionFactory()
+				.getFastSessionServices()
+				.getEntityInsertOrdering();
+		final int customer = ordering.getIndex( Customer.class.getName() );
+		final int product = ordering.getIndex( Product.class.getName() );
+		final int order = ordering.getIndex( PurchaseOrder.class.getName() );
+		final int line = ordering.getIndex( OrderLine.class.getName() );
+
+		assertThat( ordering.dependsOn( order, customer ) ).isTrue();
+		assertThat( ordering.dependsOn( line, order ) ).isTrue();
+		assertThat( ordering.dependsOn( line, product ) ).isTrue();
+		// transitively
+		assertThat( ordering.dependsOn( line, customer ) ).isTrue();
+		assertThat( ordering.dependsOn( customer, line ) ).isFalse();
+		assertThat( ordering.dependsOn( product, order ) ).isFalse();
+	}
+
+	@Test
+	public void testLargeFlush(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Product[] products = new Product[PRODUCTS];
+			for ( int i = 0; i < PRODUCTS; i++ ) {
+				products[i] = new Product( i );
+			}
+			int orderId = 0;
+			int lineId = 0;
+			for ( int c = 0; c < CUSTOMERS; c++ ) {
+				final Customer customer = new Customer( c );
+				for ( int o = 0; o < ORDERS_PER_CUSTOMER; o++ ) {
+					final PurchaseOrder order = new PurchaseOrder( orderId++, customer );
+					for ( int l = 0; l < LINES_PER_ORDER; l++ ) {
+						final Product product = products[( lineId * 7 ) % PRODUCTS];
+						session.persist( new OrderLine( lineId++, order, product ) );
+						if ( !session.contains( product ) ) {
+							session.persist( product );
+						}
+					}
+					session.persist( order );
+				}
+				session.persist( customer );
+			}
+		} );
+
+		final long orders = (long) CUSTOMERS * ORDERS_PER_CUSTOMER;
+		final long lines = orders * LINES_PER_ORDER;
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( CUSTOMERS + PRODUCTS + orders + lines );
+
+		scope.inTransaction( session -> {
+			final Long joinedLines = session.createSelectionQuery(
+					"select count(*) from OrderLine l join l.purchaseOrder o join o.customer",
+					Long.class
+			).getSingleResult();
+			assertThat( joinedLines ).isEqualTo( lines );
+			final Long orderedProducts = session.createSelectionQuery(
+					"select count(distinct l.product) from OrderLine l",
+					Long.class
+			).getSingleResult();
+			assertThat( orderedProducts ).isEqualTo( (long) PRODUCTS );
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	@Table( name = "lf_customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Product" )
+	@Table( name = "lf_product" )
+	public static class Product {
+		@Id
+		private Integer id;
+
+		public Product() {
+		}
+
+		public Product(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "PurchaseOrder" )
+	@Table( name = "lf_order" )
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Customer customer;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity( name = "OrderLine" )
+	@Table( name = "lf_order_line" )
+	public static class OrderLine {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private PurchaseOrder purchaseOrder;
+
+		@ManyToOne
+		private Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, PurchaseOrder order, Product product) {
+			this.id = id;
+			this.purchaseOrder = order;
+			this.product = product;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@DomainModel( annotatedClasses = StatementCacheTest.Item.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class StatementCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStatementReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				assertThat( session.find( Item.class, i ).getName(), is( "item " + i ) );
+			}
+		} );
+
+		assertThat( statistics.getPrepareStatementCount(), is( 1L ) );
+		assertThat( statistics.getPrepareStatementCacheHitCount(), is( 2L ) );
+	}
+
+	@Test
+	public void testQueryOptionsReset(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			assertThat(
+					session.createSelectionQuery( "from Item where id > :id order by id", Item.class )
+							.setParameter( "id", 0 )
+							.setFetchSize( 1 )
+							.setTimeout( 10 )
+							.getResultList()
+							.size(),
+					is( 3 )
+			);
+			assertThat(
+					session.createSelectionQuery( "from Item where id > :id order by id", Item.class )
+							.setParameter( "id", 2 )
+							.getResultList()
+							.size(),
+					is( 1 )
+			);
+		} );
+
+		assertThat( statistics.getPrepareStatementCacheHitCount(), is( 1L ) );
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Item where id = 1", Item.class ).getResultList();
+			session.createSelectionQuery( "from Item where id = 2", Item.class ).getResultList();
+			session.createSelectionQuery( "from Item where id = 3", Item.class ).getResultList();
+
+			statistics.clear();
+			// the first statement was evicted, the last one is still cached
+			session.createSelectionQuery( "from Item where id = 1", Item.class ).getResultList();
+			assertThat( statistics.getPrepareStatementCacheHitCount(), is( 0L ) );
+			session.createSelectionQuery( "from Item where id = 3", Item.class ).getResultList();
+			assertThat( statistics.getPrepareStatementCacheHitCount(), is( 1L ) );
+		} );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "items" )
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
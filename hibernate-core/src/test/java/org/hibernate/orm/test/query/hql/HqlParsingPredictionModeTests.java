@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.sqm.ParsingException;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that parsing with SLL prediction first produces the same parse
+ * trees as parsing with full LL prediction.
+ */
+public class HqlParsingPredictionModeTests {
+	private static final String[] QUERIES = {
+			"select e from Employee e",
+			"from Employee e where e.name = :name and e.salary > 1000",
+			"select e.name, count(e) from Employee e join e.department d where d.name like 'Sales%' group by e.name having count(e) > 1 order by e.name desc",
+			"select new map(e.id as id, e.name as name) from Employee e where e.id in (1, 2, 3)",
+			"select case when e.salary > 1000 then 'high' when e.salary > 500 then 'medium' else 'low' end from Employee e",
+			"select e from Employee e left join fetch e.projects p where p.start between :start and current_date",
+			"select e from Employee e where exists (select 1 from Project p where p.lead = e) and e.manager is not null",
+			"select e from Employee e where e.department.name = 'x' union select e from Employee e where e.id = 1",
+			"update Employee e set e.salary = e.salary * 1.1 where e.department.id = ?1",
+			"delete from Employee e where e.name is null",
+			"insert into Archive (id, name) select e.id, e.name from Employee e",
+			"select substring(e.name, 1, 3) || '...', trim(both ' ' from e.name) from Employee e order by 1 limit 10 offset 5",
+	};
+
+	@Test
+	public void testSameParseTrees() {
+		for ( String query : QUERIES ) {
+			assertEquals( parseLL( query ), parse( query ), query );
+		}
+	}
+
+	@Test
+	public void testInvalidQuery() {
+		assertThrows( ParsingException.class, () -> parse( "select e from Employee e where" ) );
+		assertThrows( ParsingException.class, () -> parse( "select e frm Employee e" ) );
+	}
+
+	private static String parse(String query) {
+		final HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( query );
+		return HqlParseTreeBuilder.INSTANCE.parseHql( query, ErrorListener.INSTANCE ).toStringTree( parser );
+	}
+
+	private static String parseLL(String query) {
+		final HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( query );
+		parser.getInterpreter().setPredictionMode( PredictionMode.LL );
+		parser.removeErrorListeners();
+		parser.addErrorListener( ErrorListener.INSTANCE );
+		return parser.statement().toStringTree( parser );
+	}
+
+	private static class ErrorListener extends BaseErrorListener {
+		private static final ErrorListener INSTANCE = new ErrorListener();
+
+		@Override
+		public void syntaxError(
+				Recognizer<?, ?> recognizer,
+				Object offendingSymbol,
+				int line,
+				int charPositionInLine,
+				String msg,
+				RecognitionException e) {
+			throw new ParsingException( "line " + line + ":" + charPositionInLine + " " + msg );
+		}
+	}
+}
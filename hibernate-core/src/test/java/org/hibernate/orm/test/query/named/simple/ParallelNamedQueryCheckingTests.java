@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named.simple;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@DomainModel( annotatedClasses = SimpleEntityWithNamedQueries.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, value = "4" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class ParallelNamedQueryCheckingTests {
+	@Test
+	public void testNamedQueriesPreparedAtStartup(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> {
+					session.createNamedQuery( "simple", SimpleEntityWithNamedQueries.class ).list();
+					session.createNamedQuery( "restricted", SimpleEntityWithNamedQueries.class )
+							.setParameter( "name", "a name" )
+							.list();
+				}
+		);
+
+		// both interpretations and both select plans, with their SQL, were
+		// cached while checking the named queries
+		assertThat( statistics.getQueryPlanCacheMissCount(), is( 0L ) );
+		assertThat( statistics.getQueryPlanCacheHitCount(), is( 4L ) );
+		assertThat( statistics.getQueryPlanVariantMissCount(), is( 0L ) );
+		assertThat( statistics.getQueryPlanVariantHitCount(), is( 2L ) );
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.type.NumericBooleanConverter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for values which are read from the {@link java.sql.ResultSet} as
+ * primitives, and only boxed when accessed.
+ */
+@DomainModel( annotatedClasses = PrimitiveResultTests.Measurement.class )
+@SessionFactory
+public class PrimitiveResultTests {
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Measurement( 1, 10L, 1.5d, true, false ) );
+			session.persist( new Measurement( 2, null, null, null, null ) );
+			session.persist( new Measurement( 3, 3000000000L, -2.25d, false, true ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarSelection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select id, total, score, active, flagged from Measurement order by id",
+					Object[].class
+			).list();
+			assertThat( rows ).hasSize( 3 );
+			assertThat( rows.get( 0 ) ).containsExactly( 1, 10L, 1.5d, true, false );
+			assertThat( rows.get( 1 ) ).containsExactly( 2, null, null, null, null );
+			assertThat( rows.get( 2 ) ).containsExactly( 3, 3000000000L, -2.25d, false, true );
+		} );
+	}
+
+	@Test
+	public void testSingleScalarSelection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Long> totals = session.createSelectionQuery(
+					"select total from Measurement order by id",
+					Long.class
+			).list();
+			assertThat( totals ).containsExactly( 10L, null, 3000000000L );
+
+			final List<Integer> ids = session.createSelectionQuery(
+					"select id from Measurement order by id",
+					Integer.class
+			).list();
+			assertThat( ids ).containsExactly( 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testEntitySelection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Measurement> measurements = session.createSelectionQuery(
+					"from Measurement order by id",
+					Measurement.class
+			).list();
+			assertThat( measurements ).hasSize( 3 );
+			assertThat( measurements.get( 0 ).total ).isEqualTo( 10L );
+			assertThat( measurements.get( 0 ).flagged ).isFalse();
+			assertThat( measurements.get( 1 ).score ).isNull();
+			assertThat( measurements.get( 1 ).flagged ).isNull();
+			assertThat( measurements.get( 2 ).score ).isEqualTo( -2.25d );
+			assertThat( measurements.get( 2 ).flagged ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testPrimitiveStreams(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( IntStream ids = session.createSelectionQuery( "select id from Measurement order by id", Integer.class )
+					.getResultIntStream() ) {
+				assertThat( ids.toArray() ).containsExactly( 1, 2, 3 );
+			}
+
+			try ( LongStream totals = session.createSelectionQuery(
+					"select total from Measurement where total is not null order by id",
+					Long.class
+			).getResultLongStream() ) {
+				assertThat( totals.sum() ).isEqualTo( 3000000010L );
+			}
+
+			try ( DoubleStream scores = session.createSelectionQuery(
+					"select score from Measurement where score is not null order by id",
+					Double.class
+			).getResultDoubleStream() ) {
+				assertThat( scores.toArray() ).containsExactly( 1.5d, -2.25d );
+			}
+
+			// values which are not read as primitives are converted
+			try ( DoubleStream ids = session.createSelectionQuery( "select id from Measurement order by id", Integer.class )
+					.getResultDoubleStream() ) {
+				assertThat( ids.toArray() ).containsExactly( 1d, 2d, 3d );
+			}
+			try ( LongStream counts = session.createSelectionQuery( "select count(m) from Measurement m", Long.class )
+					.getResultLongStream() ) {
+				assertThat( counts.toArray() ).containsExactly( 3L );
+			}
+		} );
+	}
+
+	@Test
+	public void testPrimitiveStreamWithNull(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( LongStream totals = session.createSelectionQuery( "select total from Measurement order by id", Long.class )
+					.getResultLongStream() ) {
+				assertThatThrownBy( totals::sum ).isInstanceOf( HibernateException.class );
+			}
+		} );
+	}
+
+	@Test
+	public void testPrimitiveStreamOfNonNumericValues(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( LongStream actives = session.createSelectionQuery(
+					"select active from Measurement where active is not null order by id",
+					Boolean.class
+			).getResultLongStream() ) {
+				assertThatThrownBy( actives::sum ).isInstanceOf( HibernateException.class );
+			}
+		} );
+	}
+
+	@Entity( name = "Measurement" )
+	@Table( name = "measurements" )
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private Long total;
+
+		private Double score;
+
+		private Boolean active;
+
+		@Convert( converter = NumericBooleanConverter.class )
+		private Boolean flagged;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Long total, Double score, Boolean active, Boolean flagged) {
+			this.id = id;
+			this.total = total;
+			this.score = score;
+			this.active = active;
+			this.flagged = flagged;
+		}
+	}
+}
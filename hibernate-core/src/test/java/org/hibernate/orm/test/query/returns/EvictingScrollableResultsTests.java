@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.returns;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.proxy.HibernateProxy;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link HibernateHints#HINT_EVICT_PROCESSED}
+ */
+@DomainModel( annotatedClasses = {
+		EvictingScrollableResultsTests.Author.class,
+		EvictingScrollableResultsTests.Book.class
+} )
+@SessionFactory
+public class EvictingScrollableResultsTests {
+	private static final int ROWS = 20;
+
+	@BeforeEach
+	public void setUpTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					for ( int i = 1; i <= ROWS; i++ ) {
+						final Author author = new Author( i, "Author " + i );
+						author.tags.add( "a" );
+						author.tags.add( "b" );
+						session.persist( author );
+						session.persist( new Book( i, "Book " + i, author ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanUpTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					for ( Author author : session.createSelectionQuery( "from Author", Author.class ).list() ) {
+						session.remove( author );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					final Author first = session.find( Author.class, 1 );
+
+					final int[] count = new int[1];
+					try ( Stream<Author> stream = session.createQuery( "from Author order by id", Author.class )
+							.setHint( HibernateHints.HINT_EVICT_PROCESSED, true )
+							.stream() ) {
+						stream.forEach(
+								(author) -> {
+									assertThat( session.contains( author ) ).isTrue();
+									// the entity which was already managed, and the current one
+									assertThat( persistenceContext.getNumberOfManagedEntities() ).isLessThanOrEqualTo( 2 );
+									count[0]++;
+								}
+						);
+					}
+
+					assertThat( count[0] ).isEqualTo( ROWS );
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1 );
+					assertThat( session.contains( first ) ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testScrollFetchingCollections(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					int count = 0;
+					try ( ScrollableResults<Author> results = session.createQuery(
+									"select distinct a from Author a join fetch a.tags order by a.id",
+									Author.class
+							)
+							.setHint( HibernateHints.HINT_EVICT_PROCESSED, true )
+							.scroll( ScrollMode.FORWARD_ONLY ) ) {
+						while ( results.next() ) {
+							final Author author = results.get();
+							assertThat( author.tags ).hasSize( 2 );
+							assertThat( session.contains( author ) ).isTrue();
+							assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1 );
+							assertThat( persistenceContext.getCollectionEntriesSize() ).isLessThanOrEqualTo( 2 );
+							count++;
+						}
+					}
+
+					assertThat( count ).isEqualTo( ROWS );
+					assertThat( persistenceContext.getNumberOfManagedEntities() ).isZero();
+					assertThat( persistenceContext.getCollectionEntriesSize() ).isZero();
+				}
+		);
+	}
+
+	@Test
+	public void testDeletedEntityNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					try ( Stream<Author> stream = session.createQuery( "from Author order by id", Author.class )
+							.setHint( HibernateHints.HINT_EVICT_PROCESSED, true )
+							.stream() ) {
+						stream.filter( (author) -> author.id % 2 == 0 ).forEach( session::remove );
+					}
+				}
+		);
+
+		scope.inTransaction(
+				(session) -> assertThat( session.createSelectionQuery( "from Author", Author.class ).list() )
+						.hasSize( ROWS / 2 )
+		);
+	}
+
+	@Test
+	public void testProxiesEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					final List<Object> authors = new ArrayList<>();
+					try ( Stream<Book> stream = session.createQuery( "from Book order by id", Book.class )
+							.setHint( HibernateHints.HINT_EVICT_PROCESSED, true )
+							.stream() ) {
+						stream.forEach(
+								(book) -> {
+									assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+									assertThat( session.contains( book.author ) ).isTrue();
+									authors.add( book.author );
+								}
+						);
+					}
+
+					assertThat( authors ).hasSize( ROWS );
+					for ( Object author : authors ) {
+						assertThat( session.contains( author ) ).isFalse();
+						final EntityKey key = session.generateEntityKey(
+								( (HibernateProxy) author ).getHibernateLazyInitializer().getInternalIdentifier(),
+								session.getFactory()
+										.getRuntimeMetamodels()
+										.getMappingMetamodel()
+										.getEntityDescriptor( Author.class )
+						);
+						assertThat( persistenceContext.getProxy( key ) ).isNull();
+						assertThat( persistenceContext.getBatchFetchQueue().containsEntityKey( key ) ).isFalse();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testManagedEntityNotEvictedByCascade(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					final Author first = session.find( Author.class, 1 );
+					try ( Stream<Book> stream = session.createQuery( "from Book order by id", Book.class )
+							.setHint( HibernateHints.HINT_EVICT_PROCESSED, true )
+							.stream() ) {
+						stream.forEach( (book) -> assertThat( session.contains( book ) ).isTrue() );
+					}
+
+					// evicting the first book would cascade to its author
+					assertThat( session.contains( first ) ).isTrue();
+				}
+		);
+	}
+
+	@Entity( name = "Author" )
+	@Table( name = "authors" )
+	@BatchSize( size = 5 )
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	@Table( name = "books" )
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne( fetch = FetchType.LAZY, cascade = CascadeType.DETACH )
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.returns;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of forward-only results which are read ahead on a background thread
+ */
+@DomainModel( annotatedClasses = BasicEntity.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.JDBC_READ_AHEAD, value = "true" ) )
+@SessionFactory
+public class ReadAheadScrollableResultsTests {
+	private static final int ROWS = 25;
+
+	@BeforeEach
+	public void setUpTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					for ( int i = 1; i <= ROWS; i++ ) {
+						session.persist( new BasicEntity( i, "value " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanUpTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> session.createQuery( "delete BasicEntity" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testStreamEntities(SessionFactoryScope scope) {
+		// block sizes which do and do not divide the number of rows
+		for ( int fetchSize : new int[] { 5, 7 } ) {
+			scope.inTransaction(
+					(session) -> {
+						try ( Stream<BasicEntity> stream = session.createQuery( "from BasicEntity order by id", BasicEntity.class )
+								.setFetchSize( fetchSize )
+								.stream() ) {
+							final List<BasicEntity> entities = stream.collect( Collectors.toList() );
+							assertThat(
+									entities.stream().map( BasicEntity::getId ).collect( Collectors.toList() ),
+									contains( IntStream.rangeClosed( 1, ROWS ).boxed().toArray( Integer[]::new ) )
+							);
+							// the entities were loaded into the persistence context of the session
+							for ( BasicEntity entity : entities ) {
+								assertThat( session.contains( entity ), is( true ) );
+							}
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testEarlyClose(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					try ( ScrollableResults<String> results = session.createQuery( "select data from BasicEntity order by id", String.class )
+							.setFetchSize( 2 )
+							.scroll( ScrollMode.FORWARD_ONLY ) ) {
+						for ( int i = 1; i <= 3; i++ ) {
+							assertThat( results.next(), is( true ) );
+							assertThat( results.get(), is( "value " + i ) );
+						}
+					}
+
+					// the connection is still usable
+					assertThat(
+							session.createQuery( "select count(*) from BasicEntity", Long.class ).getSingleResult(),
+							is( (long) ROWS )
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testForwardOnly(SessionFactoryScope scope) {
+		scope.inTransaction(
+				(session) -> {
+					try ( ScrollableResults<String> results = session.createQuery( "select data from BasicEntity order by id", String.class )
+							.scroll( ScrollMode.FORWARD_ONLY ) ) {
+						assertThat( results.next(), is( true ) );
+						assertThrows( UnsupportedOperationException.class, results::previous );
+					}
+				}
+		);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.Arrays;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.caching.internal.CompactRowData;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query results read from the query cache, where the rows are
+ * stored as {@link CompactRowData}, are the same as the results read from
+ * the database.
+ */
+@DomainModel( annotatedClasses = CompactQueryCacheRowsTest.Reading.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@SessionFactory
+public class CompactQueryCacheRowsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Reading( 1, "north", 10L, 1.5d, true ) );
+			session.persist( new Reading( 2, "south", null, null, null ) );
+			session.persist( new Reading( 3, "north", 3000000000L, -2.25d, false ) );
+			session.persist( new Reading( 4, null, 7L, 0d, true ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		final String hql = "select id, station, total, score, verified from Reading order by id";
+		final List<Object[]> uncached = scope.fromTransaction(
+				session -> session.createSelectionQuery( hql, Object[].class ).list()
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			final List<Object[]> cached = scope.fromTransaction(
+					session -> session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).list()
+			);
+			assertThat( cached ).hasSize( uncached.size() );
+			for ( int row = 0; row < cached.size(); row++ ) {
+				assertThat( cached.get( row ) ).containsExactly( uncached.get( row ) );
+			}
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Reading> readings = session.createSelectionQuery( "from Reading order by id", Reading.class )
+						.setCacheable( true )
+						.list();
+				assertThat( readings ).hasSize( 4 );
+				assertThat( readings.get( 0 ).station ).isEqualTo( "north" );
+				assertThat( readings.get( 1 ).total ).isNull();
+				assertThat( readings.get( 2 ).total ).isEqualTo( 3000000000L );
+				assertThat( readings.get( 3 ).station ).isNull();
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void testSerialization() {
+		final List<Object[]> rows = Arrays.asList(
+				new Object[] { 1, "a", 10L, 1.5d, true, new byte[] { 1 } },
+				new Object[] { 2, "b", null, null, null, null },
+				new Object[] { 3, "a", 20L, -1d, false, "mixed" }
+		);
+		final CompactRowData data = (CompactRowData) SerializationHelper.clone( CompactRowData.from( rows, 6 ) );
+		assertThat( data.getRowCount() ).isEqualTo( 3 );
+		assertThat( data.getValue( 2, 0 ) ).isEqualTo( 3 );
+		assertThat( data.getValue( 2, 1 ) ).isEqualTo( "a" );
+		assertThat( data.getValue( 1, 2 ) ).isNull();
+		assertThat( data.hasLongValue( 1, 2 ) ).isFalse();
+		assertThat( data.hasLongValue( 2, 2 ) ).isTrue();
+		assertThat( data.getLongValue( 2, 2 ) ).isEqualTo( 20L );
+		assertThat( data.hasDoubleValue( 0, 3 ) ).isTrue();
+		assertThat( data.getDoubleValue( 2, 3 ) ).isEqualTo( -1d );
+		assertThat( data.getValue( 0, 4 ) ).isEqualTo( true );
+		assertThat( data.getValue( 1, 4 ) ).isNull();
+		assertThat( data.getValue( 2, 4 ) ).isEqualTo( false );
+		assertThat( (byte[]) data.getValue( 0, 5 ) ).containsExactly( 1 );
+		assertThat( data.getValue( 2, 5 ) ).isEqualTo( "mixed" );
+	}
+
+	@Entity( name = "Reading" )
+	@Table( name = "readings" )
+	public static class Reading {
+		@Id
+		private Integer id;
+
+		private String station;
+
+		private Long total;
+
+		private Double score;
+
+		private Boolean verified;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, String station, Long total, Double score, Boolean verified) {
+			this.id = id;
+			this.station = station;
+			this.total = total;
+			this.score = score;
+			this.verified = verified;
+		}
+	}
+}
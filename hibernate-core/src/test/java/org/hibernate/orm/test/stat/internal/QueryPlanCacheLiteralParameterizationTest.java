@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@DomainModel(annotatedClasses = QueryPlanCacheLiteralParameterizationTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting( name = AvailableSettings.QUERY_PLAN_CACHE_PARAMETERIZE_LITERALS, value = "true")
+})
+@SessionFactory
+public class QueryPlanCacheLiteralParameterizationTest {
+
+	@BeforeAll
+	protected void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Employee( (long) i, "Employee: " + i, i * 1000 ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	protected void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testStringLiteralsShareInterpretation(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Query<Employee> query = session.createQuery(
+						"select e from Employee e where e.name = 'Employee: " + i + "'",
+						Employee.class
+				);
+				final List<Employee> employees = query.list();
+				assertEquals( 1, employees.size() );
+				assertEquals( "Employee: " + i, employees.get( 0 ).getName() );
+			}
+			assertEquals( 1, cache.getNumberOfCachedHqlInterpretations() );
+			assertEquals( 1, cache.getNumberOfCachedQueryPlans() );
+		} );
+	}
+
+	@Test
+	public void testInListLiteralsShareInterpretation(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		scope.inTransaction( session -> {
+			// integer literals are widened to the type of the id
+			final List<Employee> first = session.createQuery(
+					"select e from Employee e where e.id in (1, 2) order by e.id",
+					Employee.class
+			).list();
+			final List<Employee> second = session.createQuery(
+					"select e from Employee e where e.id in (4, 5) order by e.id",
+					Employee.class
+			).list();
+			assertEquals( 2, first.size() );
+			assertEquals( "Employee: 1", first.get( 0 ).getName() );
+			assertEquals( 2, second.size() );
+			assertEquals( "Employee: 5", second.get( 1 ).getName() );
+			assertEquals( 1, cache.getNumberOfCachedHqlInterpretations() );
+		} );
+	}
+
+	@Test
+	public void testExemptLiterals(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// a literal which is part of a larger expression is kept
+			final String concatenation = "select e from Employee e where e.name = 'Employee: ' || '1'";
+			final Query<Employee> first = session.createQuery( concatenation, Employee.class );
+			assertEquals( concatenation, planCacheQueryString( first ) );
+			assertEquals( 1, first.list().size() );
+
+			// a long literal can't be bound to an integer parameter
+			final String narrowing = "select e from Employee e where e.salary < 10000000000";
+			final Query<Employee> second = session.createQuery( narrowing, Employee.class );
+			assertEquals( narrowing, planCacheQueryString( second ) );
+			assertEquals( 5, second.list().size() );
+
+			final String parameterized = "select e from Employee e where e.salary < 3000";
+			final Query<Employee> third = session.createQuery( parameterized, Employee.class );
+			assertNotEquals( parameterized, planCacheQueryString( third ) );
+			// the query still reports the query string as given
+			assertEquals( parameterized, third.getQueryString() );
+			assertEquals( 2, third.list().size() );
+		} );
+	}
+
+	@Test
+	public void testNamedQueryRoundTrip(SessionFactoryScope scope) {
+		final String hql = "select e from Employee e where e.name = 'Employee: 2'";
+		scope.inTransaction( session -> {
+			final Query<Employee> query = session.createQuery( hql, Employee.class );
+			assertEquals( hql, query.getQueryString() );
+			scope.getSessionFactory().addNamedQuery( "employee_2", query );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Employee> employees = session.createNamedQuery( "employee_2", Employee.class ).list();
+			assertEquals( 1, employees.size() );
+			assertEquals( "Employee: 2", employees.get( 0 ).getName() );
+		} );
+	}
+
+	private static String planCacheQueryString(Query<?> query) {
+		return ( (QuerySqmImpl<?>) query ).getPlanCacheQueryString();
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Integer salary;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name, Integer salary) {
+			this.id = id;
+			this.name = name;
+			this.salary = salary;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getSalary() {
+			return salary;
+		}
+	}
+}
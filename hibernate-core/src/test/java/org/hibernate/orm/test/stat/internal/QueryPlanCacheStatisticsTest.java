@@ -10,11 +10,16 @@ import java.util.List;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.Table;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -41,7 +46,9 @@ import static org.junit.Assert.assertTrue;
  * @author Gail Badner
  */
 @DomainModel(annotatedClasses = {
-		QueryPlanCacheStatisticsTest.Employee.class
+		QueryPlanCacheStatisticsTest.Employee.class,
+		QueryPlanCacheStatisticsTest.Vehicle.class,
+		QueryPlanCacheStatisticsTest.Car.class
 })
 @ServiceRegistry(settings = {
 		@Setting( name = Environment.GENERATE_STATISTICS, value = "true")
@@ -344,6 +351,127 @@ public class QueryPlanCacheStatisticsTest {
 		} );
 	}
 
+	@Test
+	public void testUpdateQueryHitCount(SessionFactoryScope scope) {
+		final String UPDATE_QUERY = "update Employee e set e.name = e.name where e.name like :name";
+
+		scope.inTransaction( entityManager -> {
+			final int updated = entityManager.createMutationQuery( UPDATE_QUERY )
+					.setParameter( "name", "Employee%" )
+					.executeUpdate();
+
+			assertEquals( 5, updated );
+
+			//One miss for the HqlInterpretation and one for the non-select plan
+			assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+		} );
+
+		scope.inTransaction( entityManager -> {
+			final int updated = entityManager.createMutationQuery( UPDATE_QUERY )
+					.setParameter( "name", "Employee: 1" )
+					.executeUpdate();
+
+			assertEquals( 1, updated );
+
+			//The non-select plan is now taken from the cache as well
+			assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 2, statistics.getQueryPlanCacheHitCount() );
+		} );
+	}
+
+	@Test
+	public void testMultiTableUpdateQueryHitCount(SessionFactoryScope scope) {
+		final String UPDATE_QUERY = "update Car c set c.model = c.model where c.name like :name";
+
+		scope.inTransaction( entityManager -> {
+			entityManager.persist( new Car( "Car 1", "Model 1" ) );
+			entityManager.persist( new Car( "Car 2", "Model 2" ) );
+		} );
+		statistics.clear();
+
+		scope.inTransaction( entityManager -> {
+			final int updated = entityManager.createMutationQuery( UPDATE_QUERY )
+					.setParameter( "name", "Car%" )
+					.executeUpdate();
+
+			assertEquals( 2, updated );
+
+			//One miss for the HqlInterpretation and one for the non-select plan
+			assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 0, statistics.getQueryPlanCacheHitCount() );
+		} );
+
+		scope.inTransaction( entityManager -> {
+			final int updated = entityManager.createMutationQuery( UPDATE_QUERY )
+					.setParameter( "name", "Car 1" )
+					.executeUpdate();
+
+			//The plan and its handler are reused, with the new parameter value
+			assertEquals( 1, updated );
+
+			assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 2, statistics.getQueryPlanCacheHitCount() );
+		} );
+
+		scope.inTransaction( entityManager -> {
+			entityManager.createMutationQuery( "delete from Car" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPaginationVariantHitCount(SessionFactoryScope scope) {
+		final String QUERY = "select e from Employee e";
+
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < 2; i++ ) {
+				assertEquals( 5, entityManager.createQuery( QUERY, Employee.class ).getResultList().size() );
+				assertEquals(
+						2,
+						entityManager.createQuery( QUERY, Employee.class ).setMaxResults( 2 ).getResultList().size()
+				);
+			}
+
+			//Both the unpaginated and the paginated variant are translated once and then reused
+			assertEquals( 2, statistics.getQueryPlanVariantMissCount() );
+			assertEquals( 2, statistics.getQueryPlanVariantHitCount() );
+		} );
+	}
+
+	@Test
+	public void testCriteriaQueryHitCount(SessionFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+				final CriteriaQuery<Employee> criteria = cb.createQuery( Employee.class );
+				final Root<Employee> root = criteria.from( Employee.class );
+				criteria.where( cb.equal( root.get( "name" ), "Employee: " + i ) );
+
+				final List<Employee> employees = entityManager.createQuery( criteria ).getResultList();
+				assertEquals( 1, employees.size() );
+				assertEquals( "Employee: " + i, employees.get( 0 ).getName() );
+			}
+
+			//Separately built criteria queries of the same shape share a single plan
+			assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 2, statistics.getQueryPlanCacheHitCount() );
+
+			final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Employee> criteria = cb.createQuery( Employee.class );
+			final Root<Employee> root = criteria.from( Employee.class );
+			criteria.where( cb.like( root.get( "name" ), cb.parameter( String.class, "pattern" ) ) );
+
+			assertEquals(
+					5,
+					entityManager.createQuery( criteria ).setParameter( "pattern", "Employee%" ).getResultList().size()
+			);
+
+			//A different shape needs a plan of its own
+			assertEquals( 2, statistics.getQueryPlanCacheMissCount() );
+			assertEquals( 2, statistics.getQueryPlanCacheHitCount() );
+		} );
+	}
+
 	private void assertQueryStatistics(String hql, int hitCount) {
 		QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
 
@@ -384,4 +512,37 @@ public class QueryPlanCacheStatisticsTest {
 		}
 	}
 
+	@Entity(name = "Vehicle")
+	@Table(name = "vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+
+		@Id
+		@GeneratedValue
+		private Long id;
+
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	@Table(name = "car")
+	public static class Car extends Vehicle {
+
+		private String model;
+
+		public Car() {
+		}
+
+		public Car(String name, String model) {
+			super( name );
+			this.model = model;
+		}
+	}
 }
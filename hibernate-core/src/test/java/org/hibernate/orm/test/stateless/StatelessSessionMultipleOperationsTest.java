@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the operations of a stateless session on multiple entities
+ */
+@DomainModel( annotatedClasses = StatelessSessionMultipleOperationsTest.Measurement.class )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+public class StatelessSessionMultipleOperationsTest {
+	private static final int COUNT = 20;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		final List<Measurement> measurements = new ArrayList<>();
+		for ( int i = 0; i < COUNT; i++ ) {
+			measurements.add( new Measurement( i, i * 1.5d ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( measurements ) );
+		// a single batch, even though batching is not configured
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Measurement> loaded = session.getMultiple( Measurement.class, Arrays.asList( 3, 100, 1 ) );
+			assertThat( loaded ).hasSize( 3 );
+			assertThat( loaded.get( 0 ).reading ).isEqualTo( 4.5d );
+			assertThat( loaded.get( 1 ) ).isNull();
+			assertThat( loaded.get( 2 ).reading ).isEqualTo( 1.5d );
+		} );
+
+		for ( Measurement measurement : measurements ) {
+			measurement.reading = -measurement.reading;
+		}
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( measurements ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( measurements.get( 0 ).version ).isEqualTo( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Measurement> loaded = session.getMultiple( Measurement.class, Arrays.asList( 2, 7 ) );
+			assertThat( loaded.get( 0 ).reading ).isEqualTo( -3d );
+			assertThat( loaded.get( 1 ).reading ).isEqualTo( -10.5d );
+		} );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( measurements.subList( 0, 10 ) ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Measurement", Long.class ).getSingleResult()
+		).isEqualTo( 10L ) );
+	}
+
+	@Test
+	public void testBulkBatchSizeCapped(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		final List<Measurement> measurements = new ArrayList<>();
+		for ( int i = 0; i < 120; i++ ) {
+			measurements.add( new Measurement( i, i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( measurements ) );
+		// batches of 50, 50 and 20 statements
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Measurement", Long.class ).getSingleResult()
+		).isEqualTo( 120L ) );
+	}
+
+	@Entity( name = "Measurement" )
+	@Table( name = "measurements" )
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private double reading;
+
+		@Version
+		private int version;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.upsert;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.NonUniqueObjectException;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of {@link org.hibernate.Session#upsert} and
+ * {@link org.hibernate.StatelessSession#upsert}
+ */
+@DomainModel( annotatedClasses = {
+		UpsertTest.Account.class,
+		UpsertTest.Document.class,
+		UpsertTest.Ledger.class,
+		UpsertTest.Transfer.class
+} )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5" ) )
+@SessionFactory( statementInspectorClass = SQLStatementInspector.class )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsUpsert.class )
+public class UpsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Transfer" ).executeUpdate();
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+			session.createMutationQuery( "delete from Document" ).executeUpdate();
+			session.createMutationQuery( "delete from Ledger" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStatelessUpsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		final Account account = new Account( 1, "alice", 100L );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+		// no select before the write
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		account.balance = 250L;
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inTransaction( session -> {
+			final Account loaded = session.find( Account.class, 1 );
+			assertThat( loaded.owner ).isEqualTo( "alice" );
+			assertThat( loaded.balance ).isEqualTo( 250L );
+		} );
+	}
+
+	@Test
+	public void testNonUpdatableColumnNotUpdated(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.upsert( new Document( 1, "alice", "draft" ) ) );
+		scope.inStatelessTransaction( session -> session.upsert( new Document( 1, "bob", "final" ) ) );
+
+		scope.inTransaction( session -> {
+			final Document loaded = session.find( Document.class, 1 );
+			assertThat( loaded.createdBy ).isEqualTo( "alice" );
+			assertThat( loaded.text ).isEqualTo( "final" );
+		} );
+	}
+
+	@Test
+	@SkipForDialect( dialectClass = MySQLDialect.class, matchSubTypes = true, reason = "on duplicate key update has no condition" )
+	public void testStatelessVersionedUpsert(SessionFactoryScope scope) {
+		final Ledger ledger = new Ledger( 1, 100L );
+		scope.inStatelessTransaction( session -> session.upsert( ledger ) );
+		final Integer seed = ledger.version;
+		assertThat( seed ).isNotNull();
+
+		final Ledger stale = new Ledger( 1, 0L );
+		stale.version = seed;
+
+		ledger.total = 50L;
+		scope.inStatelessTransaction( session -> session.upsert( ledger ) );
+		assertThat( ledger.version ).isNotEqualTo( seed );
+
+		// the row was updated since the stale copy was read
+		scope.inStatelessSession( session -> {
+			session.getTransaction().begin();
+			try {
+				assertThrows( StaleObjectStateException.class, () -> session.upsert( stale ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final Ledger loaded = session.find( Ledger.class, 1 );
+			assertThat( loaded.total ).isEqualTo( 50L );
+			assertThat( loaded.version ).isEqualTo( ledger.version );
+		} );
+	}
+
+	@Test
+	@SkipForDialect( dialectClass = MySQLDialect.class, matchSubTypes = true, reason = "on duplicate key update has no condition" )
+	public void testSessionVersionedUpsert(SessionFactoryScope scope) {
+		final Ledger ledger = new Ledger( 1, 100L );
+		scope.inTransaction( session -> session.persist( ledger ) );
+
+		final Ledger stale = new Ledger( 1, 0L );
+		stale.version = ledger.version;
+		ledger.total = 50L;
+		scope.inTransaction( session -> session.upsert( ledger ) );
+
+		// the version of the row is checked when the session is flushed
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				session.upsert( stale );
+				assertThrows( OptimisticLockException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Ledger.class, 1 ).total ).isEqualTo( 50L ) );
+	}
+
+	@Test
+	public void testSessionUpsertFlushedAfterInsertions(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Account account = new Account( 1, "alice", 100L );
+			session.persist( account );
+			// refers to the row of the account, which is not yet inserted
+			session.upsert( new Transfer( 1, account, 10L ) );
+			// the pending upsert is flushed before the query
+			assertThat(
+					session.createSelectionQuery( "select count(*) from Transfer", Long.class ).getSingleResult()
+			).isEqualTo( 1L );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Transfer.class, 1 ).account.id ).isEqualTo( 1 ) );
+	}
+
+	@Test
+	public void testBatchedUpsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = (SQLStatementInspector) scope.getStatementInspector();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 6; i++ ) {
+				session.persist( new Account( i, "owner " + i, 0L ) );
+			}
+		} );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.upsert( new Account( i, "owner " + i, 10L ) );
+			}
+		} );
+		// batches of 5, 5 and 2 statements
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select sum(balance) from Account", Long.class ).getSingleResult()
+		).isEqualTo( 120L ) );
+	}
+
+	@Test
+	public void testSessionUpsert(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Account( 1, "alice", 100L ) ) );
+
+		scope.inTransaction( session -> {
+			final Account bob = new Account( 1, "bob", 5L );
+			session.upsert( bob );
+			session.upsert( new Account( 2, "carol", 7L ) );
+			// the instance is not associated with the session
+			assertThat( session.contains( bob ) ).isFalse();
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Account.class, 1 ).owner ).isEqualTo( "bob" );
+			assertThat( session.find( Account.class, 2 ).balance ).isEqualTo( 7L );
+			assertThrows( NonUniqueObjectException.class, () -> session.upsert( new Account( 1, "dave", 0L ) ) );
+		} );
+	}
+
+	@Entity( name = "Account" )
+	@Table( name = "accounts" )
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private String owner;
+
+		private Long balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String owner, Long balance) {
+			this.id = id;
+			this.owner = owner;
+			this.balance = balance;
+		}
+	}
+
+	@Entity( name = "Document" )
+	@Table( name = "documents" )
+	public static class Document {
+		@Id
+		private Integer id;
+
+		@Column( updatable = false )
+		private String createdBy;
+
+		private String text;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String createdBy, String text) {
+			this.id = id;
+			this.createdBy = createdBy;
+			this.text = text;
+		}
+	}
+
+	@Entity( name = "Ledger" )
+	@Table( name = "ledgers" )
+	public static class Ledger {
+		@Id
+		private Integer id;
+
+		private Long total;
+
+		@Version
+		private Integer version;
+
+		public Ledger() {
+		}
+
+		public Ledger(Integer id, Long total) {
+			this.id = id;
+			this.total = total;
+		}
+	}
+
+	@Entity( name = "Transfer" )
+	@Table( name = "transfers" )
+	public static class Transfer {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Account account;
+
+		private Long amount;
+
+		public Transfer() {
+		}
+
+		public Transfer(Integer id, Account account, Long amount) {
+			this.id = id;
+			this.account = account;
+			this.amount = amount;
+		}
+	}
+}
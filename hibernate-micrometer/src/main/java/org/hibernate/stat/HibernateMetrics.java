@@ -147,6 +147,9 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements", "The number of prepared statements that were reused from the statement cache",
+				Statistics::getPrepareStatementCacheHitCount, "status", "reused"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -318,12 +318,24 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsStandardArrays implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsStandardArrays();
+		}
+	}
+
 	public static class SupportsValuesListForInsert implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect.supportsValuesListForInsert();
 		}
 	}
 
+	public static class SupportsUpsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsUpsert();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {